@@ -0,0 +1,88 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+
+// 벤치마크 공용 도우미: 워밍업 후 반복 실행하여 1회당 평균 시간(ms), 처리량(ops/s), 할당량(bytes)을 측정
+public class Bench {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // JIT이 결과를 버리지 못하도록 누적해 두는 값
+    private static volatile int sink;
+
+    public interface Task {
+        Object run();
+    }
+
+    // 측정 결과 (1회 실행 기준)
+    public static class Result {
+        public final double millisPerOp;
+        public final double bytesPerOp;
+
+        Result(double millisPerOp, double bytesPerOp) {
+            this.millisPerOp = millisPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        public double opsPerSecond() {
+            return 1000.0 / millisPerOp;
+        }
+
+        // 할당률 (MB/s)
+        public double allocationRate() {
+            return bytesPerOp * opsPerSecond() / (1024.0 * 1024.0);
+        }
+    }
+
+    // 정해진 횟수만큼 워밍업/측정
+    public static Result measure(int warmup, int iterations, Task task) {
+        for (int i = 0; i < warmup; i++) {
+            consume(task.run());
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            consume(task.run());
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Result(elapsed / 1e6 / iterations, (double) bytes / iterations);
+    }
+
+    // 정해진 시간(ms) 동안 워밍업/측정. 크기에 따라 실행 시간이 크게 다른 작업에 사용 (최소 1회 측정)
+    public static Result measureFor(long warmupMillis, long measureMillis, Task task) {
+        long warmupEnd = System.nanoTime() + warmupMillis * 1_000_000L;
+        do {
+            consume(task.run());
+        } while (System.nanoTime() < warmupEnd);
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREADS.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long end = start + measureMillis * 1_000_000L;
+        int iterations = 0;
+        long now;
+        do {
+            consume(task.run());
+            iterations++;
+            now = System.nanoTime();
+        } while (now < end);
+        long bytes = THREADS.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Result((now - start) / 1e6 / iterations, (double) bytes / iterations);
+    }
+
+    public static void print(String name, Result result) {
+        System.out.printf("%-40s %12.4f ms/op %14.0f B/op%n", name, result.millisPerOp, result.bytesPerOp);
+    }
+
+    // 처리량과 할당률까지 포함한 한 줄 요약 (실행 간 비교가 쉽도록 고정 열 형식)
+    public static void report(String name, Result result) {
+        System.out.printf("%-44s %14.2f ops/s %12.4f ms/op %14.0f B/op %10.1f MB/s%n",
+                name, result.opsPerSecond(), result.millisPerOp, result.bytesPerOp, result.allocationRate());
+    }
+
+    private static void consume(Object value) {
+        sink += System.identityHashCode(value);
+    }
+}
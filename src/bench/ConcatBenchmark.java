@@ -0,0 +1,37 @@
+package bench;
+
+import tensor.*;
+
+// 수백 개 블록으로 첨가 행렬을 만드는 시간·할당량 측정
+// 기준선은 두 개씩 합칠 때마다 결과를 복사본으로 만드는 즉시(eager) 방식 (누적 복사가 블록 수의 제곱에 비례)
+public class ConcatBenchmark {
+
+    public static void main(String[] args) {
+        int blocks = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int rows = 8;
+        int cols = 64;
+        for (StorageType type : new StorageType[]{StorageType.DOUBLE, StorageType.BIG_DECIMAL}) {
+            Matrix[] parts = new Matrix[blocks];
+            for (int k = 0; k < blocks; k++) {
+                parts[k] = Factory.buildRandomMatrix(rows, cols, -1.0, 1.0, k, type);
+            }
+            String label = type + " " + blocks + " x (" + rows + "x" + cols + ")";
+
+            Bench.report("eager pairwise vstack " + label, Bench.measure(1, 3, () -> {
+                Matrix acc = parts[0].clone();
+                for (int k = 1; k < blocks; k++) {
+                    acc = ((MatrixView) acc.vstack(parts[k])).materialize();
+                }
+                return acc;
+            }));
+            Bench.report("lazy pairwise vstack + materialize " + label, Bench.measure(1, 3, () -> {
+                Matrix acc = parts[0];
+                for (int k = 1; k < blocks; k++) {
+                    acc = acc.vstack(parts[k]);
+                }
+                return ((MatrixView) acc).materialize();
+            }));
+            Bench.report("concat + materialize " + label, Bench.measure(1, 3, () -> ((MatrixView) Tensors.concat(0, parts)).materialize()));
+        }
+    }
+}
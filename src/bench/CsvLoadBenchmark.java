@@ -0,0 +1,80 @@
+package bench;
+
+import tensor.*;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Random;
+
+// 대용량 CSV 로딩 처리량: 지정한 크기의 CSV 파일을 만들어 밀집 저장소 스트리밍 로더의 rows/sec, MB/s를 출력
+// 사용법: java -cp out bench.CsvLoadBenchmark [파일 크기(MB), 기본 256] [열 수, 기본 16] [CSV 파일 경로]
+//   파일 경로를 주면 새로 만들지 않고 그 파일을 읽는다 (수 GB 파일 측정용)
+//   -Dbench.compareLegacyMaxMB=16 : 이 크기 이하이면 기존 BigDecimal 로더(Factory.buildMatrix)도 함께 측정
+public class CsvLoadBenchmark {
+    private static final long COMPARE_LEGACY_MAX_MB = Long.getLong("bench.compareLegacyMaxMB", 16);
+
+    public static void main(String[] args) throws IOException {
+        long targetMB = args.length > 0 ? Long.parseLong(args[0]) : 256;
+        int cols = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+
+        File file;
+        if (args.length > 2) {
+            file = new File(args[2]);
+        } else {
+            file = File.createTempFile("tensor-csv-bench", ".csv");
+            file.deleteOnExit();
+            writeCsv(file, targetMB * 1024 * 1024, cols);
+        }
+        String path = file.getPath();
+        double megabytes = file.length() / (1024.0 * 1024.0);
+
+        Matrix first = Factory.buildDenseMatrix(path); // 워밍업 겸 행 수 확인
+        int rows = first.getSize()[0];
+        System.out.printf("csv %s: %.1f MB, %d x %d%n", path, megabytes, rows, first.getSize()[1]);
+        first = null;
+
+        int iterations = megabytes > 1024 ? 1 : 3;
+        report("dense (streaming)", Bench.measure(1, iterations, () -> Factory.buildDenseMatrix(path)), rows, megabytes);
+        if (megabytes <= COMPARE_LEGACY_MAX_MB) {
+            report("bigdecimal (legacy)", Bench.measure(1, iterations, () -> Factory.buildMatrix(path)), rows, megabytes);
+        }
+    }
+
+    private static void report(String name, Bench.Result result, int rows, double megabytes) {
+        double seconds = result.millisPerOp / 1000.0;
+        System.out.printf("%-20s %10.1f ms/load %12.0f rows/s %8.1f MB/s %12.1f MB alloc/load%n",
+                name, result.millisPerOp, rows / seconds, megabytes / seconds, result.bytesPerOp / (1024.0 * 1024.0));
+    }
+
+    // 정수, 고정 소수점, 지수 표기를 섞은 숫자 CSV를 targetBytes 이상이 될 때까지 작성
+    private static void writeCsv(File file, long targetBytes, int cols) throws IOException {
+        Random random = new Random(42L);
+        long written = 0;
+        try (BufferedWriter out = new BufferedWriter(new FileWriter(file), 1 << 16)) {
+            StringBuilder line = new StringBuilder();
+            while (written < targetBytes) {
+                line.setLength(0);
+                for (int j = 0; j < cols; j++) {
+                    if (j > 0) line.append(',');
+                    switch (j % 3) {
+                        case 0:
+                            line.append(random.nextInt(2001) - 1000);
+                            break;
+                        case 1:
+                            line.append(BigDecimal.valueOf(random.nextLong() % 100_000_000L, 6));
+                            break;
+                        default:
+                            line.append(BigDecimal.valueOf(random.nextInt(90_000) + 10_000, 4)).append("e-").append(random.nextInt(20));
+                            break;
+                    }
+                }
+                line.append('\n');
+                out.append(line);
+                written += line.length();
+            }
+        }
+    }
+}
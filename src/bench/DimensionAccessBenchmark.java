@@ -0,0 +1,53 @@
+package bench;
+
+import tensor.*;
+
+// 행렬 크기 조회 방식별 할당량 비교: getSize()는 호출마다 int[2]를 할당하고 rowCount()/colCount()는 할당하지 않음
+// viewElement/setElement/multiplyRow/addScaledRow/rref의 1회당 할당량에는 더 이상 크기 배열이 포함되지 않는다.
+public class DimensionAccessBenchmark {
+    private static final int CALLS = 1_000_000;
+
+    public static void main(String[] args) {
+        ResultCache.setCapacity(0); // 같은 입력을 반복하므로 캐시 적중이 아니라 실제 계산 시간을 측정
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        Matrix m = Factory.buildRandomMatrix(n, n, -1.0, 1.0, 1L);
+        Matrix[] holder = {m}; // JIT이 크기 조회를 루프 밖으로 빼지 못하도록 배열을 거쳐 읽음
+
+        Bench.print("getSize() x" + CALLS, Bench.measure(3, 10, () -> {
+            long sum = 0;
+            for (int k = 0; k < CALLS; k++) {
+                int[] size = holder[k & 0].getSize();
+                sum += size[0] + size[1];
+            }
+            return sum;
+        }));
+        Bench.print("rowCount()/colCount() x" + CALLS, Bench.measure(3, 10, () -> {
+            long sum = 0;
+            for (int k = 0; k < CALLS; k++) {
+                Matrix current = holder[k & 0];
+                sum += current.rowCount() + current.colCount();
+            }
+            return sum;
+        }));
+
+        Bench.print("viewElement scan " + n + "x" + n, Bench.measure(2, 5, () -> {
+            long sum = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    sum += m.viewElement(i, j).getValue().signum();
+                }
+            }
+            return sum;
+        }));
+        Scalar k = Factory.buildScalar("0.5");
+        Scalar minusK = Factory.buildScalar("-0.5");
+        Bench.print("addScaledRow n=" + n, Bench.measure(100, 1000, () -> {
+            m.addScaledRow(0, 1, k);
+            m.addScaledRow(0, 1, minusK);
+            return m;
+        }));
+
+        Matrix small = Factory.buildRandomMatrix(100, 100, -1.0, 1.0, 2L);
+        Bench.print("rref 100x100", Bench.measure(1, 3, small::rref));
+    }
+}
@@ -0,0 +1,36 @@
+package bench;
+
+import tensor.*;
+
+import java.util.Random;
+
+// BigDecimal 저장소의 rref()/inverse() 시간과 결과 요소의 평균 자릿수 (Tensors.averageDigits)
+// 소거 중 자릿수가 제한되므로 평균 자릿수는 크기와 무관하게 일정하고, 시간은 O(n^3)으로만 늘어야 한다.
+// 사용법: java -cp out bench.EliminationDigitsBenchmark [크기 목록, 기본 8,16,32,64]
+public class EliminationDigitsBenchmark {
+
+    public static void main(String[] args) {
+        ResultCache.setCapacity(0); // 같은 입력을 반복하므로 캐시 적중이 아니라 실제 계산 시간을 측정
+        String sizeList = args.length > 0 ? args[0] : "8,16,32,64";
+        for (String part : sizeList.split(",")) {
+            int n = Integer.parseInt(part.trim());
+            Matrix m = Factory.buildMatrix(randomArray(n, 42L + n));
+            System.out.printf("%dx%d: rref avg digits %.1f, inverse avg digits %.1f%n",
+                    n, n, Tensors.averageDigits(m.rref()), Tensors.averageDigits(m.inverse()));
+            Bench.report("rref bigdecimal " + n + "x" + n, Bench.measureFor(300, 1000, m::rref));
+            Bench.report("inverse bigdecimal " + n + "x" + n, Bench.measureFor(300, 1000, m::inverse));
+        }
+    }
+
+    // 소수점 3자리 값 (-1 ~ 1)
+    private static double[][] randomArray(int n, long seed) {
+        Random random = new Random(seed);
+        double[][] values = new double[n][n];
+        for (double[] row : values) {
+            for (int j = 0; j < n; j++) {
+                row[j] = (random.nextInt(2001) - 1000) / 1000.0;
+            }
+        }
+        return values;
+    }
+}
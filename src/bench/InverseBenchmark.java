@@ -0,0 +1,55 @@
+package bench;
+
+import tensor.*;
+
+// inverse() 비교: 기존 수반 행렬(여인수 전개) 방식 vs [A | I] 가우스-조던 방식 (n = 6, 8, 10)
+public class InverseBenchmark {
+
+    public static void main(String[] args) {
+        ResultCache.setCapacity(0); // 같은 입력을 반복하므로 캐시 적중이 아니라 실제 계산 시간을 측정
+        int[] sizes = {6, 8, 10};
+        for (int n : sizes) {
+            Matrix m = Factory.buildMatrix(n, n, -1.0, 1.0);
+            int iterations = n >= 10 ? 1 : 5;
+            Bench.print("legacy adjugate inverse n=" + n, Bench.measure(1, iterations, () -> legacyInverse(m)));
+            Bench.print("gauss-jordan inverse n=" + n, Bench.measure(3, 20, m::inverse));
+        }
+    }
+
+    // 기존 구현: det(A)와 n^2개의 소행렬식으로 수반 행렬을 만든 뒤 1/det을 곱함
+    static Matrix legacyInverse(Matrix m) {
+        int n = m.getSize()[0];
+        Scalar det = legacyDeterminant(m);
+        Scalar oneOverDet = Factory.buildScalar(java.math.BigDecimal.ONE.divide(det.getValue(), 20, java.math.RoundingMode.HALF_UP));
+        Scalar[][] adjData = new Scalar[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                Scalar cofactor = legacyDeterminant(m.minor(i, j));
+                if ((i + j) % 2 != 0) {
+                    cofactor.multiply(Factory.buildScalar("-1"));
+                }
+                cofactor.multiply(oneOverDet);
+                adjData[j][i] = cofactor;
+            }
+        }
+        return Factory.buildMatrix(adjData);
+    }
+
+    // 기존 구현: 첫 행을 따라 재귀적으로 여인수 전개, O(n!)
+    static Scalar legacyDeterminant(Matrix m) {
+        int n = m.getSize()[0];
+        if (n == 1) {
+            return m.viewElement(0, 0);
+        }
+        Scalar det = Factory.buildScalar("0");
+        Scalar sign = Factory.buildScalar("1");
+        for (int j = 0; j < n; j++) {
+            Scalar cofactorElement = m.viewElement(0, j);
+            cofactorElement.multiply(legacyDeterminant(m.minor(0, j)));
+            cofactorElement.multiply(sign);
+            det.add(cofactorElement);
+            sign.multiply(Factory.buildScalar("-1"));
+        }
+        return det;
+    }
+}
@@ -0,0 +1,62 @@
+package bench;
+
+import tensor.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+
+// 같은 행렬을 CSV와 바이너리 행렬 파일로 저장한 뒤 로딩 시간을 비교
+//   csv.load       : CSV를 밀집 저장소로 파싱 (Factory.buildDenseMatrix(String))
+//   binary.open    : 메모리 매핑으로 열기만 함 (Factory.buildMappedMatrix)
+//   binary.load    : 매핑 후 힙의 밀집 행렬로 일괄 복사
+// 사용법: java -cp out bench.MatrixFileBenchmark [크기 목록, 기본 256,1024,2048]
+public class MatrixFileBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        String sizeList = args.length > 0 ? args[0] : "256,1024,2048";
+        for (String part : sizeList.split(",")) {
+            int n = Integer.parseInt(part.trim());
+            Matrix m = randomDense(n, 42L + n);
+
+            File csv = File.createTempFile("tensor-file-bench", ".csv");
+            File binary = File.createTempFile("tensor-file-bench", ".bin");
+            csv.deleteOnExit();
+            binary.deleteOnExit();
+            writeCsv(m, n, csv);
+            Factory.writeMatrixFile(m, binary.getPath());
+
+            String csvPath = csv.getPath();
+            String binaryPath = binary.getPath();
+            System.out.printf("%dx%d: csv %.1f MB, binary %.1f MB%n", n, n, csv.length() / 1048576.0, binary.length() / 1048576.0);
+            Bench.report("csv.load " + n + "x" + n, Bench.measureFor(500, 2000, () -> Factory.buildDenseMatrix(csvPath)));
+            Bench.report("binary.open " + n + "x" + n, Bench.measureFor(500, 2000, () -> Factory.buildMappedMatrix(binaryPath)));
+            Bench.report("binary.load " + n + "x" + n, Bench.measureFor(500, 2000, () -> Factory.buildDenseMatrix(Factory.buildMappedMatrix(binaryPath))));
+        }
+    }
+
+    private static void writeCsv(Matrix m, int n, File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file)) {
+            for (int i = 0; i < n; i++) {
+                StringBuilder line = new StringBuilder();
+                for (int j = 0; j < n; j++) {
+                    if (j > 0) line.append(',');
+                    line.append(m.viewElement(i, j).getValue().doubleValue());
+                }
+                out.println(line);
+            }
+        }
+    }
+
+    private static Matrix randomDense(int n, long seed) {
+        Random random = new Random(seed);
+        double[][] values = new double[n][n];
+        for (double[] row : values) {
+            for (int j = 0; j < n; j++) {
+                row[j] = random.nextDouble() * 2 - 1;
+            }
+        }
+        return Factory.buildDenseMatrix(values);
+    }
+}
@@ -0,0 +1,55 @@
+package bench;
+
+import tensor.*;
+
+import java.util.Random;
+
+// 밀집 행렬 곱셈의 병렬화 속도 향상 곡선: 크기별로 순차 실행 대비 스레드 수(1, 2, 4, ...)에 따른 speedup 출력
+// 사용법: java -cp out bench.MultiplyBenchmark [크기 목록, 기본 256,512,1024,2048] [최대 스레드 수, 기본 코어 수]
+public class MultiplyBenchmark {
+
+    public static void main(String[] args) {
+        String sizeList = args.length > 0 ? args[0] : "256,512,1024,2048";
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Tensors.setParallelThreshold(1);
+
+        for (String part : sizeList.split(",")) {
+            int n = Integer.parseInt(part.trim());
+            Matrix a = randomDense(n, 1L);
+            Matrix b = randomDense(n, 2L);
+            long measureMillis = Math.max(1000, n / 2);
+
+            Tensors.setParallel(false);
+            Bench.Result sequential = Bench.measureFor(measureMillis / 2, measureMillis, () -> Tensors.multiply(a, b));
+            report(n, "sequential", sequential, sequential);
+
+            Tensors.setParallel(true);
+            for (int threads = 1; threads <= maxThreads; threads = nextThreadCount(threads, maxThreads)) {
+                Tensors.setParallelism(threads);
+                Bench.Result result = Bench.measureFor(measureMillis / 2, measureMillis, () -> Tensors.multiply(a, b));
+                report(n, "parallel x" + threads, result, sequential);
+            }
+        }
+    }
+
+    private static int nextThreadCount(int threads, int maxThreads) {
+        return (threads < maxThreads && threads * 2 > maxThreads) ? maxThreads : threads * 2;
+    }
+
+    private static void report(int n, String mode, Bench.Result result, Bench.Result sequential) {
+        double gflops = 2.0 * n * n * n / (result.millisPerOp * 1e6);
+        System.out.printf("multiply %4dx%-4d %-14s %10.2f ms/op %8.2f GFLOP/s  speedup %5.2fx%n",
+                n, n, mode, result.millisPerOp, gflops, sequential.millisPerOp / result.millisPerOp);
+    }
+
+    private static Matrix randomDense(int n, long seed) {
+        Random random = new Random(seed);
+        double[][] values = new double[n][n];
+        for (double[] row : values) {
+            for (int j = 0; j < n; j++) {
+                row[j] = random.nextDouble() * 2 - 1;
+            }
+        }
+        return Factory.buildDenseMatrix(values);
+    }
+}
@@ -0,0 +1,43 @@
+package bench;
+
+import tensor.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 난수 행렬 생성 시간·할당량 측정 (기본 1000x1000)
+// 기준선은 요소마다 Math.random()과 setScale을 거치는 난수 스칼라(Factory.buildScalar(ii, jj))로 행을 채우는 경로
+public class RandomMatrixBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = 42L;
+
+        Bench.report("Math.random scalars " + n + "x" + n, Bench.measure(1, 3, () -> {
+            List<Vector> rows = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Scalar[] row = new Scalar[n];
+                for (int j = 0; j < n; j++) {
+                    row[j] = Factory.buildScalar(-1.0, 1.0);
+                }
+                rows.add(Factory.buildVector(row));
+            }
+            return rows;
+        }));
+        for (boolean parallel : new boolean[]{false, true}) {
+            Tensors.setParallel(parallel);
+            String mode = parallel ? " parallel" : " serial";
+            Bench.report("seeded bigdecimal " + n + "x" + n + mode,
+                    Bench.measure(1, 3, () -> Factory.buildRandomMatrix(n, n, -1.0, 1.0, seed, StorageType.BIG_DECIMAL)));
+            Bench.report("seeded double " + n + "x" + n + mode,
+                    Bench.measure(3, 10, () -> Factory.buildRandomMatrix(n, n, -1.0, 1.0, seed, StorageType.DOUBLE)));
+        }
+
+        // 같은 시드는 병렬 여부와 무관하게 같은 행렬
+        Tensors.setParallel(false);
+        Matrix serial = Factory.buildRandomMatrix(n, n, -1.0, 1.0, seed, StorageType.DOUBLE);
+        Tensors.setParallel(true);
+        Matrix parallel = Factory.buildRandomMatrix(n, n, -1.0, 1.0, seed, StorageType.DOUBLE);
+        System.out.println("reproducible: " + serial.equals(parallel));
+    }
+}
@@ -0,0 +1,32 @@
+package bench;
+
+import tensor.*;
+
+// 같은 행렬에 rref/inverse/determinant를 반복 호출하는 시간·할당량 측정 (ResultCache 사용 안 함 / 사용)
+// 지문 비용은 hashCode()와 비교: MatrixImpl은 처음 한 번 계산한 뒤 행 연산마다 갱신하므로 이후 조회는 O(1)
+public class ResultCacheBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        for (StorageType type : new StorageType[]{StorageType.BIG_DECIMAL, StorageType.RATIONAL, StorageType.DOUBLE}) {
+            Matrix m = Factory.buildRandomMatrix(n, n, -9, 9, 1L, type);
+            String label = type + " " + n + "x" + n;
+
+            ResultCache.setCapacity(0);
+            Bench.report("rref uncached " + label, Bench.measure(1, 5, m::rref));
+            Bench.report("inverse uncached " + label, Bench.measure(1, 5, m::inverse));
+            Bench.report("determinant uncached " + label, Bench.measure(1, 5, m::determinant));
+
+            ResultCache.setCapacity(1L << 18);
+            ResultCache.clear();
+            Bench.report("rref cached " + label, Bench.measure(5, 50, m::rref));
+            Bench.report("inverse cached " + label, Bench.measure(5, 50, m::inverse));
+            Bench.report("determinant cached " + label, Bench.measure(5, 50, m::determinant));
+            System.out.println("  hits=" + ResultCache.getHitCount() + " misses=" + ResultCache.getMissCount()
+                    + " evictions=" + ResultCache.getEvictionCount() + " weight=" + ResultCache.getWeight());
+
+            Bench.report("hashCode " + label, Bench.measure(2, 20, m::hashCode));
+            Bench.report("fingerprint " + label, Bench.measure(2, 20, m::fingerprint));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package bench;
+
+import tensor.*;
+
+// 기본 행/열 연산과 rref()의 1회당 시간·할당량 측정 (BigDecimal 저장소)
+public class RowOperationBenchmark {
+
+    public static void main(String[] args) {
+        ResultCache.setCapacity(0); // 같은 입력을 반복하므로 캐시 적중이 아니라 실제 계산 시간을 측정
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        Matrix m = Factory.buildMatrix(n, n, -1.0, 1.0);
+        Scalar k = Factory.buildScalar("0.5");
+        Scalar minusK = Factory.buildScalar("-0.5");
+        Scalar minusOne = Factory.buildScalar("-1");
+
+        // 값의 자릿수가 계속 늘어나지 않도록 +k, -k를 번갈아 적용하고 상수배는 -1만 사용
+        Bench.print("addScaledRow n=" + n, Bench.measure(1000, 10000, () -> {
+            m.addScaledRow(0, 1, k);
+            m.addScaledRow(0, 1, minusK);
+            return m;
+        }));
+        Bench.print("addScaledCol n=" + n, Bench.measure(1000, 10000, () -> {
+            m.addScaledCol(0, 1, k);
+            m.addScaledCol(0, 1, minusK);
+            return m;
+        }));
+        Bench.print("multiplyRow n=" + n, Bench.measure(1000, 10000, () -> {
+            m.multiplyRow(2, minusOne);
+            return m;
+        }));
+        Bench.print("multiplyCol n=" + n, Bench.measure(1000, 10000, () -> {
+            m.multiplyCol(2, minusOne);
+            return m;
+        }));
+        Bench.print("swapCols n=" + n, Bench.measure(1000, 10000, () -> {
+            m.swapCols(0, 1);
+            return m;
+        }));
+
+        Matrix small = Factory.buildMatrix(8, 8, -1.0, 1.0);
+        Bench.print("rref 8x8", Bench.measure(3, 10, small::rref));
+    }
+}
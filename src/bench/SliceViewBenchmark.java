@@ -0,0 +1,48 @@
+package bench;
+
+import tensor.*;
+
+// subMatrix/minor/getRow/getCol 시간·할당량 측정 (BigDecimal 저장소)
+// 뷰 생성 자체와, minor()로 재귀하는 라플라스 전개(요소는 viewElement로만 읽음)의 호출당 할당량을 본다.
+public class SliceViewBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        Matrix m = Factory.buildRandomMatrix(n, n, -1.0, 1.0, 1L);
+
+        Bench.report("subMatrix half " + n + "x" + n, Bench.measure(3, 20, () -> m.subMatrix(0, n / 2, 0, n / 2)));
+        Bench.report("minor " + n + "x" + n, Bench.measure(3, 20, () -> m.minor(n / 2, n / 2)));
+        Bench.report("getRow + getCol " + n + "x" + n, Bench.measure(3, 20, () -> {
+            Vector row = m.getRow(n / 2);
+            Vector col = m.getCol(n / 2);
+            return row.viewElement(0).add(col.viewElement(0));
+        }));
+        Bench.report("subMatrix + read all " + n + "x" + n, Bench.measure(3, 10, () -> {
+            Matrix s = m.subMatrix(0, n / 2, 0, n / 2);
+            Scalar sum = Factory.buildScalar("0");
+            for (int i = 0; i < s.rowCount(); i++) {
+                for (int j = 0; j < s.colCount(); j++) {
+                    sum.add(s.viewElement(i, j));
+                }
+            }
+            return sum;
+        }));
+
+        int k = 8;
+        Matrix small = Factory.buildRandomMatrix(k, k, -1.0, 1.0, 2L);
+        Bench.report("laplace via minor " + k + "x" + k, Bench.measure(1, 3, () -> laplace(small)));
+    }
+
+    private static Scalar laplace(Matrix m) {
+        int n = m.rowCount();
+        if (n == 1) return m.viewElement(0, 0);
+        Scalar sum = Factory.buildScalar("0");
+        for (int j = 0; j < n; j++) {
+            Scalar term = m.viewElement(0, j);
+            term.multiply(laplace(m.minor(0, j)));
+            if ((j & 1) == 1) term.multiply(Factory.buildScalar("-1"));
+            sum.add(term);
+        }
+        return sum;
+    }
+}
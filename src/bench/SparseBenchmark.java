@@ -0,0 +1,78 @@
+package bench;
+
+import tensor.*;
+
+import java.util.Random;
+
+// 희소 행렬(CSR/CSC)과 밀집 저장소의 생성 할당량 및 연산 시간 비교
+// 사용법: java -cp out bench.SparseBenchmark [크기, 기본 1000] [0이 아닌 비율, 기본 0.02]
+//   BigDecimal 저장소(MatrixImpl)는 -Dbench.maxExactSize(기본 300) 이하 크기에서만 측정
+public class SparseBenchmark {
+    private static final int MAX_EXACT_SIZE = Integer.getInteger("bench.maxExactSize", 300);
+
+    public static void main(String[] args) {
+        ResultCache.setCapacity(0); // 같은 입력을 반복하므로 캐시 적중이 아니라 실제 계산 시간을 측정
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : 0.02;
+        double[][] a = randomSparse(n, density, 1L);
+        double[][] b = randomSparse(n, density, 2L);
+        String size = n + "x" + n + " (" + density * 100 + "% nonzero)";
+
+        // 생성 시 할당량 = 행렬 하나가 차지하는 메모리의 근사치
+        if (n <= MAX_EXACT_SIZE) {
+            Bench.report("build bigdecimal " + size, Bench.measure(1, 3, () -> Factory.buildMatrix(a)));
+        }
+        Bench.report("build dense " + size, Bench.measure(1, 5, () -> Factory.buildDenseMatrix(a)));
+        Bench.report("build csr " + size, Bench.measure(1, 5, () -> Factory.buildCsrMatrix(a)));
+
+        Matrix denseA = Factory.buildDenseMatrix(a);
+        Matrix denseB = Factory.buildDenseMatrix(b);
+        Matrix csrA = Factory.buildCsrMatrix(a);
+        Matrix csrB = Factory.buildCsrMatrix(b);
+        Matrix cscB = Factory.buildCscMatrix(b);
+
+        Bench.report("add dense", Bench.measureFor(300, 1000, () -> denseA.clone().add(denseB)));
+        Bench.report("add csr", Bench.measureFor(300, 1000, () -> csrA.clone().add(csrB)));
+        Bench.report("transpose dense", Bench.measureFor(300, 1000, denseA::transpose));
+        Bench.report("transpose csr", Bench.measureFor(300, 1000, csrA::transpose));
+        Bench.report("getCol csc", Bench.measureFor(300, 1000, () -> cscB.getCol(n / 2)));
+        Bench.report("multiply dense", Bench.measureFor(300, 2000, () -> Tensors.multiply(denseA, denseB)));
+        Bench.report("multiply csr x csr", Bench.measureFor(300, 2000, () -> Tensors.multiply(csrA, csrB)));
+        Bench.report("isZeroMatrix dense", Bench.measureFor(300, 1000, denseA::isZeroMatrix));
+        Bench.report("isZeroMatrix csr", Bench.measureFor(300, 1000, csrA::isZeroMatrix));
+
+        // rref: 화살촉(arrowhead) 행렬은 첫 열의 첫 0이 아닌 행(밀집 행)을 피벗으로 쓰면 전체가 채워지지만,
+        // 요소가 적은 행을 피벗으로 고르면 채움이 거의 없다
+        double[][] arrow = arrowhead(n);
+        Matrix denseArrow = Factory.buildDenseMatrix(arrow);
+        Matrix csrArrow = Factory.buildCsrMatrix(arrow);
+        Bench.report("rref dense arrowhead " + n + "x" + n, Bench.measureFor(300, 2000, denseArrow::rref));
+        Bench.report("rref csr arrowhead " + n + "x" + n, Bench.measureFor(300, 2000, csrArrow::rref));
+        Bench.report("rref dense random", Bench.measureFor(300, 2000, denseA::rref));
+        Bench.report("rref csr random", Bench.measureFor(300, 2000, csrA::rref));
+    }
+
+    // 첫 행과 첫 열이 모두 채워지고 나머지는 대각만 있는 행렬
+    private static double[][] arrowhead(int n) {
+        double[][] values = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            values[0][i] = 1.0;
+            values[i][0] = 1.0;
+            values[i][i] = i + 2.0;
+        }
+        return values;
+    }
+
+    private static double[][] randomSparse(int n, double density, long seed) {
+        Random random = new Random(seed);
+        double[][] values = new double[n][n];
+        for (double[] row : values) {
+            for (int j = 0; j < n; j++) {
+                if (random.nextDouble() < density) {
+                    row[j] = random.nextInt(19) - 9;
+                }
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,116 @@
+package bench;
+
+import tensor.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+
+// tensor 패키지 전체 벤치마크: 연산별·크기별 처리량(ops/s)과 할당률(B/op, MB/s)을 출력
+// 사용법: java -cp out bench.TensorBenchmark [크기 목록, 기본 4,16,64,256,1024]
+//   -Dbench.warmupMillis=300 -Dbench.measureMillis=1000 : 항목당 워밍업/측정 시간
+//   -Dbench.maxExactSize=8     : BigDecimal 저장소의 O(n^3) 연산(multiply, rref, determinant, inverse)을 실행할 최대 크기
+//   -Dbench.maxQuadraticSize=256 : BigDecimal 저장소의 O(n^2) 연산(transpose, CSV 로딩)을 실행할 최대 크기
+public class TensorBenchmark {
+    private static final long WARMUP_MILLIS = Long.getLong("bench.warmupMillis", 300);
+    private static final long MEASURE_MILLIS = Long.getLong("bench.measureMillis", 1000);
+    private static final int MAX_EXACT_SIZE = Integer.getInteger("bench.maxExactSize", 8);
+    private static final int MAX_QUADRATIC_SIZE = Integer.getInteger("bench.maxQuadraticSize", 256);
+
+    public static void main(String[] args) throws IOException {
+        ResultCache.setCapacity(0); // 같은 입력을 반복하므로 캐시 적중이 아니라 실제 계산 시간을 측정
+        int[] sizes = parseSizes(args.length > 0 ? args[0] : "4,16,64,256,1024");
+
+        benchScalars();
+        for (int n : sizes) {
+            benchVectors(n);
+        }
+        for (int n : sizes) {
+            double[][] values = randomArray(n, n, 42L + n);
+            benchMatrices("bigdecimal", Factory.buildMatrix(values), n, n <= MAX_EXACT_SIZE, n <= MAX_QUADRATIC_SIZE);
+            benchMatrices("rational", Factory.buildRationalMatrix(values), n, n <= MAX_EXACT_SIZE, n <= MAX_QUADRATIC_SIZE);
+            benchMatrices("dense", Factory.buildDenseMatrix(values), n, true, true);
+            if (n <= MAX_QUADRATIC_SIZE) {
+                benchCsv(values, n);
+            }
+        }
+    }
+
+    private static void benchScalars() {
+        Scalar a = Factory.buildScalar("1.2345678901");
+        Scalar b = Factory.buildScalar("-2.5");
+        run("scalar.add", () -> a.clone().add(b));
+        run("scalar.multiply", () -> a.clone().multiply(b));
+        run("scalar.build \"-1\" parse", () -> Factory.buildScalar("-1"));
+    }
+
+    private static void benchVectors(int n) {
+        Vector v1 = Factory.buildVector(n, -1.0, 1.0);
+        Vector v2 = Factory.buildVector(n, -1.0, 1.0);
+        run("vector.add n=" + n, () -> v1.clone().add(v2));
+    }
+
+    private static void benchMatrices(String backend, Matrix m, int n, boolean cubic, boolean quadratic) {
+        String suffix = " " + backend + " " + n + "x" + n;
+        if (quadratic) {
+            run("matrix.transpose" + suffix, m::transpose);
+        }
+        if (!cubic) {
+            System.out.printf("%-44s skipped (n > bench.maxExactSize)%n", "matrix.multiply/rref/determinant/inverse" + suffix);
+            return;
+        }
+        Matrix other = m.clone();
+        run("matrix.multiply" + suffix, () -> Tensors.multiply(m, other));
+        run("matrix.rref" + suffix, m::rref);
+        run("matrix.determinant" + suffix, m::determinant);
+        run("matrix.inverse" + suffix, m::inverse);
+    }
+
+    private static void benchCsv(double[][] values, int n) throws IOException {
+        File file = File.createTempFile("tensor-bench-" + n + "x" + n, ".csv");
+        file.deleteOnExit();
+        try (PrintWriter out = new PrintWriter(file)) {
+            for (double[] row : values) {
+                StringBuilder line = new StringBuilder();
+                for (int j = 0; j < row.length; j++) {
+                    if (j > 0) line.append(',');
+                    line.append(row[j]);
+                }
+                out.println(line);
+            }
+        }
+        String path = file.getPath();
+        run("csv.load " + n + "x" + n, () -> Factory.buildMatrix(path));
+        run("csv.load " + n + "x" + n + " [dense]", () -> Factory.buildDenseMatrix(path));
+    }
+
+    // 한 항목 실행. 아직 구현되지 않은 연산 등으로 실패해도 나머지 항목은 계속 측정
+    private static void run(String name, Bench.Task task) {
+        try {
+            Bench.report(name, Bench.measureFor(WARMUP_MILLIS, MEASURE_MILLIS, task));
+        } catch (RuntimeException e) {
+            System.out.printf("%-44s failed: %s%n", name, e);
+        }
+    }
+
+    private static double[][] randomArray(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        double[][] values = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                values[i][j] = Math.round((random.nextDouble() * 2 - 1) * 1e6) / 1e6; // 소수점 6자리
+            }
+        }
+        return values;
+    }
+
+    private static int[] parseSizes(String list) {
+        String[] parts = list.split(",");
+        int[] sizes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            sizes[i] = Integer.parseInt(parts[i].trim());
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,23 @@
+package bench;
+
+import tensor.*;
+
+// A^T * B 계산: transpose()로 전치 행렬을 만든 뒤 곱하는 경로와 transposeView()를 곱셈 커널에 넘기는 경로 비교
+// 밀집 저장소는 뷰를 넘기면 전치 복사가 없고, B^T가 필요한 오른쪽 피연산자는 원본 배열을 그대로 사용한다.
+public class TransposeViewBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 512;
+        for (StorageType type : new StorageType[]{StorageType.DOUBLE, StorageType.BIG_DECIMAL}) {
+            int size = (type == StorageType.DOUBLE) ? n : Math.max(1, n / 4);
+            Matrix a = Factory.buildRandomMatrix(size, size, -1.0, 1.0, 1L, type);
+            Matrix b = Factory.buildRandomMatrix(size, size, -1.0, 1.0, 2L, type);
+            String label = type + " " + size + "x" + size;
+
+            Bench.report("transpose() * B " + label, Bench.measure(2, 5, () -> Tensors.multiply(a.transpose(), b)));
+            Bench.report("transposeView() * B " + label, Bench.measure(2, 5, () -> Tensors.multiply(a.transposeView(), b)));
+            Bench.report("A * transpose() " + label, Bench.measure(2, 5, () -> Tensors.multiply(a, b.transpose())));
+            Bench.report("A * transposeView() " + label, Bench.measure(2, 5, () -> Tensors.multiply(a, b.transposeView())));
+        }
+    }
+}
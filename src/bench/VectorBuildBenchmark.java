@@ -0,0 +1,40 @@
+package bench;
+
+import tensor.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 대형 벡터/행렬 생성 시간·할당량 측정 (기본 10^7 요소)
+// 기준선은 이전 생성 방식처럼 요소마다 Double.toString -> Factory.buildScalar(String)로 파싱하는 경로
+public class VectorBuildBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int cols = 10_000;
+        int rows = Math.max(1, n / cols);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = (i % 1000) * 0.25 - 100.0;
+        }
+
+        Bench.report("string round-trip n=" + n, Bench.measure(1, 3, () -> {
+            List<Scalar> scalars = new ArrayList<>(n);
+            for (double value : values) {
+                scalars.add(Factory.buildScalar(Double.toString(value)));
+            }
+            return scalars;
+        }));
+        Bench.report("buildVector(double[]) n=" + n, Bench.measure(1, 3, () -> Factory.buildVector(values)));
+        Bench.report("buildVector(nn, dd) n=" + n, Bench.measure(1, 3, () -> Factory.buildVector(n, 1.5)));
+
+        double[] rowMajor = (rows * cols == n) ? values : Arrays.copyOf(values, rows * cols);
+        Bench.report("buildMatrix(mm, nn, dd) " + rows + "x" + cols,
+                Bench.measure(1, 3, () -> Factory.buildMatrix(rows, cols, 1.5)));
+        Bench.report("buildMatrix(mm, nn, double[]) " + rows + "x" + cols,
+                Bench.measure(1, 3, () -> Factory.buildMatrix(rows, cols, rowMajor)));
+        Bench.report("buildMatrix(mm, nn, dd) dense " + rows + "x" + cols,
+                Bench.measure(1, 3, () -> Factory.buildMatrix(rows, cols, 1.5, StorageType.DOUBLE)));
+    }
+}
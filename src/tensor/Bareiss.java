@@ -0,0 +1,118 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+// Bareiss 소거 (fraction-free 가우스 소거), O(n^3)
+// 정수 행렬에서 a[i][j] = (a[i][j] * pivot - a[i][k] * a[k][j]) / (이전 피벗)의 나눗셈이 항상 나누어떨어지므로
+// 나눗셈/반올림 없이 정확한 행 사다리꼴과 행렬식을 구한다. 중간 값은 원래 행렬의 소행렬식이므로
+// 자릿수 증가가 Hadamard 한계로 제한된다 (일반 분수 소거처럼 지수적으로 커지지 않음).
+// 소수/분수 요소는 행마다 분모의 최소공배수를 곱해 정수 행렬로 만든 뒤 사용한다.
+final class Bareiss {
+    private Bareiss() {
+    }
+
+    // 제자리에서 fraction-free 행 사다리꼴로 만들고 피벗 개수(rank)를 반환
+    // sign이 null이 아니면 sign[0]에 행 교환의 부호(+1/-1)를 저장
+    static int echelon(BigInteger[][] a, int[] sign) {
+        int rows = a.length;
+        int cols = rows == 0 ? 0 : a[0].length;
+        boolean parallel = Tensors.shouldParallelize(rows, rows, cols);
+        int swapSign = 1;
+        BigInteger previous = BigInteger.ONE;
+        int r = 0;
+        for (int lead = 0; lead < cols && r < rows; lead++) {
+            int i = r;
+            while (i < rows && a[i][lead].signum() == 0) {
+                i++;
+            }
+            if (i == rows) continue; // 이 열에는 피벗이 없음 (아래 행은 이미 모두 0)
+            if (i != r) {
+                BigInteger[] temp = a[i];
+                a[i] = a[r];
+                a[r] = temp;
+                swapSign = -swapSign;
+            }
+
+            int pivotRow = r;
+            int pivotCol = lead;
+            BigInteger divisor = previous;
+            if (parallel) {
+                int grain = Math.max(1, MatrixImpl.PARALLEL_ELEMENTS_PER_TASK / Math.max(1, cols));
+                ParallelRange.run(r + 1, rows, grain, (start, end) -> eliminateRows(a, start, end, pivotRow, pivotCol, divisor));
+            } else {
+                eliminateRows(a, r + 1, rows, pivotRow, pivotCol, divisor);
+            }
+            previous = a[r][lead];
+            r++;
+        }
+        if (sign != null) sign[0] = swapSign;
+        return r;
+    }
+
+    // [start, end) 행: a[i][j] = (a[i][j] * a[p][k] - a[i][k] * a[p][j]) / divisor (j > k), a[i][k] = 0
+    private static void eliminateRows(BigInteger[][] a, int start, int end, int pivotRow, int pivotCol, BigInteger divisor) {
+        BigInteger[] pivotValues = a[pivotRow];
+        BigInteger pivot = pivotValues[pivotCol];
+        boolean divide = !divisor.equals(BigInteger.ONE);
+        for (int i = start; i < end; i++) {
+            BigInteger[] row = a[i];
+            BigInteger factor = row[pivotCol];
+            for (int j = pivotCol + 1; j < row.length; j++) {
+                BigInteger value = row[j].multiply(pivot);
+                if (factor.signum() != 0 && pivotValues[j].signum() != 0) {
+                    value = value.subtract(factor.multiply(pivotValues[j]));
+                }
+                row[j] = divide ? value.divide(divisor) : value; // 항상 나누어떨어짐
+            }
+            row[pivotCol] = BigInteger.ZERO;
+        }
+    }
+
+    // 정방 정수 행렬의 행렬식 (입력 배열은 사다리꼴로 덮어쓰임)
+    static BigInteger determinant(BigInteger[][] a) {
+        int n = a.length;
+        if (n == 0) return BigInteger.ONE;
+        int[] sign = new int[1];
+        if (echelon(a, sign) < n) return BigInteger.ZERO;
+        return sign[0] < 0 ? a[n - 1][n - 1].negate() : a[n - 1][n - 1];
+    }
+
+    // 행렬 요소를 정수 행렬로 변환: 각 행에 그 행 분모들의 최소공배수를 곱함
+    // 반환값은 곱한 배율들의 곱 (원래 행렬식 = 정수 행렬의 행렬식 / 반환값). 요소가 모두 정수이면 1
+    static BigInteger toIntegerRows(Matrix matrix, BigInteger[][] out) {
+        int[] size = matrix.getSize();
+        BigInteger[] numerators = new BigInteger[size[1]];
+        BigInteger[] denominators = new BigInteger[size[1]];
+        BigInteger scale = BigInteger.ONE;
+        for (int i = 0; i < size[0]; i++) {
+            BigInteger rowLcm = BigInteger.ONE;
+            for (int j = 0; j < size[1]; j++) {
+                Scalar element = (matrix instanceof MatrixImpl) ? ((MatrixImpl) matrix).elementAt(i, j) : matrix.viewElement(i, j);
+                if (element instanceof RationalScalar) {
+                    numerators[j] = ((RationalScalar) element).numerator();
+                    denominators[j] = ((RationalScalar) element).denominator();
+                } else {
+                    BigDecimal value = element.getValue();
+                    if (value.scale() > 0) value = value.stripTrailingZeros(); // 2.0 같은 값은 정수로
+                    if (value.scale() <= 0) {
+                        numerators[j] = value.toBigIntegerExact();
+                        denominators[j] = BigInteger.ONE;
+                    } else {
+                        numerators[j] = value.unscaledValue();
+                        denominators[j] = BigInteger.TEN.pow(value.scale());
+                    }
+                }
+                if (!denominators[j].equals(BigInteger.ONE)) {
+                    rowLcm = rowLcm.divide(rowLcm.gcd(denominators[j])).multiply(denominators[j]);
+                }
+            }
+            BigInteger[] row = out[i];
+            for (int j = 0; j < size[1]; j++) {
+                row[j] = denominators[j].equals(rowLcm) ? numerators[j] : numerators[j].multiply(rowLcm.divide(denominators[j]));
+            }
+            scale = scale.multiply(rowLcm);
+        }
+        return scale;
+    }
+}
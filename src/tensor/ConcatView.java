@@ -0,0 +1,466 @@
+package tensor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 블록을 이어 붙인 행렬 뷰: Tensors.hstack/vstack/concat이 요소를 복사하지 않고 반환하는 행렬
+// 요소 조회는 블록 경계(offsets)를 이분 탐색해 해당 블록에 위임하고, 그 밖의 연산은 처음 한 번 하나의 저장소로 만든(storage) 뒤 위임한다.
+// 저장소는 블록 종류에 따라 한 번에 미리 크기를 잡아 만든다: 모두 희소면 CSR, 모두 double이면 double[], 그 외에는 BigDecimal 스칼라(MatrixImpl).
+// 합친 뒤 입력 블록을 바꿔도 뷰는 바뀌지 않도록 블록을 고정(frozen)해 두며, 같은 방향의 ConcatView는 그 블록들을 그대로 이어 받는다.
+final class ConcatView implements MatrixView {
+    private final boolean vertical; // true: 세로(행 방향)로 합침, false: 가로(열 방향)로 합침
+    private final Matrix[] blocks;  // 고정된 블록 (뷰가 쓰지 않음)
+    private final int[] offsets;    // 블록 i는 합친 방향으로 offsets[i]부터 offsets[i + 1] - 1까지
+    private final int rows;
+    private final int cols;
+    private Matrix own;             // 처음 만든 저장소 (이후 모든 연산은 여기에 위임)
+
+    private ConcatView(boolean vertical, Matrix[] blocks) {
+        this.vertical = vertical;
+        this.blocks = blocks;
+        this.offsets = new int[blocks.length + 1];
+        for (int b = 0; b < blocks.length; b++) {
+            offsets[b + 1] = offsets[b] + (vertical ? blocks[b].rowCount() : blocks[b].colCount());
+        }
+        this.rows = vertical ? offsets[blocks.length] : blocks[0].rowCount();
+        this.cols = vertical ? blocks[0].colCount() : offsets[blocks.length];
+    }
+
+    // 블록 목록으로 생성 (Tensors.concat에서 사용). 빈 행렬은 건너뛰고, 남은 블록이 없으면 0x0 행렬
+    static Matrix of(boolean vertical, Matrix[] blocks) {
+        List<Matrix> parts = new ArrayList<>(blocks.length);
+        int across = -1; // 모든 블록이 같아야 하는 크기 (세로면 열 개수, 가로면 행 개수)
+        long along = 0;
+        for (Matrix block : blocks) {
+            if (block == null) throw new IllegalArgumentException("Matrices to concatenate cannot be null.");
+            if (block.rowCount() == 0 || block.colCount() == 0) continue;
+            int size = vertical ? block.colCount() : block.rowCount();
+            if (across == -1) {
+                across = size;
+            } else if (size != across) {
+                throw new DimensionMismatchException("All matrices must have the same number of " + (vertical ? "columns" : "rows")
+                        + " to concatenate " + (vertical ? "vertically" : "horizontally") + ". Expected " + across + ", found " + size + ".");
+            }
+            along += vertical ? block.rowCount() : block.colCount();
+            if (block instanceof ConcatView && ((ConcatView) block).vertical == vertical && ((ConcatView) block).own == null) {
+                parts.addAll(Arrays.asList(((ConcatView) block).blocks)); // 이미 고정된 블록을 그대로 이어 받음
+            } else {
+                parts.add(frozen(block));
+            }
+        }
+        if (along > Integer.MAX_VALUE) throw new IllegalArgumentException("Concatenated matrix is too large.");
+        if (parts.isEmpty()) return Factory.buildMatrix(new ArrayList<>());
+        return new ConcatView(vertical, parts.toArray(new Matrix[0]));
+    }
+
+    // 입력 블록이 나중에 바뀌어도 영향을 받지 않는 블록: MatrixImpl(과 그 부분 행렬 뷰)은 copy-on-write 부분 행렬 뷰로 O(1),
+    // 그 밖의 저장소는 subMatrix 복사본. 전치 뷰는 원본을 고정한 뒤 다시 전치 뷰로 (희소 행렬은 같은 배열을 반대 방향으로 읽음)
+    private static Matrix frozen(Matrix block) {
+        if (block instanceof ConcatView) {
+            ConcatView view = (ConcatView) block;
+            return (view.own != null) ? frozen(view.own) : new ConcatView(view.vertical, view.blocks);
+        }
+        if (block instanceof TransposeView) {
+            Matrix source = frozen(((TransposeView) block).source());
+            return (source instanceof SparseMatrixImpl) ? ((SparseMatrixImpl) source).transposedShared() : source.transposeView();
+        }
+        return block.subMatrix(0, block.rowCount() - 1, 0, block.colCount() - 1);
+    }
+
+    // 합친 방향의 인덱스가 속한 블록
+    private int blockOf(int index) {
+        int found = Arrays.binarySearch(offsets, index);
+        return (found >= 0) ? found : -found - 2;
+    }
+
+    @Override
+    public Matrix materialize() {
+        return (own != null) ? own.clone() : build();
+    }
+
+    // 처음 한 번 만든 저장소 (MatrixMultiplier/Tensors의 저장소별 경로용)
+    Matrix storage() {
+        if (own == null) own = build();
+        return own;
+    }
+
+    private Matrix build() {
+        boolean allSparse = true;
+        boolean allDouble = true;
+        for (Matrix block : blocks) {
+            allSparse &= block instanceof SparseMatrixImpl;
+            allDouble &= isDouble(block);
+        }
+        if (allSparse) return buildSparse();
+        if (allDouble) return buildDense();
+        return buildDecimal();
+    }
+
+    private static boolean isDouble(Matrix block) {
+        Matrix source = (block instanceof TransposeView) ? ((TransposeView) block).source() : block;
+        return source instanceof DenseMatrixImpl || source instanceof SparseMatrixImpl;
+    }
+
+    // 모든 블록이 희소: 블록의 CSR 행을 열 오프셋만 더해 이어 붙임 (nnz 합만큼 한 번에 할당)
+    private Matrix buildSparse() {
+        SparseMatrixImpl[] csr = new SparseMatrixImpl[blocks.length];
+        int nnz = 0;
+        for (int b = 0; b < blocks.length; b++) {
+            csr[b] = SparseMatrixImpl.compressed(blocks[b], true);
+            nnz += csr[b].nnz();
+        }
+        int[] ptr = new int[rows + 1];
+        int[] idx = new int[nnz];
+        double[] values = new double[nnz];
+        int n = 0;
+        for (int i = 0; i < rows; i++) {
+            if (vertical) {
+                int b = blockOf(i);
+                n = appendRow(csr[b], i - offsets[b], 0, idx, values, n);
+            } else {
+                for (int b = 0; b < csr.length; b++) {
+                    n = appendRow(csr[b], i, offsets[b], idx, values, n);
+                }
+            }
+            ptr[i + 1] = n;
+        }
+        return new CsrMatrixImpl(rows, cols, ptr, idx, values);
+    }
+
+    private static int appendRow(SparseMatrixImpl block, int row, int colOffset, int[] idx, double[] values, int n) {
+        for (int k = block.ptr[row]; k < block.ptr[row + 1]; k++) {
+            idx[n] = block.idx[k] + colOffset;
+            values[n] = block.values[k];
+            n++;
+        }
+        return n;
+    }
+
+    // 모든 블록이 double 저장소(밀집/희소, 그 전치 뷰): 행 우선 double[] 하나에 블록을 복사
+    private Matrix buildDense() {
+        if ((long) rows * cols > Integer.MAX_VALUE - 8) {
+            throw new InvalidOperationException("Matrix " + rows + "x" + cols + " is too large to load into a dense in-memory matrix.");
+        }
+        double[] data = new double[rows * cols];
+        for (int b = 0; b < blocks.length; b++) {
+            int rowOffset = vertical ? offsets[b] : 0;
+            int colOffset = vertical ? 0 : offsets[b];
+            boolean transposed = blocks[b] instanceof TransposeView;
+            Matrix source = transposed ? ((TransposeView) blocks[b]).source() : blocks[b];
+            if (source instanceof DenseMatrixImpl) {
+                copyDense(((DenseMatrixImpl) source).data(), source.rowCount(), source.colCount(), transposed, data, rowOffset, colOffset);
+            } else {
+                SparseMatrixImpl sparse = (SparseMatrixImpl) source;
+                boolean rowMajor = sparse.rowMajor() != transposed; // 전치 뷰면 주 방향이 바뀜
+                for (int major = 0; major < sparse.majorCount(); major++) {
+                    for (int k = sparse.ptr[major]; k < sparse.ptr[major + 1]; k++) {
+                        int i = rowMajor ? major : sparse.idx[k];
+                        int j = rowMajor ? sparse.idx[k] : major;
+                        data[(rowOffset + i) * cols + colOffset + j] = sparse.values[k];
+                    }
+                }
+            }
+        }
+        return new DenseMatrixImpl(rows, cols, data);
+    }
+
+    private void copyDense(double[] source, int sourceRows, int sourceCols, boolean transposed, double[] data, int rowOffset, int colOffset) {
+        if (!transposed) {
+            for (int i = 0; i < sourceRows; i++) {
+                System.arraycopy(source, i * sourceCols, data, (rowOffset + i) * cols + colOffset, sourceCols);
+            }
+            return;
+        }
+        for (int i = 0; i < sourceRows; i++) {
+            for (int j = 0; j < sourceCols; j++) {
+                data[(rowOffset + j) * cols + colOffset + i] = source[i * sourceCols + j];
+            }
+        }
+    }
+
+    // 그 밖의 블록: 요소를 한 번씩만 복제해 행 벡터를 만들고 그대로 저장소로 사용 (요소 종류 유지)
+    private Matrix buildDecimal() {
+        List<Vector> rowList = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            List<Scalar> scalars = new ArrayList<>(cols);
+            if (vertical) {
+                int b = blockOf(i);
+                for (int j = 0; j < cols; j++) {
+                    scalars.add(blocks[b].viewElement(i - offsets[b], j));
+                }
+            } else {
+                for (Matrix block : blocks) {
+                    for (int j = 0; j < block.colCount(); j++) {
+                        scalars.add(block.viewElement(i, j));
+                    }
+                }
+            }
+            rowList.add(VectorImpl.wrap(scalars));
+        }
+        return MatrixImpl.wrap(rowList);
+    }
+
+    private void checkIndex(int rowIndex, int colIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount() || colIndex < 0 || colIndex >= colCount()) {
+            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + rowCount() + "x" + colCount());
+        }
+    }
+
+    @Override
+    public List<Vector> getVectors() {
+        return storage().getVectors();
+    }
+
+    // 11m. 특정 위치 요소 지정 (저장소에 씀, 입력 블록에는 반영되지 않음)
+    @Override
+    public void setElement(int rowIndex, int colIndex, Scalar value) {
+        checkIndex(rowIndex, colIndex);
+        storage().setElement(rowIndex, colIndex, value);
+    }
+
+    // 11m. 특정 위치 요소 조회 (해당 블록에 위임)
+    @Override
+    public Scalar viewElement(int rowIndex, int colIndex) {
+        checkIndex(rowIndex, colIndex);
+        if (own != null) return own.viewElement(rowIndex, colIndex);
+        if (vertical) {
+            int b = blockOf(rowIndex);
+            return blocks[b].viewElement(rowIndex - offsets[b], colIndex);
+        }
+        int b = blockOf(colIndex);
+        return blocks[b].viewElement(rowIndex, colIndex - offsets[b]);
+    }
+
+    // 13. 행렬 크기 조회
+    @Override
+    public int[] getSize() {
+        return new int[]{rowCount(), colCount()};
+    }
+
+    @Override
+    public int rowCount() {
+        return (own != null) ? own.rowCount() : rows;
+    }
+
+    @Override
+    public int colCount() {
+        return (own != null) ? own.colCount() : cols;
+    }
+
+    // 14m. 객체를 콘솔에 출력 (저장소의 출력 형식)
+    @Override
+    public String toString() {
+        return storage().toString();
+    }
+
+    // 15m. 객체의 동등성 판단 (MatrixImpl과 같은 규칙)
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof Matrix)) return false;
+        Matrix other = (Matrix) obj;
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (numRows != other.rowCount() || numCols != other.colCount()) return false;
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                if (!viewElement(i, j).equals(other.viewElement(i, j))) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // MatrixImpl.hashCode와 같은 방식 (값이 같은 행렬은 구현과 무관하게 같은 해시)
+        int numRows = rowCount();
+        int numCols = colCount();
+        int result = 1;
+        result = 31 * result + numRows;
+        result = 31 * result + numCols;
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                result = 31 * result + viewElement(i, j).hashCode();
+            }
+        }
+        return result;
+    }
+
+    // 55. 내용 지문 (저장소를 만들었으면 저장소의 지문)
+    @Override
+    public long fingerprint() {
+        return (own != null) ? own.fingerprint() : Fingerprint.of(this);
+    }
+
+    // 17m. 객체 복제: 독립된 저장소 행렬
+    @Override
+    public Matrix clone() {
+        return materialize();
+    }
+
+    // 22. 행렬 덧셈 (non-static, modifies self)
+    @Override
+    public Matrix add(Matrix other) {
+        storage().add(other);
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = other * this)
+    @Override
+    public Matrix multiplyLeft(Matrix other) {
+        storage().multiplyLeft(other);
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = this * other)
+    @Override
+    public Matrix multiplyRight(Matrix other) {
+        storage().multiplyRight(other);
+        return this;
+    }
+
+    // 32. 가로 합치기 (새 뷰 반환, 같은 방향이면 블록을 이어 받음)
+    @Override
+    public Matrix hstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for hstack cannot be null.");
+        return Tensors.hstack(this, other);
+    }
+
+    // 33. 세로 합치기 (새 뷰 반환, 같은 방향이면 블록을 이어 받음)
+    @Override
+    public Matrix vstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for vstack cannot be null.");
+        return Tensors.vstack(this, other);
+    }
+
+    // 34. 특정 행 (세로로 합쳤으면 해당 블록의 행)
+    @Override
+    public Vector getRow(int rowIndex) {
+        if (own == null && vertical && rowIndex >= 0 && rowIndex < rows) {
+            int b = blockOf(rowIndex);
+            return blocks[b].getRow(rowIndex - offsets[b]);
+        }
+        return storage().getRow(rowIndex);
+    }
+
+    // 35. 특정 열 (가로로 합쳤으면 해당 블록의 열)
+    @Override
+    public Vector getCol(int colIndex) {
+        if (own == null && !vertical && colIndex >= 0 && colIndex < cols) {
+            int b = blockOf(colIndex);
+            return blocks[b].getCol(colIndex - offsets[b]);
+        }
+        return storage().getCol(colIndex);
+    }
+
+    // 36. 부분 행렬 (한 블록 안의 범위면 그 블록의 부분 행렬)
+    @Override
+    public Matrix subMatrix(int startRow, int endRow, int startCol, int endCol) {
+        if (own == null && startRow >= 0 && startRow <= endRow && endRow < rows && startCol >= 0 && startCol <= endCol && endCol < cols) {
+            int first = blockOf(vertical ? startRow : startCol);
+            if (first == blockOf(vertical ? endRow : endCol)) {
+                int offset = offsets[first];
+                return vertical ? blocks[first].subMatrix(startRow - offset, endRow - offset, startCol, endCol)
+                        : blocks[first].subMatrix(startRow, endRow, startCol - offset, endCol - offset);
+            }
+        }
+        return storage().subMatrix(startRow, endRow, startCol, endCol);
+    }
+
+    // 37~54. 그 밖의 연산은 저장소에 위임
+    @Override
+    public Matrix minor(int excludeRowIndex, int excludeColIndex) {
+        return storage().minor(excludeRowIndex, excludeColIndex);
+    }
+
+    @Override
+    public Matrix transpose() {
+        return storage().transpose();
+    }
+
+    @Override
+    public Scalar trace() {
+        return storage().trace();
+    }
+
+    @Override
+    public boolean isSquare() {
+        return rowCount() == colCount();
+    }
+
+    @Override
+    public boolean isUpperTriangular() {
+        return storage().isUpperTriangular();
+    }
+
+    @Override
+    public boolean isLowerTriangular() {
+        return storage().isLowerTriangular();
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return storage().isIdentity();
+    }
+
+    @Override
+    public boolean isZeroMatrix() {
+        return storage().isZeroMatrix();
+    }
+
+    @Override
+    public void swapRows(int rowIndex1, int rowIndex2) {
+        storage().swapRows(rowIndex1, rowIndex2);
+    }
+
+    @Override
+    public void swapCols(int colIndex1, int colIndex2) {
+        storage().swapCols(colIndex1, colIndex2);
+    }
+
+    @Override
+    public void multiplyRow(int rowIndex, Scalar scalar) {
+        storage().multiplyRow(rowIndex, scalar);
+    }
+
+    @Override
+    public void multiplyCol(int colIndex, Scalar scalar) {
+        storage().multiplyCol(colIndex, scalar);
+    }
+
+    @Override
+    public void addScaledRow(int targetRowIndex, int sourceRowIndex, Scalar scalar) {
+        storage().addScaledRow(targetRowIndex, sourceRowIndex, scalar);
+    }
+
+    @Override
+    public void addScaledCol(int targetColIndex, int sourceColIndex, Scalar scalar) {
+        storage().addScaledCol(targetColIndex, sourceColIndex, scalar);
+    }
+
+    @Override
+    public Matrix rref() {
+        return storage().rref();
+    }
+
+    @Override
+    public boolean isRREF() {
+        return storage().isRREF();
+    }
+
+    @Override
+    public Scalar determinant() {
+        return storage().determinant();
+    }
+
+    @Override
+    public Scalar exactDeterminant() {
+        return storage().exactDeterminant();
+    }
+
+    @Override
+    public Matrix inverse() {
+        return storage().inverse();
+    }
+}
@@ -0,0 +1,21 @@
+package tensor;
+
+// 압축 희소 열(CSC) 행렬: 열마다 0이 아닌 요소의 행 인덱스와 값을 저장
+// 열 단위 연산(getCol, swapCols, addScaledCol)이 빠르다. Factory.buildCscMatrix(...)로 생성한다.
+class CscMatrixImpl extends SparseMatrixImpl {
+
+    // 내부용: 주어진 압축 배열(colPointers, rowIndices, values)을 복사 없이 저장소로 사용
+    CscMatrixImpl(int mm, int nn, int[] colPointers, int[] rowIndices, double[] values) {
+        super(mm, nn, colPointers, rowIndices, values);
+    }
+
+    @Override
+    boolean rowMajor() {
+        return false;
+    }
+
+    @Override
+    SparseMatrixImpl create(int mm, int nn, int[] colPointers, int[] rowIndices, double[] values) {
+        return new CscMatrixImpl(mm, nn, colPointers, rowIndices, values);
+    }
+}
@@ -0,0 +1,21 @@
+package tensor;
+
+// 압축 희소 행(CSR) 행렬: 행마다 0이 아닌 요소의 열 인덱스와 값을 저장
+// 행 단위 연산(getRow, swapRows, addScaledRow, 행렬 곱의 왼쪽 피연산자)이 빠르다. Factory.buildCsrMatrix(...)로 생성한다.
+class CsrMatrixImpl extends SparseMatrixImpl {
+
+    // 내부용: 주어진 압축 배열(rowPointers, colIndices, values)을 복사 없이 저장소로 사용
+    CsrMatrixImpl(int mm, int nn, int[] rowPointers, int[] colIndices, double[] values) {
+        super(mm, nn, rowPointers, colIndices, values);
+    }
+
+    @Override
+    boolean rowMajor() {
+        return true;
+    }
+
+    @Override
+    SparseMatrixImpl create(int mm, int nn, int[] rowPointers, int[] colIndices, double[] values) {
+        return new CsrMatrixImpl(mm, nn, rowPointers, colIndices, values);
+    }
+}
@@ -0,0 +1,279 @@
+package tensor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// 대용량 CSV를 밀집(double[]) 행렬로 읽는 스트리밍 로더
+// 파일을 고정 크기 바이트 청크로 읽고, 숫자를 바이트에서 바로 double로 변환한다 (중간 String/Scalar 객체 없음).
+// 저장소는 첫 행의 길이와 파일 크기로 전체 행 수를 추정해 미리 할당하고, 부족할 때만 늘린다.
+final class CsvMatrixReader {
+    static final int CHUNK_SIZE = 1 << 20; // 1MB
+
+    // 10^0 ~ 10^22는 double로 정확히 표현되므로 가수(mantissa)가 2^53 미만이면 곱/나눗셈 한 번으로 정확한 값을 얻는다
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_ELEMENTS = Integer.MAX_VALUE - 8;
+
+    private final String path;
+    private final long fileSize;
+
+    private double[] values = new double[16];
+    private int count;            // 지금까지 읽은 요소 수
+    private int numCols = -1;
+    private int rowCols;          // 현재 행에서 읽은 열 수
+    private int rows;
+    private boolean expectValue;  // 쉼표 다음이라 값이 와야 하는 상태
+    private long bufferOffset;    // 현재 버퍼 시작 위치의 파일 내 오프셋
+    private long line = 1;        // 오류 메시지용 줄 번호
+
+    private CsvMatrixReader(String path, long fileSize) {
+        this.path = path;
+        this.fileSize = fileSize;
+    }
+
+    static DenseMatrixImpl read(String csvFilePath) throws CsvParseException {
+        if (csvFilePath == null) throw new IllegalArgumentException("CSV file path cannot be null.");
+        try (FileChannel channel = FileChannel.open(Paths.get(csvFilePath), StandardOpenOption.READ)) {
+            CsvMatrixReader reader = new CsvMatrixReader(csvFilePath, channel.size());
+            reader.parse(channel);
+            return reader.toMatrix();
+        } catch (IOException e) {
+            throw new CsvParseException("Error reading CSV file: " + csvFilePath, e);
+        }
+    }
+
+    private void parse(FileChannel channel) throws IOException {
+        byte[] buf = new byte[(int) Math.min(CHUNK_SIZE, Math.max(16, fileSize + 1))];
+        ByteBuffer buffer = ByteBuffer.wrap(buf);
+        int length = 0;
+        int start = 0;
+        boolean first = true;
+        while (true) {
+            buffer.limit(buf.length).position(length);
+            int read = channel.read(buffer);
+            boolean eof = read < 0;
+            if (!eof) {
+                length += read;
+                if (length < buf.length) continue; // 버퍼를 채운 뒤 처리
+            }
+
+            if (first) {
+                if (length >= 3 && (buf[0] & 0xFF) == 0xEF && (buf[1] & 0xFF) == 0xBB && (buf[2] & 0xFF) == 0xBF) {
+                    start = 3; // UTF-8 BOM
+                }
+                first = false;
+            }
+
+            // 마지막 구분자까지만 처리하고, 잘린 필드는 다음 청크 앞으로 옮겨 이어서 처리
+            int limit = eof ? length : lastDelimiter(buf, start, length) + 1;
+            if (limit <= start && !eof) {
+                throw new CsvParseException("CSV value longer than " + buf.length + " bytes at line " + line + ": " + path);
+            }
+            parseChunk(buf, start, limit);
+            if (eof) break;
+
+            length -= limit;
+            System.arraycopy(buf, limit, buf, 0, length);
+            bufferOffset += limit;
+            start = 0;
+        }
+        endRow();
+    }
+
+    private static int lastDelimiter(byte[] buf, int start, int length) {
+        for (int i = length - 1; i >= start; i--) {
+            byte b = buf[i];
+            if (b == ',' || b == '\n' || b == '\r') return i;
+        }
+        return start - 1;
+    }
+
+    // buf[pos, limit)의 필드들을 파싱. 마지막 청크가 아니면 limit 직전 바이트는 항상 구분자
+    private void parseChunk(byte[] buf, int pos, int limit) {
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b == ' ' || b == '\t') {
+                pos++;
+            } else if (b == '\n' || b == '\r') {
+                int before = rows;
+                endRow();
+                if (before == 0 && rows == 1) {
+                    presize(bufferOffset + pos + 1);
+                }
+                if (b == '\n') line++;
+                pos++;
+            } else if (b == ',') {
+                if (expectValue || rowCols == 0) {
+                    throw new CsvParseException("Empty value in CSV file at line " + line + ": " + path);
+                }
+                expectValue = true;
+                pos++;
+            } else {
+                if (rowCols > 0 && !expectValue) {
+                    throw new CsvParseException("Missing ',' between values in CSV file at line " + line + ": " + path);
+                }
+                int fieldStart = pos;
+                while (pos < limit && buf[pos] != ',' && buf[pos] != '\n' && buf[pos] != '\r') pos++;
+                int fieldEnd = pos;
+                while (buf[fieldEnd - 1] == ' ' || buf[fieldEnd - 1] == '\t') fieldEnd--;
+                append(parseDouble(buf, fieldStart, fieldEnd));
+                expectValue = false;
+            }
+        }
+    }
+
+    private void append(double value) {
+        if (count == values.length) {
+            long capacity = Math.max(16, values.length + (long) values.length / 2);
+            if (bufferOffset > 0) {
+                // 지금까지 읽은 바이트당 요소 수로 남은 크기를 다시 추정 (1.5배씩 늘리며 복사를 반복하지 않도록)
+                long projected = (long) ((double) count / bufferOffset * fileSize * 1.05) + numCols;
+                capacity = Math.max(projected, values.length + (long) values.length / 16);
+            }
+            if (capacity > MAX_ELEMENTS) {
+                if (values.length >= MAX_ELEMENTS) {
+                    throw new CsvParseException("CSV file has too many values for a dense matrix: " + path);
+                }
+                capacity = MAX_ELEMENTS;
+            }
+            values = Arrays.copyOf(values, (int) capacity);
+        }
+        values[count++] = value;
+        rowCols++;
+    }
+
+    // 첫 행의 바이트 길이로 전체 행 수를 추정해 저장소를 한 번에 할당 (행 길이가 비슷한 숫자 CSV 가정)
+    // 행 길이 편차를 고려해 1/8 여유를 둔다
+    private void presize(long firstRowBytes) {
+        long estimatedRows = fileSize / Math.max(1, firstRowBytes) + 1;
+        estimatedRows += estimatedRows / 8;
+        long estimated = Math.min(MAX_ELEMENTS, estimatedRows * numCols);
+        if (estimated > values.length) {
+            values = Arrays.copyOf(values, (int) estimated);
+        }
+    }
+
+    private void endRow() {
+        if (expectValue) {
+            throw new CsvParseException("Empty value in CSV file at line " + line + ": " + path);
+        }
+        if (rowCols == 0) return; // 빈 줄은 건너뜀
+        if (numCols == -1) {
+            numCols = rowCols;
+        } else if (rowCols != numCols) {
+            throw new CsvParseException("CSV file has inconsistent number of columns. Expected " + numCols + " but found " + rowCols + " at line " + line + ": " + path);
+        }
+        rows++;
+        rowCols = 0;
+    }
+
+    private DenseMatrixImpl toMatrix() {
+        if (rows == 0) {
+            return new DenseMatrixImpl(0, 0, new double[0]); // 빈 파일은 0x0 행렬
+        }
+        double[] data = (values.length == count) ? values : Arrays.copyOf(values, count);
+        return new DenseMatrixImpl(rows, numCols, data);
+    }
+
+    // buf[start, end)의 10진수 문자열을 double로 변환
+    // 받는 형식은 BigDecimal 저장소의 CSV와 같다: [+-]숫자[.숫자][(e|E)[+-]숫자]. NaN, Infinity, 1d/2f 같은 접미사, 16진수 실수는 거부
+    private double parseDouble(byte[] buf, int start, int end) {
+        int pos = start;
+        boolean negative = false;
+        if (buf[pos] == '-' || buf[pos] == '+') {
+            negative = buf[pos] == '-';
+            pos++;
+        }
+        long mantissa = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean sawDigit = false;
+        while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+            sawDigit = true;
+            if (mantissa < MAX_EXACT_MANTISSA) {
+                mantissa = mantissa * 10 + (buf[pos] - '0');
+            } else {
+                exponent++; // 버린 정수 자릿수
+                exact = false;
+            }
+            pos++;
+        }
+        if (pos < end && buf[pos] == '.') {
+            pos++;
+            while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+                sawDigit = true;
+                if (mantissa < MAX_EXACT_MANTISSA) {
+                    mantissa = mantissa * 10 + (buf[pos] - '0');
+                    exponent--;
+                } else if (buf[pos] != '0') {
+                    exact = false;
+                }
+                pos++;
+            }
+        }
+        if (sawDigit && pos < end && (buf[pos] == 'e' || buf[pos] == 'E')) {
+            pos++;
+            boolean negativeExponent = false;
+            if (pos < end && (buf[pos] == '-' || buf[pos] == '+')) {
+                negativeExponent = buf[pos] == '-';
+                pos++;
+            }
+            int exp = 0;
+            boolean sawExponentDigit = false;
+            while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+                sawExponentDigit = true;
+                if (exp < 100000) exp = exp * 10 + (buf[pos] - '0');
+                pos++;
+            }
+            if (!sawExponentDigit) throw invalidValue(buf, start, end);
+            exponent += negativeExponent ? -exp : exp;
+        }
+        if (!sawDigit || pos != end) {
+            throw invalidValue(buf, start, end);
+        }
+
+        // 빠른 경로: 정확히 표현 가능한 가수와 10의 거듭제곱 한 번의 연산 (올바르게 반올림된 결과)
+        if (exact && mantissa < MAX_EXACT_MANTISSA) {
+            double value;
+            if (exponent == 0) {
+                value = mantissa;
+            } else if (exponent > 0 && exponent < POWERS_OF_TEN.length) {
+                value = mantissa * POWERS_OF_TEN[exponent];
+            } else if (exponent < 0 && -exponent < POWERS_OF_TEN.length) {
+                value = mantissa / POWERS_OF_TEN[-exponent];
+            } else {
+                return parseSlow(buf, start, end);
+            }
+            return negative ? -value : value;
+        }
+        return parseSlow(buf, start, end);
+    }
+
+    // 형식은 이미 검사했으므로 가수가 길거나 지수가 큰 값만 온다 (Double.parseDouble이 올바르게 반올림)
+    // double 범위를 넘어 무한대가 되는 값은 거부
+    private double parseSlow(byte[] buf, int start, int end) {
+        double value = Double.parseDouble(text(buf, start, end));
+        if (Double.isInfinite(value)) {
+            throw new CsvParseException("Value '" + text(buf, start, end) + "' is out of range for a double matrix in CSV file at line "
+                    + line + ", column " + (rowCols + 1) + ": " + path);
+        }
+        return value;
+    }
+
+    private CsvParseException invalidValue(byte[] buf, int start, int end) {
+        return new CsvParseException("Error parsing value '" + text(buf, start, end) + "' in CSV file at line "
+                + line + ", column " + (rowCols + 1) + ": " + path);
+    }
+
+    private static String text(byte[] buf, int start, int end) {
+        return new String(buf, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+}
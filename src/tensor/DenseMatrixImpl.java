@@ -0,0 +1,788 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// double[] 행 우선(row-major) 저장소를 사용하는 밀집 행렬
+// 요소마다 Scalar/BigDecimal 객체를 두지 않으므로 큰 행렬(예: 2000x2000)의 rref에서 힙과 GC 부담이 작다.
+// 외부에는 Matrix 인터페이스만 노출되며, Factory.buildDenseMatrix(...)로 생성한다.
+class DenseMatrixImpl implements Matrix {
+    // 소거 과정에서 0으로 간주할 상대 허용 오차 (부동소수점 잔차 처리용, cancelled/negligible 참고)
+    static final double EPSILON = 1e-10;
+    // 병렬 소거 시 작업 하나가 맡는 요소 수
+    private static final int PARALLEL_ELEMENTS_PER_TASK = 16384;
+
+    private double[] data; // (i, j) 요소는 data[i * cols + j]
+    private int rows;
+    private int cols;
+    // 내용 지문: 요소별 기여의 합 (Fingerprint). 처음 fingerprint() 호출 때 계산한 뒤에는 요소/행/열 연산이
+    // 바뀐 부분의 기여만 갱신하고, 전체를 바꾸는 연산(add, 곱셈)은 무효화한다.
+    private long fingerprintSum;
+    private boolean fingerprintValid;
+
+    // 06에 대응: mm x nn 행렬을 dd로 채움
+    DenseMatrixImpl(int mm, int nn, double dd) {
+        if (mm <= 0 || nn <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        this.rows = mm;
+        this.cols = nn;
+        this.data = new double[mm * nn];
+        if (dd != 0.0) Arrays.fill(this.data, dd);
+    }
+
+    // 09에 대응: 2차원 double 배열로부터 생성
+    DenseMatrixImpl(double[][] arr) {
+        if (arr == null || arr.length == 0) {
+            throw new IllegalArgumentException("Size 0 not allowed");
+        }
+        int numCols = (arr[0] == null) ? 0 : arr[0].length;
+        this.rows = arr.length;
+        this.cols = numCols;
+        this.data = new double[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            if (arr[i] == null || arr[i].length != numCols) {
+                throw new IllegalArgumentException("All rows in the 2D array must have the same number of columns and not be null.");
+            }
+            System.arraycopy(arr[i], 0, this.data, i * cols, cols);
+        }
+    }
+
+    // 10에 대응: 단위 행렬
+    DenseMatrixImpl(int mm) {
+        if (mm <= 0) throw new IllegalArgumentException("Dimension for identity matrix must be positive.");
+        this.rows = mm;
+        this.cols = mm;
+        this.data = new double[mm * mm];
+        for (int i = 0; i < mm; i++) {
+            this.data[i * mm + i] = 1.0;
+        }
+    }
+
+    // 다른 Matrix 구현으로부터 변환 (BigDecimal -> double)
+    DenseMatrixImpl(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Source matrix cannot be null.");
+        if (other instanceof DenseMatrixImpl) {
+            DenseMatrixImpl dense = (DenseMatrixImpl) other;
+            this.rows = dense.rows;
+            this.cols = dense.cols;
+            this.data = dense.data.clone();
+            return;
+        }
+        if (other instanceof MappedMatrixImpl) {
+            DenseMatrixImpl dense = ((MappedMatrixImpl) other).toDense(); // 매핑된 영역을 일괄 복사
+            this.rows = dense.rows;
+            this.cols = dense.cols;
+            this.data = dense.data;
+            return;
+        }
+        int[] size = other.getSize();
+        this.rows = size[0];
+        this.cols = size[1];
+        this.data = new double[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                this.data[i * cols + j] = other.viewElement(i, j).getValue().doubleValue();
+            }
+        }
+    }
+
+    // 내부용: 주어진 배열을 복사 없이 그대로 저장소로 사용
+    DenseMatrixImpl(int mm, int nn, double[] data) {
+        if (mm < 0 || nn < 0 || data == null || data.length != mm * nn) {
+            throw new IllegalArgumentException("Data length does not match matrix dimensions " + mm + "x" + nn + ".");
+        }
+        this.rows = mm;
+        this.cols = nn;
+        this.data = data;
+    }
+
+    // 내부용 요소 접근 (복제 없음)
+    double get(int rowIndex, int colIndex) {
+        return data[rowIndex * cols + colIndex];
+    }
+
+    void set(int rowIndex, int colIndex, double value) {
+        long before = elementPart(rowIndex, colIndex);
+        data[rowIndex * cols + colIndex] = value;
+        updateFingerprint(before, elementPart(rowIndex, colIndex));
+    }
+
+    // 내부용: 저장소 배열 직접 접근 (커널 연산용)
+    double[] data() {
+        return data;
+    }
+
+    @Override
+    public List<Vector> getVectors() {
+        // 밀집 저장소에는 행 Vector 객체가 없으므로 행별 복사본 목록을 반환 (변경해도 행렬에 반영되지 않음)
+        List<Vector> result = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            result.add(getRow(i));
+        }
+        return result;
+    }
+
+    // 11m. 특정 위치 요소 지정
+    @Override
+    public void setElement(int rowIndex, int colIndex, Scalar value) {
+        if (value == null) throw new IllegalArgumentException("Scalar value cannot be null.");
+        checkIndex(rowIndex, colIndex);
+        set(rowIndex, colIndex, value.getValue().doubleValue());
+    }
+
+    // 11m. 특정 위치 요소 조회
+    @Override
+    public Scalar viewElement(int rowIndex, int colIndex) {
+        checkIndex(rowIndex, colIndex);
+        return Factory.buildScalar(decimal(data[rowIndex * cols + colIndex]));
+    }
+
+    // double 값을 BigDecimal로 변환 (NaN/무한대는 Scalar로 나타낼 수 없으므로 예외)
+    static BigDecimal decimal(double value) {
+        if (!Double.isFinite(value)) {
+            throw new InvalidOperationException("Value " + value + " is not finite and cannot be represented as a Scalar.");
+        }
+        return BigDecimal.valueOf(value);
+    }
+
+    private void checkIndex(int rowIndex, int colIndex) {
+        if (rowIndex < 0 || rowIndex >= rows || colIndex < 0 || colIndex >= cols) {
+            if (rows == 0 || cols == 0) {
+                throw new IndexOutOfBoundsException("Cannot view element in an empty or zero-dimension matrix.");
+            }
+            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + rows + "x" + cols);
+        }
+    }
+
+    // 13. 행렬 크기 조회
+    @Override
+    public int[] getSize() {
+        return new int[]{rows, cols};
+    }
+
+    @Override
+    public int rowCount() {
+        return rows;
+    }
+
+    @Override
+    public int colCount() {
+        return cols;
+    }
+
+    // 14m. 객체를 콘솔에 출력 (MatrixImpl과 같은 형식)
+    @Override
+    public String toString() {
+        if (rows == 0) {
+            return "[[]]";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("[\n");
+        for (int i = 0; i < rows; i++) {
+            sb.append("  [");
+            for (int j = 0; j < cols; j++) {
+                sb.append(BigDecimal.valueOf(data[i * cols + j]).toPlainString());
+                if (j < cols - 1) sb.append(", ");
+            }
+            sb.append(i < rows - 1 ? "],\n" : "]\n");
+        }
+        sb.append("]\n");
+        return sb.toString();
+    }
+
+    // 15m. 객체의 동등성 판단
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof Matrix)) return false;
+        Matrix other = (Matrix) obj;
+        if (rows != other.rowCount() || cols != other.colCount()) return false;
+
+        if (other instanceof DenseMatrixImpl) {
+            double[] otherData = ((DenseMatrixImpl) other).data;
+            for (int k = 0; k < data.length; k++) {
+                if (data[k] != otherData[k]) return false;
+            }
+            return true;
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (BigDecimal.valueOf(get(i, j)).compareTo(other.viewElement(i, j).getValue()) != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // MatrixImpl.hashCode와 같은 방식으로 계산하여 값이 같은 행렬은 구현과 무관하게 같은 해시를 갖게 함
+        int result = 1;
+        result = 31 * result + rows;
+        result = 31 * result + cols;
+        for (double v : data) {
+            result = 31 * result + BigDecimal.valueOf(v).stripTrailingZeros().hashCode();
+        }
+        return result;
+    }
+
+    // 55. 내용 지문 (처음 한 번 double 배열을 훑고, 이후에는 유지된 합으로 O(1))
+    @Override
+    public long fingerprint() {
+        if (!fingerprintValid) {
+            fingerprintSum = Fingerprint.sum(rows, cols, data);
+            fingerprintValid = true;
+        }
+        return Fingerprint.finish(rows, cols, fingerprintSum);
+    }
+
+    // 바뀌는 요소/행/열의 현재 기여 (지문을 계산하지 않았으면 0, 연산 전후로 호출해 updateFingerprint에 넘김)
+    private long elementPart(int rowIndex, int colIndex) {
+        if (!fingerprintValid) return 0;
+        return Fingerprint.at(rowIndex, colIndex, Fingerprint.element(data[rowIndex * cols + colIndex]));
+    }
+
+    private long rowPart(int rowIndex) {
+        if (!fingerprintValid) return 0;
+        long sum = 0;
+        int base = rowIndex * cols;
+        for (int j = 0; j < cols; j++) {
+            sum += Fingerprint.at(rowIndex, j, Fingerprint.element(data[base + j]));
+        }
+        return sum;
+    }
+
+    private long colPart(int colIndex) {
+        if (!fingerprintValid) return 0;
+        long sum = 0;
+        for (int i = 0; i < rows; i++) {
+            sum += Fingerprint.at(i, colIndex, Fingerprint.element(data[i * cols + colIndex]));
+        }
+        return sum;
+    }
+
+    private void updateFingerprint(long before, long after) {
+        if (fingerprintValid) fingerprintSum += after - before;
+    }
+
+    // 17m. 객체 복제 (deep copy)
+    @Override
+    public Matrix clone() {
+        try {
+            DenseMatrixImpl cloned = (DenseMatrixImpl) super.clone();
+            cloned.data = this.data.clone();
+            return cloned;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e); // Should not happen
+        }
+    }
+
+    // 22. 행렬 덧셈 (non-static, modifies self)
+    @Override
+    public Matrix add(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        if (rows != other.rowCount() || cols != other.colCount()) {
+            throw new DimensionMismatchException("Matrices must have the same dimensions for addition. Self: "
+                    + rows + "x" + cols + ", Other: " + other.rowCount() + "x" + other.colCount());
+        }
+        fingerprintValid = false;
+        if (other instanceof DenseMatrixImpl) {
+            double[] otherData = ((DenseMatrixImpl) other).data;
+            for (int k = 0; k < data.length; k++) {
+                data[k] += otherData[k];
+            }
+            return this;
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                data[i * cols + j] += other.viewElement(i, j).getValue().doubleValue();
+            }
+        }
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = other * this)
+    @Override
+    public Matrix multiplyLeft(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        adopt(Tensors.multiply(other, this));
+        return this;
+    }
+
+    @Override
+    public Matrix multiplyRight(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        adopt(Tensors.multiply(this, other));
+        return this;
+    }
+
+    // 연산 결과 행렬의 내용으로 자신의 저장소를 교체
+    private void adopt(Matrix result) {
+        DenseMatrixImpl dense = (result instanceof DenseMatrixImpl) ? (DenseMatrixImpl) result : new DenseMatrixImpl(result);
+        this.rows = dense.rows;
+        this.cols = dense.cols;
+        this.data = dense.data;
+        this.fingerprintValid = false;
+    }
+
+    // 32. 가로 합치기 (non-static, returns new matrix)
+    @Override
+    public Matrix hstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for hstack cannot be null.");
+        return Tensors.hstack(this, other);
+    }
+
+    // 33. 세로 합치기 (non-static, returns new matrix)
+    @Override
+    public Matrix vstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for vstack cannot be null.");
+        return Tensors.vstack(this, other);
+    }
+
+    // 34. 특정 행을 벡터 형태로 추출
+    @Override
+    public Vector getRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rows) {
+            throw new IndexOutOfBoundsException("Row index " + rowIndex + " is out of bounds for matrix with " + rows + " rows.");
+        }
+        double[] row = new double[cols];
+        System.arraycopy(data, rowIndex * cols, row, 0, cols);
+        return Factory.buildVector(row);
+    }
+
+    // 35. 특정 열을 벡터 형태로 추출
+    @Override
+    public Vector getCol(int colIndex) {
+        if (colIndex < 0 || colIndex >= cols) {
+            throw new IndexOutOfBoundsException("Column index " + colIndex + " is out of bounds for matrix with " + cols + " columns.");
+        }
+        double[] col = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            col[i] = data[i * cols + colIndex];
+        }
+        return Factory.buildVector(col);
+    }
+
+    // 36. 특정 범위의 부분 행렬 추출
+    @Override
+    public Matrix subMatrix(int startRow, int endRow, int startCol, int endCol) {
+        if (startRow < 0 || startRow >= rows || endRow < startRow || endRow >= rows ||
+                startCol < 0 || startCol >= cols || endCol < startCol || endCol >= cols) {
+            throw new IndexOutOfBoundsException("Submatrix indices are out of bounds or invalid.");
+        }
+        int numRows = endRow - startRow + 1;
+        int numCols = endCol - startCol + 1;
+        double[] sub = new double[numRows * numCols];
+        for (int i = 0; i < numRows; i++) {
+            System.arraycopy(data, (startRow + i) * cols + startCol, sub, i * numCols, numCols);
+        }
+        return new DenseMatrixImpl(numRows, numCols, sub);
+    }
+
+    // 37. 특정 행/열 제외 부분 행렬 (minor)
+    @Override
+    public Matrix minor(int excludeRowIndex, int excludeColIndex) {
+        if (excludeRowIndex < 0 || excludeRowIndex >= rows ||
+                excludeColIndex < 0 || excludeColIndex >= cols) {
+            throw new IndexOutOfBoundsException("Exclude indices are out of bounds.");
+        }
+        if (rows <= 1 || cols <= 1) {
+            return new DenseMatrixImpl(0, 0, new double[0]);
+        }
+        int numRows = rows - 1;
+        int numCols = cols - 1;
+        double[] minorData = new double[numRows * numCols];
+        for (int i = 0, r = 0; i < rows; i++) {
+            if (i == excludeRowIndex) continue;
+            int src = i * cols;
+            int dst = r * numCols;
+            System.arraycopy(data, src, minorData, dst, excludeColIndex);
+            System.arraycopy(data, src + excludeColIndex + 1, minorData, dst + excludeColIndex, numCols - excludeColIndex);
+            r++;
+        }
+        return new DenseMatrixImpl(numRows, numCols, minorData);
+    }
+
+    // 38. 전치행렬
+    @Override
+    public Matrix transpose() {
+        double[] transposed = new double[data.length];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                transposed[j * rows + i] = data[i * cols + j];
+            }
+        }
+        return new DenseMatrixImpl(cols, rows, transposed);
+    }
+
+    // 39. 대각 요소의 합 (trace)
+    @Override
+    public Scalar trace() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Trace is defined only for square matrices.");
+        }
+        double sum = 0.0;
+        for (int i = 0; i < rows; i++) {
+            sum += data[i * cols + i];
+        }
+        return Factory.buildScalar(decimal(sum));
+    }
+
+    // 40. 정사각 행렬 여부
+    @Override
+    public boolean isSquare() {
+        return rows == cols;
+    }
+
+    // 41. 상삼각 행렬
+    @Override
+    public boolean isUpperTriangular() {
+        if (!isSquare()) return false;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < i; j++) {
+                if (data[i * cols + j] != 0.0) return false;
+            }
+        }
+        return true;
+    }
+
+    // 42. 하삼각 행렬
+    @Override
+    public boolean isLowerTriangular() {
+        if (!isSquare()) return false;
+        for (int i = 0; i < rows; i++) {
+            for (int j = i + 1; j < cols; j++) {
+                if (data[i * cols + j] != 0.0) return false;
+            }
+        }
+        return true;
+    }
+
+    // 43. 단위 행렬
+    @Override
+    public boolean isIdentity() {
+        if (!isSquare()) return false;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (data[i * cols + j] != (i == j ? 1.0 : 0.0)) return false;
+            }
+        }
+        return true;
+    }
+
+    // 44. 영 행렬
+    @Override
+    public boolean isZeroMatrix() {
+        for (double v : data) {
+            if (v != 0.0) return false;
+        }
+        return true;
+    }
+
+    // --- Elementary Row/Column Operations (modifies self, 임시 객체 없이 배열을 직접 갱신) ---
+    // 45. 특정 두 행의 위치 교환
+    @Override
+    public void swapRows(int rowIndex1, int rowIndex2) {
+        if (rowIndex1 < 0 || rowIndex1 >= rows || rowIndex2 < 0 || rowIndex2 >= rows) {
+            throw new IndexOutOfBoundsException("Row indices for swap are out of bounds.");
+        }
+        if (rowIndex1 == rowIndex2) return;
+        long before = rowPart(rowIndex1) + rowPart(rowIndex2);
+        swapRowData(data, cols, rowIndex1, rowIndex2);
+        updateFingerprint(before, rowPart(rowIndex1) + rowPart(rowIndex2));
+    }
+
+    // 46. 특정 두 열의 위치 교환
+    @Override
+    public void swapCols(int colIndex1, int colIndex2) {
+        if (colIndex1 < 0 || colIndex1 >= cols || colIndex2 < 0 || colIndex2 >= cols) {
+            throw new IndexOutOfBoundsException("Column indices for swap are out of bounds.");
+        }
+        if (colIndex1 == colIndex2) return;
+        long before = colPart(colIndex1) + colPart(colIndex2);
+        for (int i = 0; i < rows; i++) {
+            int base = i * cols;
+            double temp = data[base + colIndex1];
+            data[base + colIndex1] = data[base + colIndex2];
+            data[base + colIndex2] = temp;
+        }
+        updateFingerprint(before, colPart(colIndex1) + colPart(colIndex2));
+    }
+
+    // 47. 특정 행에 상수배
+    @Override
+    public void multiplyRow(int rowIndex, Scalar scalar) {
+        if (scalar == null) throw new IllegalArgumentException("Scalar for multiplyRow cannot be null.");
+        if (rowIndex < 0 || rowIndex >= rows) {
+            throw new IndexOutOfBoundsException("Row index for multiplyRow is out of bounds.");
+        }
+        double k = scalar.getValue().doubleValue();
+        long before = rowPart(rowIndex);
+        int base = rowIndex * cols;
+        for (int j = 0; j < cols; j++) {
+            data[base + j] *= k;
+        }
+        updateFingerprint(before, rowPart(rowIndex));
+    }
+
+    // 48. 특정 열에 상수배
+    @Override
+    public void multiplyCol(int colIndex, Scalar scalar) {
+        if (scalar == null) throw new IllegalArgumentException("Scalar for multiplyCol cannot be null.");
+        if (colIndex < 0 || colIndex >= cols) {
+            throw new IndexOutOfBoundsException("Column index for multiplyCol is out of bounds.");
+        }
+        double k = scalar.getValue().doubleValue();
+        long before = colPart(colIndex);
+        for (int i = 0; i < rows; i++) {
+            data[i * cols + colIndex] *= k;
+        }
+        updateFingerprint(before, colPart(colIndex));
+    }
+
+    // 49. 특정 행에 다른 행의 상수배를 더함 (targetRow += scalar * sourceRow)
+    @Override
+    public void addScaledRow(int targetRowIndex, int sourceRowIndex, Scalar scalar) {
+        if (scalar == null) throw new IllegalArgumentException("Scalar for addScaledRow cannot be null.");
+        if (targetRowIndex < 0 || targetRowIndex >= rows || sourceRowIndex < 0 || sourceRowIndex >= rows) {
+            throw new IndexOutOfBoundsException("Row indices for addScaledRow are out of bounds.");
+        }
+        // target == source인 경우도 요소별로 target *= (1 + scalar)와 같은 결과가 됨
+        double k = scalar.getValue().doubleValue();
+        long before = rowPart(targetRowIndex);
+        int target = targetRowIndex * cols;
+        int source = sourceRowIndex * cols;
+        for (int j = 0; j < cols; j++) {
+            data[target + j] += k * data[source + j];
+        }
+        updateFingerprint(before, rowPart(targetRowIndex));
+    }
+
+    // 50. 특정 열에 다른 열의 상수배를 더함 (targetCol += scalar * sourceCol)
+    @Override
+    public void addScaledCol(int targetColIndex, int sourceColIndex, Scalar scalar) {
+        if (scalar == null) throw new IllegalArgumentException("Scalar for addScaledCol cannot be null.");
+        if (targetColIndex < 0 || targetColIndex >= cols || sourceColIndex < 0 || sourceColIndex >= cols) {
+            throw new IndexOutOfBoundsException("Column indices for addScaledCol are out of bounds.");
+        }
+        double k = scalar.getValue().doubleValue();
+        long before = colPart(targetColIndex);
+        for (int i = 0; i < rows; i++) {
+            int base = i * cols;
+            data[base + targetColIndex] += k * data[base + sourceColIndex];
+        }
+        updateFingerprint(before, colPart(targetColIndex));
+    }
+
+    // 51. RREF 행렬 구해서 반환 (새 행렬 반환, ResultCache를 켜 두면 같은 내용의 결과는 저장된 결과의 복사본)
+    @Override
+    public Matrix rref() {
+        return ResultCache.rref(this, null, () -> {
+            double[] a = data.clone();
+            gaussJordan(a, rows, cols, cols);
+            return new DenseMatrixImpl(rows, cols, a);
+        });
+    }
+
+    // 52. 자신이 RREF 행렬인지 여부 판별
+    @Override
+    public boolean isRREF() {
+        int lead = -1;
+        for (int r = 0; r < rows; r++) {
+            int currentLead = -1;
+            for (int c = 0; c < cols; c++) {
+                double v = data[r * cols + c];
+                if (v != 0.0) {
+                    if (v != 1.0) return false;
+                    currentLead = c;
+                    break;
+                }
+            }
+            if (currentLead == -1) {
+                // 0행 아래에는 0행만 올 수 있음
+                for (int k = (r + 1) * cols; k < data.length; k++) {
+                    if (data[k] != 0.0) return false;
+                }
+                return true;
+            }
+            if (currentLead <= lead) return false;
+            lead = currentLead;
+            for (int i = 0; i < rows; i++) {
+                if (i != r && data[i * cols + currentLead] != 0.0) return false;
+            }
+        }
+        return true;
+    }
+
+    // 53. 행렬식 (nxn 행렬) - 부분 피벗팅 LU 분해, O(n^3)
+    // 곱이 double 범위를 넘어 NaN/무한대가 되면 BigDecimal 저장소로 옮겨 다시 계산
+    @Override
+    public Scalar determinant() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Determinant is defined only for square matrices.");
+        }
+        return ResultCache.determinant(this, null, () -> {
+            double det = LUDecomposition.determinant(data.clone(), rows);
+            if (Double.isFinite(det)) return Factory.buildScalar(BigDecimal.valueOf(det));
+            return toScalarMatrix().determinant();
+        });
+    }
+
+    // 53-1. 정확한 행렬식 (각 double 값을 BigDecimal로 옮겨 반올림 없이 계산)
+    @Override
+    public Scalar exactDeterminant() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Determinant is defined only for square matrices.");
+        }
+        if (rows == 0) return ImmutableScalar.ONE.clone();
+        return toScalarMatrix().exactDeterminant();
+    }
+
+    // BigDecimal 저장소(MatrixImpl) 행렬로 변환
+    private Matrix toScalarMatrix() {
+        Scalar[][] scalars = new Scalar[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                scalars[i][j] = Factory.buildScalar(decimal(data[i * cols + j]));
+            }
+        }
+        return Factory.buildMatrix(scalars);
+    }
+
+    // 54. 역행렬 (nxn 행렬, 새 행렬 반환) - [A | I]에 가우스-조던 소거
+    @Override
+    public Matrix inverse() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Inverse is defined only for square matrices.");
+        }
+        return ResultCache.inverse(this, null, this::inverted);
+    }
+
+    private Matrix inverted() {
+        int n = rows;
+        int width = 2 * n;
+        double[] augmented = new double[n * width];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(data, i * n, augmented, i * width, n);
+            augmented[i * width + n + i] = 1.0;
+        }
+        int rank = gaussJordan(augmented, n, width, n);
+        if (rank < n) {
+            throw new SingularMatrixException("Matrix is singular, inverse does not exist.");
+        }
+        double[] inv = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(augmented, i * width + n, inv, i * n, n);
+        }
+        return new DenseMatrixImpl(n, n, inv);
+    }
+
+    // 앞쪽 pivotCols개 열에 대해 부분 피벗팅 가우스-조던 소거를 제자리에서 수행하고 피벗 개수(rank)를 반환
+    // 0 판정은 행렬 전체에 하나인 절대 기준이 아니라 값마다 상대적으로 한다: 뺄셈 결과는 두 피연산자에 비해 상쇄됐을 때만 0으로 맞추고(cancelled),
+    // 피벗 후보는 입력의 같은 열과 같은 행의 최대 |값| 모두에 비해 무시할 만할 때만 0으로 본다(negligible).
+    // 그래서 크기가 크게 다른 행/열이 섞이거나 요소가 모두 아주 크거나 작아도 계수를 잃지 않는다. 피벗은 정확히 1로 맞춰 isRREF()가 결과를 그대로 인정하도록 함
+    // 연산량이 Tensors의 병렬 기준 이상이면 피벗마다 나머지 행의 소거를 여러 스레드로 나눠 실행 (결과는 순차 실행과 동일)
+    static int gaussJordan(double[] a, int rows, int cols, int pivotCols) {
+        double[] colScale = new double[pivotCols];
+        double[] rowScale = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            int base = i * cols;
+            for (int j = 0; j < pivotCols; j++) {
+                double abs = Math.abs(a[base + j]);
+                if (abs > colScale[j]) colScale[j] = abs;
+                if (abs > rowScale[i]) rowScale[i] = abs;
+            }
+        }
+        boolean parallel = Tensors.shouldParallelize(rows, rows, cols);
+        int grain = Math.max(1, PARALLEL_ELEMENTS_PER_TASK / Math.max(1, cols));
+        int r = 0;
+        for (int lead = 0; lead < pivotCols && r < rows; lead++) {
+            int p = pivotRow(a, rows, cols, r, lead, colScale[lead], rowScale);
+            if (p < 0) {
+                for (int i = r; i < rows; i++) {
+                    a[i * cols + lead] = 0.0;
+                }
+                continue;
+            }
+            swapRowData(a, cols, p, r);
+            double scale = rowScale[p];
+            rowScale[p] = rowScale[r];
+            rowScale[r] = scale;
+
+            // 나눗셈은 상쇄를 만들지 않으므로 피벗 행의 작은 값도 그대로 둔다
+            int pivotBase = r * cols;
+            double inversePivot = 1.0 / a[pivotBase + lead];
+            for (int j = lead + 1; j < cols; j++) {
+                a[pivotBase + j] *= inversePivot;
+            }
+            a[pivotBase + lead] = 1.0;
+
+            int currentRow = r;
+            int currentLead = lead;
+            if (parallel) {
+                ParallelRange.run(0, rows, grain, (start, end) -> eliminateRows(a, cols, start, end, currentRow, currentLead));
+            } else {
+                eliminateRows(a, cols, 0, rows, currentRow, currentLead);
+            }
+            r++;
+        }
+        return r;
+    }
+
+    // [start, end) 행 중 피벗 행을 제외한 각 행에서 pivotCol 열을 소거 (각 행은 피벗 행만 읽고 자기 행만 갱신)
+    private static void eliminateRows(double[] a, int cols, int start, int end, int pivotRow, int pivotCol) {
+        int pivotBase = pivotRow * cols;
+        for (int i = start; i < end; i++) {
+            if (i == pivotRow) continue;
+            int base = i * cols;
+            double factor = a[base + pivotCol];
+            if (factor == 0.0) continue;
+            for (int j = pivotCol + 1; j < cols; j++) {
+                double old = a[base + j];
+                double product = factor * a[pivotBase + j];
+                double v = old - product;
+                a[base + j] = cancelled(v, old, product) ? 0.0 : v;
+            }
+            a[base + pivotCol] = 0.0;
+        }
+    }
+
+    // x - y의 결과 v가 두 피연산자에 비해 EPSILON 이하로 작으면 반올림 잔차로 보고 0으로 맞춤 (SparseRref와 공유)
+    static boolean cancelled(double v, double x, double y) {
+        return Math.abs(v) <= EPSILON * Math.max(Math.abs(x), Math.abs(y));
+    }
+
+    // 피벗 후보가 입력의 같은 열과 같은 행의 최대 |값| 모두에 비해 EPSILON 이하이면 0으로 봄 (SparseRref와 공유)
+    static boolean negligible(double v, double colScale, double rowScale) {
+        double abs = Math.abs(v);
+        return abs == 0.0 || (abs <= EPSILON * colScale && abs <= EPSILON * rowScale);
+    }
+
+    // fromRow 이후 행 중 col 열에서 무시할 수 없는 값 가운데 절댓값이 가장 큰 행 (부분 피벗팅), 없으면 -1
+    private static int pivotRow(double[] a, int rows, int cols, int fromRow, int col, double colScale, double[] rowScale) {
+        int best = -1;
+        double bestAbs = 0.0;
+        for (int i = fromRow; i < rows; i++) {
+            double v = a[i * cols + col];
+            if (negligible(v, colScale, rowScale[i])) continue;
+            if (best < 0 || Math.abs(v) > bestAbs) {
+                best = i;
+                bestAbs = Math.abs(v);
+            }
+        }
+        return best;
+    }
+
+    private static void swapRowData(double[] a, int cols, int rowIndex1, int rowIndex2) {
+        if (rowIndex1 == rowIndex2) return;
+        int base1 = rowIndex1 * cols;
+        int base2 = rowIndex2 * cols;
+        for (int j = 0; j < cols; j++) {
+            double temp = a[base1 + j];
+            a[base1 + j] = a[base2 + j];
+            a[base2 + j] = temp;
+        }
+    }
+}
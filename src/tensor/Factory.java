@@ -1,73 +1,390 @@
 package tensor;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List; // 추가
+import java.util.concurrent.ThreadLocalRandom;
 
 public class Factory {
+    // BigDecimal 연산의 기본 정밀도 정책 (rref/inverse/determinant, 행 연산, 난수 스칼라, toString(int), isZero/isOne)
+    private static volatile PrecisionPolicy precisionPolicy = PrecisionPolicy.DEFAULT;
+
+    public static PrecisionPolicy getPrecisionPolicy() {
+        return precisionPolicy;
+    }
+
+    public static void setPrecisionPolicy(PrecisionPolicy policy) {
+        if (policy == null) throw new IllegalArgumentException("Precision policy cannot be null.");
+        precisionPolicy = policy;
+    }
+
+    // 저장소를 지정하지 않은 buildMatrix의 기본 저장소 (기본값 BIG_DECIMAL: MatrixImpl)
+    private static volatile StorageType defaultStorageType = StorageType.BIG_DECIMAL;
+
+    public static StorageType getDefaultStorageType() {
+        return defaultStorageType;
+    }
+
+    public static void setDefaultStorageType(StorageType type) {
+        if (type == null) throw new IllegalArgumentException("Storage type cannot be null.");
+        defaultStorageType = type;
+    }
+
     // Scalar
     public static Scalar buildScalar(String ss) {
-        return null;
+        return new ScalarImpl(ss);
     }
 
     public static Scalar buildScalar(BigDecimal bd) {
-        return null;
+        return new ScalarImpl(bd);
     }
 
     public static Scalar buildScalar(double ii, double jj) {
-        return null;
+        return new ScalarImpl(ii, jj);
+    }
+
+    // 저장소 종류에 맞는 스칼라: RATIONAL이면 RationalScalar, 그 밖에는 BigDecimal 스칼라
+    public static Scalar buildScalar(String ss, StorageType type) {
+        return (checkType(type) == StorageType.RATIONAL) ? new RationalScalar(ss) : new ScalarImpl(ss);
+    }
+
+    public static Scalar buildScalar(BigDecimal bd, StorageType type) {
+        return (checkType(type) == StorageType.RATIONAL) ? new RationalScalar(bd) : new ScalarImpl(bd);
+    }
+
+    // 유리수 스칼라 (BigInteger 분자/분모, 기약분수로 정규화): "3", "-0.25", "1/3" 형식
+    public static Scalar buildRationalScalar(String ss) {
+        return new RationalScalar(ss);
+    }
+
+    public static Scalar buildRationalScalar(BigInteger numerator, BigInteger denominator) {
+        return new RationalScalar(numerator, denominator);
+    }
+
+    // BigDecimal 값을 그대로 분수로 (0.1 -> 1/10)
+    public static Scalar buildRationalScalar(BigDecimal bd) {
+        return new RationalScalar(bd);
     }
 
 
     // Vector
     public static Vector buildVector(int nn, double dd) {
-        return null;
+        return new VectorImpl(nn, dd);
     }
 
+    // 난수 요소 [ii, jj): 임의의 시드로 buildRandomVector와 같은 경로를 사용
     public static Vector buildVector(int nn, double ii, double jj) {
-        return null;
+        return buildRandomVector(nn, ii, jj, ThreadLocalRandom.current().nextLong());
     }
 
     public static Vector buildVector(double[] arr) {
-        return null;
+        return new VectorImpl(arr);
     }
 
     public static Vector buildVector(Scalar[] arr) {
-        return null;
+        if (arr == null) throw new IllegalArgumentException("Scalar array cannot be null.");
+        return new VectorImpl(Arrays.asList(arr));
     }
 
     public static Vector buildVector(List<Scalar> scalarList) {
-        return null;
+        return new VectorImpl(scalarList);
     }
 
 
-    // Matrix
+    // Matrix: 기본 저장소(getDefaultStorageType())로 생성
+    // Scalar[][]/List<Vector>는 이미 스칼라 객체이므로 기본 저장소와 무관하게 요소를 그대로 복제해 MatrixImpl로 생성 (유리수 요소 등 유지)
     public static Matrix buildMatrix(int mm, int nn, double dd) {
-        return null;
+        return buildMatrix(mm, nn, dd, defaultStorageType);
     }
 
     public static Matrix buildMatrix(int mm, int nn, double ii, double jj) {
-        return null;
+        return buildMatrix(mm, nn, ii, jj, defaultStorageType);
     }
 
     public static Matrix buildMatrix(String csvFilePath) throws CsvParseException {
-        return null;
+        return buildMatrix(csvFilePath, defaultStorageType);
     }
 
     public static Matrix buildMatrix(double[][] arr) {
-        return null;
+        return buildMatrix(arr, defaultStorageType);
+    }
+
+    // 행 우선 1차원 배열: (i, j) 요소는 data[i * nn + j]
+    public static Matrix buildMatrix(int mm, int nn, double[] data) {
+        return buildMatrix(mm, nn, data, defaultStorageType);
     }
 
     public static Matrix buildMatrix(Scalar[][] data) {
-        return null;
+        return new MatrixImpl(data);
     }
 
     public static Matrix buildMatrix(int dimension) {
-        return null;
+        return buildMatrix(dimension, defaultStorageType);
     }
 
     public static Matrix buildMatrix(List<Vector> rows) {
-        return null;
+        return new MatrixImpl(rows);
+    }
+
+    // Matrix: 저장소 지정. 저장소마다 중간 변환이 가장 적은 경로로 생성
+    public static Matrix buildMatrix(int mm, int nn, double dd, StorageType type) {
+        switch (checkType(type)) {
+            case DOUBLE:
+                return new DenseMatrixImpl(mm, nn, dd);
+            case RATIONAL:
+                return filledRationalMatrix(mm, nn, new RationalScalar(BigDecimal.valueOf(dd)), null);
+            case SPARSE:
+                return (dd == 0.0) ? buildCsrMatrix(mm, nn) : SparseMatrixImpl.compressed(new DenseMatrixImpl(mm, nn, dd), true);
+            default:
+                return new MatrixImpl(mm, nn, dd);
+        }
+    }
+
+    // 난수 요소 [ii, jj): 임의의 시드로 buildRandomMatrix와 같은 경로를 사용
+    public static Matrix buildMatrix(int mm, int nn, double ii, double jj, StorageType type) {
+        return buildRandomMatrix(mm, nn, ii, jj, ThreadLocalRandom.current().nextLong(), type);
+    }
+
+    // CSV: double/희소 저장소는 스트리밍 파서(CsvMatrixReader), BigDecimal/유리수는 값의 십진 표기를 그대로 보존
+    public static Matrix buildMatrix(String csvFilePath, StorageType type) throws CsvParseException {
+        switch (checkType(type)) {
+            case DOUBLE:
+                return CsvMatrixReader.read(csvFilePath);
+            case RATIONAL:
+                return buildRationalMatrix(new MatrixImpl(csvFilePath));
+            case SPARSE:
+                return SparseMatrixImpl.compressed(CsvMatrixReader.read(csvFilePath), true);
+            default:
+                return new MatrixImpl(csvFilePath);
+        }
+    }
+
+    public static Matrix buildMatrix(double[][] arr, StorageType type) {
+        switch (checkType(type)) {
+            case DOUBLE:
+                return new DenseMatrixImpl(arr);
+            case RATIONAL:
+                return buildRationalMatrix(arr);
+            case SPARSE:
+                return SparseMatrixImpl.fromArray(true, arr);
+            default:
+                return new MatrixImpl(arr);
+        }
+    }
+
+    public static Matrix buildMatrix(int mm, int nn, double[] data, StorageType type) {
+        if (mm <= 0 || nn <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        if (data == null) throw new IllegalArgumentException("Data array cannot be null.");
+        switch (checkType(type)) {
+            case DOUBLE:
+                return new DenseMatrixImpl(mm, nn, data.clone());
+            case RATIONAL:
+                return buildRationalMatrix(new MatrixImpl(mm, nn, data));
+            case SPARSE:
+                return SparseMatrixImpl.compressed(new DenseMatrixImpl(mm, nn, data), true); // 압축 시 복사되므로 원본 배열을 그대로 사용
+            default:
+                return new MatrixImpl(mm, nn, data);
+        }
+    }
+
+    public static Matrix buildMatrix(Scalar[][] data, StorageType type) {
+        return buildMatrix(new MatrixImpl(data), type);
+    }
+
+    // 단위 행렬
+    public static Matrix buildMatrix(int dimension, StorageType type) {
+        switch (checkType(type)) {
+            case DOUBLE:
+                return new DenseMatrixImpl(dimension);
+            case RATIONAL:
+                if (dimension <= 0) throw new IllegalArgumentException("Dimension for identity matrix must be positive.");
+                return filledRationalMatrix(dimension, dimension, new RationalScalar(BigInteger.ZERO, BigInteger.ONE),
+                        new RationalScalar(BigInteger.ONE, BigInteger.ONE));
+            case SPARSE:
+                return SparseMatrixImpl.identity(true, dimension);
+            default:
+                return new MatrixImpl(dimension);
+        }
+    }
+
+    public static Matrix buildMatrix(List<Vector> rows, StorageType type) {
+        return buildMatrix(new MatrixImpl(rows), type);
+    }
+
+    // 시드를 지정한 난수 행렬/벡터 (요소 [ii, jj)): 같은 시드면 병렬 실행 여부나 스레드 수와 무관하게 항상 같은 값
+    // SplittableRandom 스트림으로 블록을 병렬로 채우며, BigDecimal/유리수 요소는 정책의 randomScale 자릿수로 반올림
+    public static Matrix buildRandomMatrix(int mm, int nn, double ii, double jj, long seed) {
+        return buildRandomMatrix(mm, nn, ii, jj, seed, defaultStorageType);
+    }
+
+    public static Matrix buildRandomMatrix(int mm, int nn, double ii, double jj, long seed, StorageType type) {
+        switch (checkType(type)) {
+            case DOUBLE:
+                return RandomFill.denseMatrix(mm, nn, ii, jj, seed);
+            case RATIONAL:
+                return buildRationalMatrix(RandomFill.decimalMatrix(mm, nn, ii, jj, seed, precisionPolicy));
+            case SPARSE:
+                return SparseMatrixImpl.compressed(RandomFill.denseMatrix(mm, nn, ii, jj, seed), true);
+            default:
+                return RandomFill.decimalMatrix(mm, nn, ii, jj, seed, precisionPolicy);
+        }
+    }
+
+    public static Vector buildRandomVector(int nn, double ii, double jj, long seed) {
+        return RandomFill.decimalVector(nn, ii, jj, seed, precisionPolicy);
+    }
+
+    // 다른 저장소의 행렬을 지정한 저장소로 변환 (항상 새 행렬을 반환)
+    public static Matrix buildMatrix(Matrix matrix, StorageType type) {
+        if (matrix == null) throw new IllegalArgumentException("Source matrix cannot be null.");
+        switch (checkType(type)) {
+            case DOUBLE:
+                return new DenseMatrixImpl(matrix);
+            case RATIONAL:
+                return buildRationalMatrix(matrix);
+            case SPARSE:
+                return buildCsrMatrix(matrix);
+            default:
+                if (matrix instanceof MatrixImpl && !((MatrixImpl) matrix).isRational()) return matrix.clone();
+                int[] size = matrix.getSize();
+                Scalar[][] data = new Scalar[size[0]][size[1]];
+                for (int i = 0; i < size[0]; i++) {
+                    for (int j = 0; j < size[1]; j++) {
+                        data[i][j] = new ScalarImpl(matrix.viewElement(i, j).getValue());
+                    }
+                }
+                return (size[0] == 0) ? new MatrixImpl(new ArrayList<>()) : new MatrixImpl(data);
+        }
+    }
+
+    private static StorageType checkType(StorageType type) {
+        if (type == null) throw new IllegalArgumentException("Storage type cannot be null.");
+        return type;
+    }
+
+    // 모든 요소를 fill로, diagonal이 null이 아니면 대각 요소를 diagonal로 채운 유리수 행렬 (MatrixImpl이 요소를 복제해 저장)
+    private static Matrix filledRationalMatrix(int mm, int nn, Scalar fill, Scalar diagonal) {
+        if (mm <= 0 || nn <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        Scalar[][] data = new Scalar[mm][nn];
+        for (int i = 0; i < mm; i++) {
+            Arrays.fill(data[i], fill);
+            if (diagonal != null && i < nn) data[i][i] = diagonal;
+        }
+        return new MatrixImpl(data);
+    }
+
+    // 밀집(double[] 행 우선) 저장소 행렬: 요소별 Scalar 객체가 없어 대형 행렬의 rref 등에 적합
+    public static Matrix buildDenseMatrix(int mm, int nn, double dd) {
+        return new DenseMatrixImpl(mm, nn, dd);
+    }
+
+    public static Matrix buildDenseMatrix(double[][] arr) {
+        return new DenseMatrixImpl(arr);
+    }
+
+    public static Matrix buildDenseMatrix(int dimension) {
+        return new DenseMatrixImpl(dimension);
+    }
+
+    // 다른 저장소의 행렬을 밀집 저장소로 변환 (BigDecimal -> double)
+    public static Matrix buildDenseMatrix(Matrix matrix) {
+        return new DenseMatrixImpl(matrix);
+    }
+
+    // CSV 파일을 밀집 저장소로 스트리밍 로딩 (중간 String/Scalar 객체 없이 바이트에서 바로 파싱)
+    public static Matrix buildDenseMatrix(String csvFilePath) throws CsvParseException {
+        return CsvMatrixReader.read(csvFilePath);
+    }
+
+    // 희소 행렬 (CSR: 행 압축, CSC: 열 압축): 0이 아닌 요소만 저장하므로 메모리가 O(nnz)
+    public static Matrix buildCsrMatrix(int mm, int nn) {
+        if (mm <= 0 || nn <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        return new CsrMatrixImpl(mm, nn, new int[mm + 1], new int[0], new double[0]);
+    }
+
+    public static Matrix buildCsrMatrix(int dimension) {
+        return SparseMatrixImpl.identity(true, dimension);
+    }
+
+    public static Matrix buildCsrMatrix(double[][] arr) {
+        return SparseMatrixImpl.fromArray(true, arr);
+    }
+
+    // 다른 저장소의 행렬을 CSR로 변환
+    public static Matrix buildCsrMatrix(Matrix matrix) {
+        if (matrix == null) throw new IllegalArgumentException("Source matrix cannot be null.");
+        SparseMatrixImpl sparse = SparseMatrixImpl.compressed(matrix, true);
+        return (sparse == matrix) ? sparse.clone() : sparse;
+    }
+
+    // 압축 배열로 생성: i행의 요소는 colIndices/values의 [rowPointers[i], rowPointers[i+1]) 구간 (열 인덱스 오름차순)
+    public static Matrix buildCsrMatrix(int mm, int nn, int[] rowPointers, int[] colIndices, double[] values) {
+        return SparseMatrixImpl.fromArrays(true, mm, nn, rowPointers, colIndices, values);
+    }
+
+    public static Matrix buildCscMatrix(int mm, int nn) {
+        if (mm <= 0 || nn <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        return new CscMatrixImpl(mm, nn, new int[nn + 1], new int[0], new double[0]);
+    }
+
+    public static Matrix buildCscMatrix(int dimension) {
+        return SparseMatrixImpl.identity(false, dimension);
+    }
+
+    public static Matrix buildCscMatrix(double[][] arr) {
+        return SparseMatrixImpl.fromArray(false, arr);
+    }
+
+    // 다른 저장소의 행렬을 CSC로 변환
+    public static Matrix buildCscMatrix(Matrix matrix) {
+        if (matrix == null) throw new IllegalArgumentException("Source matrix cannot be null.");
+        SparseMatrixImpl sparse = SparseMatrixImpl.compressed(matrix, false);
+        return (sparse == matrix) ? sparse.clone() : sparse;
+    }
+
+    // 압축 배열로 생성: j열의 요소는 rowIndices/values의 [colPointers[j], colPointers[j+1]) 구간 (행 인덱스 오름차순)
+    public static Matrix buildCscMatrix(int mm, int nn, int[] colPointers, int[] rowIndices, double[] values) {
+        return SparseMatrixImpl.fromArrays(false, mm, nn, colPointers, rowIndices, values);
+    }
+
+    // 유리수 요소 행렬: rref()/inverse()가 반올림 없이 정확한 결과를 냄
+    // double 요소는 BigDecimal.valueOf의 십진 표현을 분수로 바꿈 (0.1 -> 1/10)
+    public static Matrix buildRationalMatrix(double[][] arr) {
+        if (arr == null || arr.length == 0) throw new IllegalArgumentException("Size 0 not allowed");
+        Scalar[][] data = new Scalar[arr.length][];
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == null) throw new IllegalArgumentException("Rows cannot be null.");
+            data[i] = new Scalar[arr[i].length];
+            for (int j = 0; j < arr[i].length; j++) {
+                data[i][j] = new RationalScalar(BigDecimal.valueOf(arr[i][j]));
+            }
+        }
+        return new MatrixImpl(data);
+    }
+
+    // 다른 저장소의 행렬을 유리수 요소 행렬로 변환 (각 요소의 BigDecimal 값을 정확히 분수로)
+    public static Matrix buildRationalMatrix(Matrix matrix) {
+        if (matrix == null) throw new IllegalArgumentException("Source matrix cannot be null.");
+        int[] size = matrix.getSize();
+        Scalar[][] data = new Scalar[size[0]][size[1]];
+        for (int i = 0; i < size[0]; i++) {
+            for (int j = 0; j < size[1]; j++) {
+                data[i][j] = RationalScalar.of(matrix.viewElement(i, j));
+            }
+        }
+        return new MatrixImpl(data);
+    }
+
+    // 바이너리 행렬 파일(MatrixFile 형식)을 메모리 매핑으로 열기: 요소를 읽거나 복사하지 않으므로 크기와 무관하게 바로 열림
+    public static Matrix buildMappedMatrix(String filePath) throws MatrixFileException {
+        return MatrixFile.open(filePath);
+    }
+
+    // 행렬을 바이너리 행렬 파일로 저장 (요소는 double로 저장되므로 BigDecimal 행렬은 double 정밀도로 변환됨)
+    public static void writeMatrixFile(Matrix matrix, String filePath) throws MatrixFileException {
+        MatrixFile.write(matrix, filePath);
     }
 }
\ No newline at end of file
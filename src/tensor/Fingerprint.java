@@ -0,0 +1,107 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+// 행렬 내용 지문(Matrix.fingerprint) 계산
+// 지문 = 크기 + 0이 아닌 요소마다 mix(위치, 요소 해시)의 합 (mod 2^64). 요소별 기여를 더하기만 하므로
+// 요소 하나/행 하나가 바뀌면 그 기여만 빼고 다시 더해 갱신할 수 있다 (MatrixImpl이 이 방식으로 지문을 유지).
+// 요소 해시는 값 기준(스케일 무관, 0은 0)이고 RationalScalar는 별도 태그를 붙여 BigDecimal 요소와 구분한다.
+// 같은 저장소 종류에서 equals인 행렬은 지문이 같고, 서로 다른 행렬의 지문이 같을 확률은 약 2^-64
+// (의도적으로 만든 충돌까지 막지는 못하므로 지문만으로 내용이 같다고 판단하지 않는다. ResultCache는 적중 때 내용을 다시 비교)
+final class Fingerprint {
+    private static final long RATIONAL_TAG = 0x9E3779B97F4A7C15L;
+    private static final long DOUBLE_TAG = 0xC2B2AE3D27D4EB4FL;
+    private static final long ROW_PRIME = 0xFF51AFD7ED558CCDL;
+    private static final long COL_PRIME = 0xC4CEB9FE1A85EC53L;
+
+    private Fingerprint() {
+    }
+
+    // (i, j) 위치의 요소 기여 (요소 해시가 0이면 0)
+    static long at(int rowIndex, int colIndex, long elementHash) {
+        if (elementHash == 0) return 0;
+        return mix(elementHash + mix(rowIndex * ROW_PRIME + colIndex * COL_PRIME));
+    }
+
+    static long finish(int rows, int cols, long sum) {
+        return mix(sum + mix(((long) rows << 32) | (cols & 0xFFFFFFFFL)));
+    }
+
+    static long element(Scalar element) {
+        if (element instanceof RationalScalar) {
+            RationalScalar rational = (RationalScalar) element;
+            if (rational.numerator().signum() == 0) return 0;
+            return mix(hash(rational.numerator()) * 31 + hash(rational.denominator()) + RATIONAL_TAG);
+        }
+        BigDecimal value = element.getValue();
+        if (value.signum() == 0) return 0;
+        int scale = value.scale();
+        BigInteger unscaled = value.unscaledValue();
+        long mantissa;
+        if (unscaled.bitLength() < 64) { // 흔한 경우: 객체 생성 없이 끝자리 0 제거
+            mantissa = unscaled.longValue();
+            while (mantissa % 10 == 0) {
+                mantissa /= 10;
+                scale--;
+            }
+        } else {
+            BigDecimal stripped = value.stripTrailingZeros();
+            scale = stripped.scale();
+            mantissa = hash(stripped.unscaledValue());
+        }
+        return mix(mix(mantissa) + scale);
+    }
+
+    static long element(double value) {
+        if (value == 0.0) return 0; // -0.0도 0
+        return mix(Double.doubleToLongBits(value) + DOUBLE_TAG);
+    }
+
+    // 임의의 Matrix (요소를 하나씩 조회, 전용 구현이 없는 뷰 등에서 사용)
+    static long of(Matrix m) {
+        int rows = m.rowCount();
+        int cols = m.colCount();
+        long sum = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                sum += at(i, j, element(m.viewElement(i, j)));
+            }
+        }
+        return finish(rows, cols, sum);
+    }
+
+    // double 행 우선 배열
+    static long of(int rows, int cols, double[] data) {
+        return finish(rows, cols, sum(rows, cols, data));
+    }
+
+    // finish 전의 요소 기여 합 (DenseMatrixImpl이 유지하는 값)
+    static long sum(int rows, int cols, double[] data) {
+        long sum = 0;
+        for (int i = 0; i < rows; i++) {
+            int base = i * cols;
+            for (int j = 0; j < cols; j++) {
+                sum += at(i, j, element(data[base + j]));
+            }
+        }
+        return sum;
+    }
+
+    // 64비트에 들어가면 값 그대로, 아니면 2의 보수 바이트열의 FNV 방식 해시
+    private static long hash(BigInteger value) {
+        if (value.bitLength() < 64) return value.longValue();
+        long h = 0xCBF29CE484222325L;
+        for (byte b : value.toByteArray()) {
+            h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return h;
+    }
+
+    // SplitMix64 마무리 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
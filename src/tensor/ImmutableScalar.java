@@ -0,0 +1,127 @@
+package tensor;
+
+import java.math.BigDecimal;
+
+// 불변 스칼라: add/multiply가 자신을 바꾸지 않고 결과를 새 값(또는 캐시된 상수)으로 반환
+// 자주 쓰는 값(ZERO, ONE, MINUS_ONE, -128 ~ 127의 정수)은 미리 만들어 두고 공유하므로,
+// 소거 루프의 배율처럼 읽기 전용으로 쓰는 스칼라를 문자열 파싱이나 새 객체 없이 얻을 수 있다.
+// setValue는 지원하지 않으며, clone()은 변경 가능한 ScalarImpl을 반환한다 (행렬/벡터에 저장될 때 복제되므로 저장된 요소는 항상 변경 가능).
+// Scalar의 "자신을 변경" 규약을 따르지 않으므로 패키지 내부의 읽기 전용 배율/상수에만 쓰고 밖으로 반환하지 않는다.
+final class ImmutableScalar implements Scalar {
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 127;
+    private static final ImmutableScalar[] CACHE = new ImmutableScalar[CACHE_HIGH - CACHE_LOW + 1];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new ImmutableScalar(BigDecimal.valueOf(i + CACHE_LOW));
+        }
+    }
+
+    static final ImmutableScalar ZERO = valueOf(0);
+    static final ImmutableScalar ONE = valueOf(1);
+    static final ImmutableScalar MINUS_ONE = valueOf(-1);
+
+    private final BigDecimal value;
+
+    private ImmutableScalar(BigDecimal value) {
+        this.value = value;
+    }
+
+    static ImmutableScalar valueOf(long ll) {
+        if (ll >= CACHE_LOW && ll <= CACHE_HIGH) return CACHE[(int) ll - CACHE_LOW];
+        return new ImmutableScalar(BigDecimal.valueOf(ll));
+    }
+
+    // 스케일이 0인 작은 정수는 캐시된 상수를 반환 (2.0처럼 스케일이 있는 값은 표기를 유지하기 위해 새로 생성)
+    static ImmutableScalar valueOf(BigDecimal bd) {
+        if (bd == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        if (bd.scale() == 0 && bd.precision() <= 3) {
+            int small = bd.intValue();
+            if (small >= CACHE_LOW && small <= CACHE_HIGH) return CACHE[small - CACHE_LOW];
+        }
+        return new ImmutableScalar(bd);
+    }
+
+    // 12. 값 조회
+    @Override
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    // 12. 값 지정 (불변이므로 지원하지 않음)
+    @Override
+    public void setValue(BigDecimal value) {
+        throw new UnsupportedOperationException("ImmutableScalar cannot be modified.");
+    }
+
+    // 14s
+    @Override
+    public String toString() {
+        return value.toPlainString();
+    }
+
+    @Override
+    public String toString(int scale) {
+        PrecisionPolicy policy = Factory.getPrecisionPolicy();
+        return value.setScale(Math.min(scale, policy.getMaxToStringScale()), policy.getRoundingMode()).toPlainString();
+    }
+
+    // 15s. 값 기준 동등성 (ScalarImpl과 같은 규칙)
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof Scalar)) return false;
+        if (obj instanceof RationalScalar) return obj.equals(this); // 정확한 비교 (ScalarImpl과 같음)
+        return value.compareTo(((Scalar) obj).getValue()) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return value.stripTrailingZeros().hashCode();
+    }
+
+    // 16. 스칼라 값 대소 비교
+    @Override
+    public int compareTo(Scalar other) {
+        if (other instanceof RationalScalar) return -other.compareTo(this);
+        return value.compareTo(other.getValue());
+    }
+
+    // 17s. 변경 가능한 복제본 반환
+    @Override
+    public Scalar clone() {
+        return new ScalarImpl(value);
+    }
+
+    // 18. 스칼라 덧셈 (non-mutating: 결과를 새 값으로 반환)
+    @Override
+    public Scalar add(Scalar other) {
+        if (other == null) throw new IllegalArgumentException("Other scalar cannot be null for addition.");
+        BigDecimal otherValue = other.getValue();
+        if (otherValue.signum() == 0) return this;
+        if (value.signum() == 0 && other instanceof ImmutableScalar) return other;
+        return valueOf(value.add(otherValue));
+    }
+
+    // 19. 스칼라 곱셈 (non-mutating: 결과를 새 값으로 반환)
+    @Override
+    public Scalar multiply(Scalar other) {
+        if (other == null) throw new IllegalArgumentException("Other scalar cannot be null for multiplication.");
+        if (this == ONE && other instanceof ImmutableScalar) return other;
+        if (other == ONE) return this;
+        return valueOf(value.multiply(other.getValue()));
+    }
+
+    @Override
+    public boolean isZero() {
+        return Factory.getPrecisionPolicy().isZero(value);
+    }
+
+    @Override
+    public boolean isOne() {
+        return Factory.getPrecisionPolicy().isOne(value);
+    }
+}
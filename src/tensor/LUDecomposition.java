@@ -0,0 +1,104 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+// 부분 피벗팅 LU 분해 (PA = LU), O(n^3)
+// 분해 결과는 입력 배열에 제자리로 저장된다. U는 대각 포함 위쪽, L(단위 하삼각)은 대각 아래쪽.
+// 여인수 전개(O(n!))를 대신해 행렬식을 구하는 데 사용한다.
+final class LUDecomposition {
+    private LUDecomposition() {
+    }
+
+    // double 저장소 (n x n, 행 우선). 행 교환의 부호(+1/-1)를 반환하고, 특이 행렬이면 0을 반환
+    static int decompose(double[] a, int n, int[] pivots) {
+        int sign = 1;
+        for (int k = 0; k < n; k++) {
+            int p = k;
+            double maxAbs = Math.abs(a[k * n + k]);
+            for (int i = k + 1; i < n; i++) {
+                double abs = Math.abs(a[i * n + k]);
+                if (abs > maxAbs) {
+                    p = i;
+                    maxAbs = abs;
+                }
+            }
+            if (pivots != null) pivots[k] = p;
+            if (maxAbs == 0.0) return 0;
+            if (p != k) {
+                for (int j = 0; j < n; j++) {
+                    double temp = a[p * n + j];
+                    a[p * n + j] = a[k * n + j];
+                    a[k * n + j] = temp;
+                }
+                sign = -sign;
+            }
+            double pivot = a[k * n + k];
+            for (int i = k + 1; i < n; i++) {
+                double factor = a[i * n + k] / pivot;
+                a[i * n + k] = factor;
+                if (factor == 0.0) continue;
+                for (int j = k + 1; j < n; j++) {
+                    a[i * n + j] -= factor * a[k * n + j];
+                }
+            }
+        }
+        return sign;
+    }
+
+    // BigDecimal 저장소. 나눗셈은 mc의 정밀도로 반올림된다
+    static int decompose(BigDecimal[][] a, MathContext mc, int[] pivots) {
+        int n = a.length;
+        int sign = 1;
+        for (int k = 0; k < n; k++) {
+            int p = k;
+            BigDecimal maxAbs = a[k][k].abs();
+            for (int i = k + 1; i < n; i++) {
+                BigDecimal abs = a[i][k].abs();
+                if (abs.compareTo(maxAbs) > 0) {
+                    p = i;
+                    maxAbs = abs;
+                }
+            }
+            if (pivots != null) pivots[k] = p;
+            if (maxAbs.signum() == 0) return 0;
+            if (p != k) {
+                BigDecimal[] temp = a[p];
+                a[p] = a[k];
+                a[k] = temp;
+                sign = -sign;
+            }
+            BigDecimal pivot = a[k][k];
+            for (int i = k + 1; i < n; i++) {
+                if (a[i][k].signum() == 0) continue;
+                BigDecimal factor = a[i][k].divide(pivot, mc);
+                a[i][k] = factor;
+                for (int j = k + 1; j < n; j++) {
+                    a[i][j] = a[i][j].subtract(factor.multiply(a[k][j], mc), mc);
+                }
+            }
+        }
+        return sign;
+    }
+
+    // 행렬식 = sign * (U의 대각 요소 곱). 입력 배열은 분해 결과로 덮어쓰인다
+    static double determinant(double[] a, int n) {
+        int sign = decompose(a, n, null);
+        if (sign == 0) return 0.0;
+        double det = sign;
+        for (int k = 0; k < n; k++) {
+            det *= a[k * n + k];
+        }
+        return det;
+    }
+
+    static BigDecimal determinant(BigDecimal[][] a, MathContext mc) {
+        int sign = decompose(a, mc, null);
+        if (sign == 0) return BigDecimal.ZERO;
+        BigDecimal det = BigDecimal.ONE;
+        for (int k = 0; k < a.length; k++) {
+            det = det.multiply(a[k][k], mc);
+        }
+        return sign < 0 ? det.negate() : det;
+    }
+}
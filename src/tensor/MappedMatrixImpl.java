@@ -0,0 +1,356 @@
+package tensor;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// 메모리 매핑된 바이너리 행렬 파일(MatrixFile 형식)을 저장소로 쓰는 밀집 행렬
+// 요소/행/열 조회는 매핑된 영역을 복사 없이 직접 읽는다. rref, 곱셈 등 행렬 전체를 다루는 연산은
+// 한 번의 일괄 복사로 DenseMatrixImpl을 만들어 위임한다.
+// 파일은 읽기 전용으로 매핑되며, 처음 변경될 때 힙의 DenseMatrixImpl로 복사된 뒤(copy-on-write) 그쪽을 갱신한다.
+// 따라서 행렬을 변경해도 파일 내용은 바뀌지 않는다. Factory.buildMappedMatrix(...)로 생성한다.
+class MappedMatrixImpl implements Matrix {
+    private final int rows;
+    private final int cols;
+    private final DoubleBuffer[] segments; // 읽기 전용, 요소 k는 segments[k >>> SEGMENT_SHIFT]의 (k & mask) 위치
+    private DenseMatrixImpl detached;      // 첫 변경 이후의 저장소 (null이면 매핑된 파일을 사용 중)
+
+    MappedMatrixImpl(int rows, int cols, DoubleBuffer[] segments) {
+        this.rows = rows;
+        this.cols = cols;
+        this.segments = segments;
+    }
+
+    // 내부용 요소 접근 (복제 없음)
+    double get(int rowIndex, int colIndex) {
+        if (detached != null) return detached.get(rowIndex, colIndex);
+        long k = (long) rowIndex * cols + colIndex;
+        return segments[(int) (k >>> MatrixFile.SEGMENT_SHIFT)].get((int) (k & (MatrixFile.SEGMENT_ELEMENTS - 1)));
+    }
+
+    // 매핑된 요소 전체를 double[]로 일괄 복사한 밀집 행렬 (변경된 뒤라면 현재 내용의 복사본)
+    DenseMatrixImpl toDense() {
+        if (detached != null) return (DenseMatrixImpl) detached.clone();
+        long elements = (long) rows * cols;
+        if (elements > Integer.MAX_VALUE - 8) {
+            throw new InvalidOperationException("Matrix " + rows + "x" + cols + " is too large to load into a dense in-memory matrix.");
+        }
+        double[] data = new double[(int) elements];
+        int offset = 0;
+        for (DoubleBuffer segment : segments) {
+            DoubleBuffer source = segment.duplicate(); // 위치(position)를 공유하지 않도록 복제본으로 읽음
+            source.clear();
+            int count = source.remaining();
+            source.get(data, offset, count);
+            offset += count;
+        }
+        return new DenseMatrixImpl(rows, cols, data);
+    }
+
+    // 행렬 전체 연산에 사용할 밀집 행렬 (변경된 뒤라면 복사 없이 현재 저장소)
+    private DenseMatrixImpl dense() {
+        return detached != null ? detached : toDense();
+    }
+
+    // 변경 연산 전에 호출: 매핑된 파일 내용을 힙으로 복사해 이후 변경이 파일에 반영되지 않게 함
+    private DenseMatrixImpl writable() {
+        if (detached == null) {
+            detached = toDense();
+        }
+        return detached;
+    }
+
+    @Override
+    public List<Vector> getVectors() {
+        // 행별 복사본 목록 (변경해도 행렬에 반영되지 않음)
+        int numRows = rowCount();
+        List<Vector> result = new ArrayList<>(numRows);
+        for (int i = 0; i < numRows; i++) {
+            result.add(getRow(i));
+        }
+        return result;
+    }
+
+    // 11m. 특정 위치 요소 지정
+    @Override
+    public void setElement(int rowIndex, int colIndex, Scalar value) {
+        writable().setElement(rowIndex, colIndex, value);
+    }
+
+    // 11m. 특정 위치 요소 조회
+    @Override
+    public Scalar viewElement(int rowIndex, int colIndex) {
+        if (detached != null) return detached.viewElement(rowIndex, colIndex);
+        if (rowIndex < 0 || rowIndex >= rows || colIndex < 0 || colIndex >= cols) {
+            if (rows == 0 || cols == 0) {
+                throw new IndexOutOfBoundsException("Cannot view element in an empty or zero-dimension matrix.");
+            }
+            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + rows + "x" + cols);
+        }
+        return Factory.buildScalar(DenseMatrixImpl.decimal(get(rowIndex, colIndex)));
+    }
+
+    // 13. 행렬 크기 조회
+    @Override
+    public int[] getSize() {
+        return detached != null ? detached.getSize() : new int[]{rows, cols};
+    }
+
+    @Override
+    public int rowCount() {
+        return detached != null ? detached.rowCount() : rows;
+    }
+
+    @Override
+    public int colCount() {
+        return detached != null ? detached.colCount() : cols;
+    }
+
+    // 14m. 객체를 콘솔에 출력
+    @Override
+    public String toString() {
+        return dense().toString();
+    }
+
+    // 15m. 객체의 동등성 판단
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof MappedMatrixImpl) obj = ((MappedMatrixImpl) obj).dense();
+        return dense().equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return dense().hashCode();
+    }
+
+    // 55. 내용 지문 (매핑된 영역을 복사 없이 읽음, DenseMatrixImpl과 같은 값)
+    @Override
+    public long fingerprint() {
+        if (detached != null) return detached.fingerprint();
+        long sum = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                sum += Fingerprint.at(i, j, Fingerprint.element(get(i, j)));
+            }
+        }
+        return Fingerprint.finish(rows, cols, sum);
+    }
+
+    // 17m. 객체 복제: 읽기 전용 매핑은 공유하고, 변경된 뒤라면 힙 저장소만 복제
+    @Override
+    public Matrix clone() {
+        try {
+            MappedMatrixImpl cloned = (MappedMatrixImpl) super.clone();
+            if (detached != null) cloned.detached = (DenseMatrixImpl) detached.clone();
+            return cloned;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e); // Should not happen
+        }
+    }
+
+    // 22. 행렬 덧셈 (non-static, modifies self)
+    @Override
+    public Matrix add(Matrix other) {
+        writable().add(other instanceof MappedMatrixImpl ? ((MappedMatrixImpl) other).dense() : other);
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = other * this)
+    @Override
+    public Matrix multiplyLeft(Matrix other) {
+        writable().multiplyLeft(other);
+        return this;
+    }
+
+    @Override
+    public Matrix multiplyRight(Matrix other) {
+        writable().multiplyRight(other);
+        return this;
+    }
+
+    // 32. 가로 합치기 (non-static, returns new matrix)
+    @Override
+    public Matrix hstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for hstack cannot be null.");
+        return Tensors.hstack(this, other);
+    }
+
+    // 33. 세로 합치기 (non-static, returns new matrix)
+    @Override
+    public Matrix vstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for vstack cannot be null.");
+        return Tensors.vstack(this, other);
+    }
+
+    // 34. 특정 행을 벡터 형태로 추출
+    @Override
+    public Vector getRow(int rowIndex) {
+        if (detached != null) return detached.getRow(rowIndex);
+        if (rowIndex < 0 || rowIndex >= rows) {
+            throw new IndexOutOfBoundsException("Row index " + rowIndex + " is out of bounds for matrix with " + rows + " rows.");
+        }
+        double[] row = new double[cols];
+        for (int j = 0; j < cols; j++) {
+            row[j] = get(rowIndex, j);
+        }
+        return Factory.buildVector(row);
+    }
+
+    // 35. 특정 열을 벡터 형태로 추출
+    @Override
+    public Vector getCol(int colIndex) {
+        if (detached != null) return detached.getCol(colIndex);
+        if (colIndex < 0 || colIndex >= cols) {
+            throw new IndexOutOfBoundsException("Column index " + colIndex + " is out of bounds for matrix with " + cols + " columns.");
+        }
+        double[] col = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            col[i] = get(i, colIndex);
+        }
+        return Factory.buildVector(col);
+    }
+
+    // 36. 특정 범위의 부분 행렬 추출 (필요한 영역만 복사)
+    @Override
+    public Matrix subMatrix(int startRow, int endRow, int startCol, int endCol) {
+        if (detached != null) return detached.subMatrix(startRow, endRow, startCol, endCol);
+        if (startRow < 0 || startRow >= rows || endRow < startRow || endRow >= rows ||
+                startCol < 0 || startCol >= cols || endCol < startCol || endCol >= cols) {
+            throw new IndexOutOfBoundsException("Submatrix indices are out of bounds or invalid.");
+        }
+        int numRows = endRow - startRow + 1;
+        int numCols = endCol - startCol + 1;
+        double[] sub = new double[numRows * numCols];
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                sub[i * numCols + j] = get(startRow + i, startCol + j);
+            }
+        }
+        return new DenseMatrixImpl(numRows, numCols, sub);
+    }
+
+    // 37. 특정 행/열 제외 부분 행렬 (minor)
+    @Override
+    public Matrix minor(int excludeRowIndex, int excludeColIndex) {
+        return dense().minor(excludeRowIndex, excludeColIndex);
+    }
+
+    // 38. 전치행렬
+    @Override
+    public Matrix transpose() {
+        return dense().transpose();
+    }
+
+    // 39. 대각 요소의 합 (trace)
+    @Override
+    public Scalar trace() {
+        if (detached != null) return detached.trace();
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Trace is defined only for square matrices.");
+        }
+        double sum = 0.0;
+        for (int i = 0; i < rows; i++) {
+            sum += get(i, i);
+        }
+        return Factory.buildScalar(DenseMatrixImpl.decimal(sum));
+    }
+
+    // 40. 정사각 행렬 여부
+    @Override
+    public boolean isSquare() {
+        return rowCount() == colCount();
+    }
+
+    // 41. 상삼각 행렬
+    @Override
+    public boolean isUpperTriangular() {
+        return dense().isUpperTriangular();
+    }
+
+    // 42. 하삼각 행렬
+    @Override
+    public boolean isLowerTriangular() {
+        return dense().isLowerTriangular();
+    }
+
+    // 43. 단위 행렬
+    @Override
+    public boolean isIdentity() {
+        return dense().isIdentity();
+    }
+
+    // 44. 영 행렬
+    @Override
+    public boolean isZeroMatrix() {
+        return dense().isZeroMatrix();
+    }
+
+    // --- Elementary Row/Column Operations (modifies self, 첫 변경 시 힙으로 복사) ---
+    // 45. 특정 두 행의 위치 교환
+    @Override
+    public void swapRows(int rowIndex1, int rowIndex2) {
+        writable().swapRows(rowIndex1, rowIndex2);
+    }
+
+    // 46. 특정 두 열의 위치 교환
+    @Override
+    public void swapCols(int colIndex1, int colIndex2) {
+        writable().swapCols(colIndex1, colIndex2);
+    }
+
+    // 47. 특정 행에 상수배
+    @Override
+    public void multiplyRow(int rowIndex, Scalar scalar) {
+        writable().multiplyRow(rowIndex, scalar);
+    }
+
+    // 48. 특정 열에 상수배
+    @Override
+    public void multiplyCol(int colIndex, Scalar scalar) {
+        writable().multiplyCol(colIndex, scalar);
+    }
+
+    // 49. 특정 행에 다른 행의 상수배를 더함 (targetRow += scalar * sourceRow)
+    @Override
+    public void addScaledRow(int targetRowIndex, int sourceRowIndex, Scalar scalar) {
+        writable().addScaledRow(targetRowIndex, sourceRowIndex, scalar);
+    }
+
+    // 50. 특정 열에 다른 열의 상수배를 더함 (targetCol += scalar * sourceCol)
+    @Override
+    public void addScaledCol(int targetColIndex, int sourceColIndex, Scalar scalar) {
+        writable().addScaledCol(targetColIndex, sourceColIndex, scalar);
+    }
+
+    // 51. RREF 행렬 구해서 반환 (새 행렬 반환)
+    @Override
+    public Matrix rref() {
+        return dense().rref();
+    }
+
+    // 52. 자신이 RREF 행렬인지 여부 판별
+    @Override
+    public boolean isRREF() {
+        return dense().isRREF();
+    }
+
+    // 53. 행렬식 (nxn 행렬)
+    @Override
+    public Scalar determinant() {
+        return dense().determinant();
+    }
+
+    // 53-1. 정확한 행렬식
+    @Override
+    public Scalar exactDeterminant() {
+        return dense().exactDeterminant();
+    }
+
+    // 54. 역행렬 (nxn 행렬, 새 행렬 반환)
+    @Override
+    public Matrix inverse() {
+        return dense().inverse();
+    }
+}
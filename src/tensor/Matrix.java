@@ -14,6 +14,11 @@ public interface Matrix extends Cloneable {
     // 13. 행렬 크기 조회 (행 개수, 열 개수)
     int[] getSize(); // 명칭 변경 viewSize -> getSize
 
+    // 13. 행 개수, 열 개수 (getSize()와 달리 배열을 할당하지 않으므로 반복문/검사에서 사용)
+    int rowCount();
+
+    int colCount();
+
     // 17m. 객체 복제
     Matrix clone();
 
@@ -46,6 +51,12 @@ public interface Matrix extends Cloneable {
     // 38. 전치행렬
     Matrix transpose();
 
+    // 38-1. 전치 뷰: 복사 없이 원본의 (j, i) 요소를 (i, j)로 보여 주는 행렬 (MatrixView, 뷰의 전치 뷰는 원본)
+    // 원본과 저장소를 공유하므로 뷰를 바꾸면 원본이, 원본을 바꾸면 뷰가 바뀐다. 독립된 행렬은 transpose() 또는 materialize()로
+    default Matrix transposeView() {
+        return new TransposeView(this);
+    }
+
     // 39. 대각 요소의 합 (nxn 행렬)
     Scalar trace();
 
@@ -91,7 +102,16 @@ public interface Matrix extends Cloneable {
     // 53. 행렬식 (nxn 행렬)
     Scalar determinant();
 
+    // 53-1. 정확한 행렬식 (나눗셈/반올림 없이 BigDecimal로 계산)
+    Scalar exactDeterminant();
+
     // 54. 역행렬 (nxn 행렬, 새 행렬 반환)
     Matrix inverse();
 
+    // 55. 내용 지문 (64비트): 같은 저장소 종류에서 equals인 행렬은 같은 값. rref/inverse/determinant 결과 캐시(ResultCache)의 키
+    // hashCode와 달리 요소를 복제하지 않고, MatrixImpl은 지문을 유지하며 바뀐 요소만 갱신하므로 반복 호출은 O(1)
+    default long fingerprint() {
+        return Fingerprint.of(this);
+    }
+
 }
@@ -0,0 +1,161 @@
+package tensor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// 행렬 바이너리 파일 형식 (CSV 재파싱 없이 메모리 매핑으로 바로 여는 용도)
+// 모든 값은 little-endian이며 헤더 뒤에 요소가 행 우선으로 이어진다.
+//   offset 0  : magic "RREF" (4바이트)
+//   offset 4  : 형식 버전 (int, 현재 1)
+//   offset 8  : 요소 타입 (int, 1 = FLOAT64)
+//   offset 12 : 행 수 (int)
+//   offset 16 : 열 수 (int)
+//   offset 20 : 예약 (0으로 채움, 데이터가 8바이트 경계에서 시작하도록 헤더는 32바이트)
+//   offset 32 : 요소 rows * cols개
+final class MatrixFile {
+    static final int MAGIC = 'R' | 'R' << 8 | 'E' << 16 | 'F' << 24;
+    static final int VERSION = 1;
+    static final int ELEMENT_FLOAT64 = 1;
+    static final int HEADER_SIZE = 32;
+
+    // 매핑 하나의 최대 크기 제한(2GB) 때문에 2^27개(1GB) 단위로 나눠 매핑
+    static final int SEGMENT_SHIFT = 27;
+    static final int SEGMENT_ELEMENTS = 1 << SEGMENT_SHIFT;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private MatrixFile() {
+    }
+
+    // 같은 디렉터리의 임시 파일에 모두 쓴 뒤 대상 파일로 옮긴다 (가능하면 원자적으로).
+    // 그래서 쓰는 도중 실패해도 반쯤 쓴 파일이 남지 않고, 대상 파일을 매핑한 행렬(MappedMatrixImpl)을 그 파일에 다시 써도
+    // 원본을 읽기 전에 파일이 잘리지 않는다 (기존 매핑은 옮기기 전의 내용을 그대로 본다).
+    static void write(Matrix matrix, String filePath) throws MatrixFileException {
+        if (matrix == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        if (filePath == null) throw new IllegalArgumentException("File path cannot be null.");
+        Path target = Paths.get(filePath).toAbsolutePath();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            writeTo(matrix, temp);
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+        } catch (IOException e) {
+            throw new MatrixFileException("Error writing matrix file: " + filePath, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 원래 예외를 가리지 않도록 무시
+                }
+            }
+        }
+    }
+
+    private static void writeTo(Matrix matrix, Path path) throws IOException {
+        int[] size = matrix.getSize();
+        int rows = size[0];
+        int cols = size[1];
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(ELEMENT_FLOAT64).putInt(rows).putInt(cols);
+            header.clear();
+            writeFully(channel, header);
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            DoubleBuffer doubles = buffer.asDoubleBuffer();
+            double[] data = denseData(matrix);
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    if (!doubles.hasRemaining()) {
+                        flush(channel, buffer, doubles);
+                    }
+                    doubles.put(data != null ? data[i * cols + j] : matrix.viewElement(i, j).getValue().doubleValue());
+                }
+            }
+            flush(channel, buffer, doubles);
+        }
+    }
+
+    private static double[] denseData(Matrix matrix) {
+        if (matrix instanceof DenseMatrixImpl) return ((DenseMatrixImpl) matrix).data();
+        if (matrix instanceof MappedMatrixImpl) return ((MappedMatrixImpl) matrix).toDense().data();
+        return null;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, DoubleBuffer doubles) throws IOException {
+        buffer.limit(doubles.position() * Double.BYTES).position(0);
+        writeFully(channel, buffer);
+        buffer.clear();
+        doubles.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // 헤더를 검증하고 요소 영역을 읽기 전용으로 매핑 (요소를 읽거나 복사하지 않으므로 크기와 무관하게 바로 열림)
+    static MappedMatrixImpl open(String filePath) throws MatrixFileException {
+        if (filePath == null) throw new IllegalArgumentException("File path cannot be null.");
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new MatrixFileException("Not a matrix file (too short): " + filePath);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) break;
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new MatrixFileException("Not a matrix file (bad magic number): " + filePath);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new MatrixFileException("Unsupported matrix file version " + version + ": " + filePath);
+            }
+            int elementType = header.getInt();
+            if (elementType != ELEMENT_FLOAT64) {
+                throw new MatrixFileException("Unsupported element type " + elementType + ": " + filePath);
+            }
+            int rows = header.getInt();
+            int cols = header.getInt();
+            if (rows < 0 || cols < 0 || (rows == 0) != (cols == 0)) {
+                throw new MatrixFileException("Invalid matrix dimensions " + rows + "x" + cols + ": " + filePath);
+            }
+            long elements = (long) rows * cols;
+            if (fileSize < HEADER_SIZE + elements * Double.BYTES) {
+                throw new MatrixFileException("Matrix file is truncated (expected " + elements + " elements): " + filePath);
+            }
+
+            // 매핑은 채널을 닫아도 유지된다
+            DoubleBuffer[] segments = new DoubleBuffer[(int) ((elements + SEGMENT_ELEMENTS - 1) >>> SEGMENT_SHIFT)];
+            for (int s = 0; s < segments.length; s++) {
+                long first = (long) s << SEGMENT_SHIFT;
+                long count = Math.min(SEGMENT_ELEMENTS, elements - first);
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * Double.BYTES, count * Double.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asDoubleBuffer();
+            }
+            return new MappedMatrixImpl(rows, cols, segments);
+        } catch (IOException e) {
+            throw new MatrixFileException("Error reading matrix file: " + filePath, e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package tensor;
+
+public class MatrixFileException extends RuntimeException {
+    public MatrixFileException(String message) {
+        super(message);
+    }
+
+    public MatrixFileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -4,14 +4,30 @@ import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.math.RoundingMode;
 
 public class MatrixImpl implements Matrix {
+    // rref()/inverse()/determinant()의 나눗셈 자릿수와 정밀도는 PrecisionPolicy로 지정 (기본값: Factory.getPrecisionPolicy())
+    // 병렬 소거 시 작업 하나가 맡는 요소 수 (BigDecimal 연산은 비싸므로 작게)
+    static final int PARALLEL_ELEMENTS_PER_TASK = 512;
+
     private List<Vector> matrixRows; // 필드명 변경 (matrix -> matrixRows)
+    // copy-on-write: subMatrix/minor/getRow/getCol 뷰(SliceView, SliceVector)와 공유 중인 저장소. null이면 공유 중인 뷰 없음
+    // 공유 중에 쓰면 행 리스트를 한 번 복사하고, 쓰는 행만 처음 한 번 복제한다 (ownRow). 뷰 쪽의 쓰기는 뷰가 자기 복사본을 만든다.
+    private MatrixImpl sharedSnapshot;
+    private boolean[] ownedRows; // 행 리스트를 복사한 뒤 다시 복제해 소유한 행 (null이면 모든 행을 소유)
+    // getVectors()로 행 리스트를 내보낸 뒤에는 밖에서 행이 바뀌어도 알 수 없으므로, 뷰에는 공유 대신 복사본을 준다
+    // (저장소를 새로 만드는 곱셈이나 clone()의 결과에서만 다시 false)
+    private boolean rowsExposed;
+    // 내용 지문: 요소별 기여의 합 (Fingerprint). 한 번 계산한 뒤에는 요소/행/열 연산이 바뀐 부분의 기여만 갱신하고,
+    // 전체를 바꾸는 연산(add, 곱셈, getVectors 등)은 무효화해 다음 fingerprint() 호출 때 다시 계산한다.
+    private long fingerprintSum;
+    private boolean fingerprintValid;
 // 생성자들은 대부분 유지, CSV, Scalar[][] 추가 필요
 
     // 06: 기존 생성자 (mm: 행 개수, nn: 열 개수, dd: 초기값)
@@ -111,6 +127,18 @@ public class MatrixImpl implements Matrix {
         }
     }
 
+    // 행 우선 1차원 배열로부터 생성: (i, j) 요소는 data[i * nn + j]
+    MatrixImpl(int mm, int nn, double[] data) {
+        if (mm <= 0 || nn <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        if (data == null || data.length != (long) mm * nn) {
+            throw new IllegalArgumentException("Data length does not match matrix dimensions " + mm + "x" + nn + ".");
+        }
+        this.matrixRows = new ArrayList<>(mm);
+        for (int i = 0; i < mm; i++) {
+            this.matrixRows.add(new VectorImpl(data, i * nn, nn));
+        }
+    }
+
     // Scalar[][] 로부터 생성 (내부 및 Factory용)
     MatrixImpl(Scalar[][] data) {
         if (data == null || data.length == 0) {
@@ -141,7 +169,7 @@ public class MatrixImpl implements Matrix {
         for (int i = 0; i < mm; i++) {
             Scalar[] rowScalars = new Scalar[mm];
             for (int j = 0; j < mm; j++) {
-                rowScalars[j] = Factory.buildScalar((i == j) ? "1" : "0");
+                rowScalars[j] = ((i == j) ? ImmutableScalar.ONE : ImmutableScalar.ZERO).clone(); // 문자열 파싱 없이 상수에서 복제
             }
             this.matrixRows.add(Factory.buildVector(rowScalars)); // Factory.buildVector(Scalar[]) 필요
         }
@@ -165,31 +193,90 @@ public class MatrixImpl implements Matrix {
         }
     }
 
+    private MatrixImpl() {
+    }
+
+    // 내부용: 주어진 행 벡터 리스트를 복사 없이 그대로 저장소로 사용 (행은 다른 곳에서 참조하지 않는 새 벡터여야 함)
+    static MatrixImpl wrap(List<Vector> rows) {
+        if (rows == null) throw new IllegalArgumentException("Row list cannot be null.");
+        MatrixImpl wrapped = new MatrixImpl();
+        wrapped.matrixRows = rows;
+        return wrapped;
+    }
+
     @Override
     public List<Vector> getVectors(){
+        ownAllRows(); // 반환한 리스트로 바뀔 수 있으므로 뷰와의 공유를 먼저 끊음
+        rowsExposed = true;
+        fingerprintValid = false;
         return this.matrixRows;
     }
 
+    // 뷰가 읽을 저장소: 현재 행 리스트를 그대로 감싼 스냅숏 (이후 이 행렬은 쓰기 전에 행을 복제하므로 스냅숏은 바뀌지 않음)
+    // 행 리스트를 내보낸 적이 있으면 밖에서의 변경이 뷰에 보이지 않도록 매번 복사본
+    private MatrixImpl snapshot() {
+        if (rowsExposed) return (MatrixImpl) clone();
+        if (sharedSnapshot == null) {
+            sharedSnapshot = wrap(this.matrixRows);
+            ownedRows = null; // 이미 소유한 행도 다시 공유됨
+        }
+        return sharedSnapshot;
+    }
+
+    // 행 리스트를 바꾸기 전 호출 (행 순서 변경 등)
+    private void ownRowList() {
+        if (sharedSnapshot != null) {
+            this.matrixRows = new ArrayList<>(this.matrixRows);
+            ownedRows = new boolean[this.matrixRows.size()];
+            sharedSnapshot = null;
+        }
+    }
+
+    // 행의 요소를 바꾸기 전 호출
+    private void ownRow(int rowIndex) {
+        ownRowList();
+        if (ownedRows != null && !ownedRows[rowIndex]) {
+            this.matrixRows.set(rowIndex, this.matrixRows.get(rowIndex).clone());
+            ownedRows[rowIndex] = true;
+        }
+    }
+
+    // 열 연산 등 모든 행을 바꾸기 전 호출
+    private void ownAllRows() {
+        ownRowList();
+        if (ownedRows != null) {
+            for (int i = 0; i < ownedRows.length; i++) {
+                ownRow(i);
+            }
+            ownedRows = null;
+        }
+    }
+
     // 11m. 특정 위치 요소 지정
     @Override
     public void setElement(int rowIndex, int colIndex, Scalar value) {
         if (value == null) throw new IllegalArgumentException("Scalar value cannot be null.");
-        int[] size = getSize();
-        if (rowIndex < 0 || rowIndex >= size[0] || colIndex < 0 || colIndex >= size[1]) {
-            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + size[0] + "x" + size[1]);
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (rowIndex < 0 || rowIndex >= numRows || colIndex < 0 || colIndex >= numCols) {
+            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + numRows + "x" + numCols);
         }
+        ownRow(rowIndex);
+        if (fingerprintValid) fingerprintSum -= elementPart(rowIndex, colIndex);
         this.matrixRows.get(rowIndex).setElement(colIndex, value); // Vector.setElement가 알아서 복제
+        if (fingerprintValid) fingerprintSum += elementPart(rowIndex, colIndex);
     }
 
     // 11m. 특정 위치 요소 조회
     @Override
     public Scalar viewElement(int rowIndex, int colIndex) {
-        int[] size = getSize();
-        if (rowIndex < 0 || rowIndex >= size[0] || colIndex < 0 || colIndex >= size[1]) {
-            if (size[0] == 0 || size[1] == 0) { // 0xN 또는 Mx0 행렬의 경우
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (rowIndex < 0 || rowIndex >= numRows || colIndex < 0 || colIndex >= numCols) {
+            if (numRows == 0 || numCols == 0) { // 0xN 또는 Mx0 행렬의 경우
                 throw new IndexOutOfBoundsException("Cannot view element in an empty or zero-dimension matrix.");
             }
-            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + size[0] + "x" + size[1]);
+            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + numRows + "x" + numCols);
         }
         return this.matrixRows.get(rowIndex).viewElement(colIndex); // Vector.viewElement가 알아서 복제 반환
     }
@@ -197,11 +284,18 @@ public class MatrixImpl implements Matrix {
     // 13. 행렬 크기 조회
     @Override
     public int[] getSize() {
-        if (matrixRows.isEmpty()) {
-            return new int[]{0, 0}; // 0x0 행렬
-        }
-        // 모든 행이 동일한 열 개수를 가진다고 가정 (생성자에서 보장)
-        return new int[]{matrixRows.size(), matrixRows.get(0).getSize()};
+        return new int[]{rowCount(), colCount()};
+    }
+
+    @Override
+    public int rowCount() {
+        return matrixRows.size();
+    }
+
+    @Override
+    public int colCount() {
+        // 모든 행이 동일한 열 개수를 가진다고 가정 (생성자에서 보장). 행이 없으면 0x0 행렬
+        return matrixRows.isEmpty() ? 0 : matrixRows.get(0).getSize();
     }
 
 
@@ -232,14 +326,14 @@ public class MatrixImpl implements Matrix {
         if (obj == null || !(obj instanceof Matrix)) return false;
         Matrix other = (Matrix) obj;
 
-        int[] thisSize = this.getSize();
-        int[] otherSize = other.getSize();
-        if (thisSize[0] != otherSize[0] || thisSize[1] != otherSize[1]) return false;
+        int thisRows = rowCount();
+        int thisCols = colCount();
+        if (thisRows != other.rowCount() || thisCols != other.colCount()) return false;
 
-        if (thisSize[0] == 0) return true; // 두 0xN 또는 Nx0 (또는 0x0) 행렬은 같음
+        if (thisRows == 0) return true; // 두 0xN 또는 Nx0 (또는 0x0) 행렬은 같음
 
-        for (int i = 0; i < thisSize[0]; i++) {
-            for (int j = 0; j < thisSize[1]; j++) {
+        for (int i = 0; i < thisRows; i++) {
+            for (int j = 0; j < thisCols; j++) {
                 if (!this.viewElement(i, j).equals(other.viewElement(i, j))) {
                     return false;
                 }
@@ -251,12 +345,13 @@ public class MatrixImpl implements Matrix {
     @Override
     public int hashCode() {
         int result = 1;
-        int[] size = getSize();
-        result = 31 * result + size[0];
-        result = 31 * result + size[1];
-        if (size[0] > 0 && size[1] > 0) {
-            for (int i = 0; i < size[0]; i++) {
-                for (int j = 0; j < size[1]; j++) {
+        int numRows = rowCount();
+        int numCols = colCount();
+        result = 31 * result + numRows;
+        result = 31 * result + numCols;
+        if (numRows > 0 && numCols > 0) {
+            for (int i = 0; i < numRows; i++) {
+                for (int j = 0; j < numCols; j++) {
                     result = 31 * result + viewElement(i, j).hashCode();
                 }
             }
@@ -272,6 +367,9 @@ public class MatrixImpl implements Matrix {
             MatrixImpl cloned = (MatrixImpl) super.clone();
             // List<Vector>를 직접 복사하는 생성자 사용
             cloned.matrixRows = new ArrayList<>(this.matrixRows.size());
+            cloned.sharedSnapshot = null;
+            cloned.ownedRows = null;
+            cloned.rowsExposed = false;
             for(Vector rowVec : this.matrixRows) {
                 cloned.matrixRows.add(rowVec.clone()); // 각 Vector 객체도 복제
             }
@@ -286,16 +384,20 @@ public class MatrixImpl implements Matrix {
     @Override
     public Matrix add(Matrix other) {
         if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
-        int[] thisSize = this.getSize();
-        int[] otherSize = other.getSize();
-        if (thisSize[0] != otherSize[0] || thisSize[1] != otherSize[1]) {
+        int thisRows = rowCount();
+        int thisCols = colCount();
+        int otherRows = other.rowCount();
+        int otherCols = other.colCount();
+        if (thisRows != otherRows || thisCols != otherCols) {
             throw new DimensionMismatchException("Matrices must have the same dimensions for addition. Self: "
-                    + thisSize[0] + "x" + thisSize[1] + ", Other: " + otherSize[0] + "x" + otherSize[1]);
+                    + thisRows + "x" + thisCols + ", Other: " + otherRows + "x" + otherCols);
         }
-        if (thisSize[0] == 0) return this; // 0xN 행렬 + 0xN 행렬 = 0xN 행렬
+        if (thisRows == 0) return this; // 0xN 행렬 + 0xN 행렬 = 0xN 행렬
+        ownAllRows();
+        fingerprintValid = false;
 
-        for (int i = 0; i < thisSize[0]; i++) {
-            for (int j = 0; j < thisSize[1]; j++) {
+        for (int i = 0; i < thisRows; i++) {
+            for (int j = 0; j < thisCols; j++) {
                 Scalar currentVal = this.viewElement(i,j); // 현재 값 (복제본)
                 Scalar otherVal = other.viewElement(i,j); // 다른 행렬 값 (복제본)
                 currentVal.add(otherVal); // currentVal의 내부 값이 변경됨
@@ -305,75 +407,27 @@ public class MatrixImpl implements Matrix {
         return this;
     }
 
-    // 23. 행렬 곱셈 (this = this * other)
+    // 23. 행렬 곱셈 (this = other * this)
     @Override
     public Matrix multiplyLeft(Matrix other) {
         if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
-
         this.matrixRows = Tensors.multiply(other, this).getVectors();
+        sharedSnapshot = null; // 새 저장소는 이 행렬만 소유
+        ownedRows = null;
+        rowsExposed = false;
+        fingerprintValid = false;
         return this;
-//        int[] thisSize = this.getSize(); // this is R1 x C1
-//        int[] otherSize = other.getSize(); // other is R2 x C2
-//
-//        if (thisSize[1] != otherSize[0]) {
-//            throw new DimensionMismatchException(
-//                    "Number of columns in this matrix (" + thisSize[1] +
-//                            ") must equal the number of rows in the other matrix (" + otherSize[0] + ") for multiplication."
-//            );
-//        }
-//
-//        // 결과 행렬의 크기는 R1 x C2
-//        int resultRows = thisSize[0];
-//        int resultCols = otherSize[1];
-//
-//        if (resultRows == 0 || resultCols == 0) { // 결과가 0xN 또는 Mx0 행렬인 경우
-//            this.matrixRows = new ArrayList<>();
-//            if (resultRows > 0) { // Mx0 결과 (열이 0개)
-//                for (int i = 0; i < resultRows; i++) {
-//                    this.matrixRows.add(Factory.buildVector(new Scalar[0])); // 빈 벡터 추가
-//                }
-//            }
-//            // 만약 resultRows가 0이면 this.matrixRows는 그냥 빈 리스트 (0xN 행렬)
-//            return this;
-//        }
-//
-//
-//        Scalar[][] resultData = new Scalar[resultRows][resultCols];
-//
-//        for (int i = 0; i < resultRows; i++) {
-//            for (int j = 0; j < resultCols; j++) {
-//                Scalar sum = Factory.buildScalar("0");
-//                for (int k = 0; k < thisSize[1]; k++) { // thisSize[1] == otherSize[0]
-//                    // sum = sum + this(i,k) * other(k,j)
-//                    // Scalar.add 와 Scalar.multiply 는 새 객체를 반환하지 않고 자신을 수정함.
-//                    // 따라서 다음과 같이 사용:
-//                    // Scalar term = this.viewElement(i,k).clone(); // 원본 보존 위해 복제
-//                    // term.multiply(other.viewElement(k,j));
-//                    // sum.add(term);
-//                    // 또는 static 메소드 사용:
-//                    sum.add(Tensors.multiply(this.viewElement(i, k), other.viewElement(k, j)));
-//                }
-//                resultData[i][j] = sum;
-//            }
-//        }
-//        // this의 내용을 resultData로 교체
-//        // MatrixImpl(Scalar[][]) 생성자를 호출하여 새 객체를 만들고 그 내부 데이터로 교체하는 방식은
-//        // this 참조 자체를 바꿀 수 없으므로, this의 내부 List<Vector>를 새로 구성해야 함.
-//        List<Vector> newRows = new ArrayList<>(resultRows);
-//        for (int i = 0; i < resultRows; i++) {
-//            List<Scalar> rowScalars = new ArrayList<>(resultCols);
-//            for (int j = 0; j < resultCols; j++) {
-//                rowScalars.add(resultData[i][j]);
-//            }
-//            newRows.add(Factory.buildVector(rowScalars)); // Factory.buildVector(List<Scalar>) 필요
-//        }
-//        this.matrixRows = newRows;
-//        return this;
     }
 
+    // 23. 행렬 곱셈 (this = this * other)
     @Override
     public Matrix multiplyRight(Matrix other){
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
         this.matrixRows = Tensors.multiply(this, other).getVectors();
+        sharedSnapshot = null;
+        ownedRows = null;
+        rowsExposed = false;
+        fingerprintValid = false;
         return this;
     }
 
@@ -394,96 +448,71 @@ public class MatrixImpl implements Matrix {
     }
 
 
-    // 34. 특정 행을 벡터 형태로 추출
+    // 34. 특정 행을 벡터 형태로 추출 (복사 없는 copy-on-write 뷰)
     @Override
     public Vector getRow(int rowIndex) {
-        int[] size = getSize();
-        if (rowIndex < 0 || rowIndex >= size[0]) {
-            throw new IndexOutOfBoundsException("Row index " + rowIndex + " is out of bounds for matrix with " + size[0] + " rows.");
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (rowIndex < 0 || rowIndex >= numRows) {
+            throw new IndexOutOfBoundsException("Row index " + rowIndex + " is out of bounds for matrix with " + numRows + " rows.");
         }
-        if (size[1] == 0) { // Mx0 행렬의 경우
+        if (numCols == 0) { // Mx0 행렬의 경우
             return Factory.buildVector(new Scalar[0]); // 빈 벡터 반환
         }
-        return this.matrixRows.get(rowIndex).clone(); // Vector를 복제해서 반환
+        return new SliceVector(snapshot(), rowIndex, SliceView.Axis.full(numCols), true);
     }
 
-    // 35. 특정 열을 벡터 형태로 추출
+    // 35. 특정 열을 벡터 형태로 추출 (복사 없는 copy-on-write 뷰)
     @Override
     public Vector getCol(int colIndex) {
-        int[] size = getSize();
-        if (colIndex < 0 || colIndex >= size[1]) {
-            throw new IndexOutOfBoundsException("Column index " + colIndex + " is out of bounds for matrix with " + size[1] + " columns.");
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (colIndex < 0 || colIndex >= numCols) {
+            throw new IndexOutOfBoundsException("Column index " + colIndex + " is out of bounds for matrix with " + numCols + " columns.");
         }
-        if (size[0] == 0) { // 0xN 행렬의 경우
+        if (numRows == 0) { // 0xN 행렬의 경우
             return Factory.buildVector(new Scalar[0]); // 빈 벡터 반환
         }
-
-        List<Scalar> colScalars = new ArrayList<>(size[0]);
-        for (int i = 0; i < size[0]; i++) {
-            colScalars.add(this.viewElement(i, colIndex).clone()); // viewElement가 복제본 반환, 다시 복제 필요 없음.
-            // this.matrixRows.get(i).viewElement(colIndex)
-        }
-        return Factory.buildVector(colScalars); // Factory.buildVector(List<Scalar>)
+        return new SliceVector(snapshot(), colIndex, SliceView.Axis.full(numRows), false);
     }
 
-    // 36. 특정 범위의 부분 행렬 추출
+    // 36. 특정 범위의 부분 행렬 추출 (복사 없는 copy-on-write 뷰, O(1))
     @Override
     public Matrix subMatrix(int startRow, int endRow, int startCol, int endCol) {
-        int[] currentSize = getSize();
-        if (startRow < 0 || startRow >= currentSize[0] || endRow < startRow || endRow >= currentSize[0] ||
-                startCol < 0 || startCol >= currentSize[1] || endCol < startCol || endCol >= currentSize[1]) {
+        int currentRows = rowCount();
+        int currentCols = colCount();
+        if (startRow < 0 || startRow >= currentRows || endRow < startRow || endRow >= currentRows ||
+                startCol < 0 || startCol >= currentCols || endCol < startCol || endCol >= currentCols) {
             throw new IndexOutOfBoundsException("Submatrix indices are out of bounds or invalid.");
         }
-
-        int numRows = endRow - startRow + 1;
-        int numCols = endCol - startCol + 1;
-        Scalar[][] subMatrixData = new Scalar[numRows][numCols];
-
-        for (int i = 0; i < numRows; i++) {
-            for (int j = 0; j < numCols; j++) {
-                subMatrixData[i][j] = this.viewElement(startRow + i, startCol + j).clone();
-            }
-        }
-        return Factory.buildMatrix(subMatrixData);
+        return new SliceView(snapshot(), SliceView.Axis.full(currentRows).range(startRow, endRow),
+                SliceView.Axis.full(currentCols).range(startCol, endCol));
     }
 
-    // 37. 특정 행/열 제외 부분 행렬 (minor)
+    // 37. 특정 행/열 제외 부분 행렬 (minor, 복사 없는 copy-on-write 뷰)
     @Override
     public Matrix minor(int excludeRowIndex, int excludeColIndex) {
-        int[] currentSize = getSize();
-        if (excludeRowIndex < 0 || excludeRowIndex >= currentSize[0] ||
-                excludeColIndex < 0 || excludeColIndex >= currentSize[1]) {
+        int currentRows = rowCount();
+        int currentCols = colCount();
+        if (excludeRowIndex < 0 || excludeRowIndex >= currentRows ||
+                excludeColIndex < 0 || excludeColIndex >= currentCols) {
             throw new IndexOutOfBoundsException("Exclude indices are out of bounds.");
         }
-        if (currentSize[0] <= 1 || currentSize[1] <= 1) {
+        if (currentRows <= 1 || currentCols <= 1) {
             // 1xN, Mx1, 1x1 행렬에서 minor를 구하면 빈 행렬 또는 에러. 여기선 빈 행렬.
             // 또는 InvalidOperationException("Cannot compute minor for matrix with 1 row or 1 column.")
             return Factory.buildMatrix(new Scalar[0][0]);
         }
 
-
-        int numRows = currentSize[0] - 1;
-        int numCols = currentSize[1] - 1;
-        Scalar[][] minorData = new Scalar[numRows][numCols];
-
-        for (int i = 0, r = 0; i < currentSize[0]; i++) {
-            if (i == excludeRowIndex) continue;
-            for (int j = 0, c = 0; j < currentSize[1]; j++) {
-                if (j == excludeColIndex) continue;
-                minorData[r][c] = this.viewElement(i, j).clone();
-                c++;
-            }
-            r++;
-        }
-        return Factory.buildMatrix(minorData);
+        return new SliceView(snapshot(), SliceView.Axis.full(currentRows).without(excludeRowIndex),
+                SliceView.Axis.full(currentCols).without(excludeColIndex));
     }
 
     // 38. 전치행렬
     @Override
     public Matrix transpose() {
-        int[] currentSize = getSize();
-        int numRows = currentSize[0];
-        int numCols = currentSize[1];
+        int numRows = rowCount();
+        int numCols = colCount();
 
         if (numRows == 0 || numCols == 0) { // 0xN 또는 Mx0 행렬의 전치는 Nx0 또는 0xM
             return Factory.buildMatrix(new Scalar[numCols][numRows]); // 크기만 바뀐 빈 행렬
@@ -504,12 +533,12 @@ public class MatrixImpl implements Matrix {
         if (!isSquare()) {
             throw new NotSquareMatrixException("Trace is defined only for square matrices.");
         }
-        int[] size = getSize();
-        if (size[0] == 0) return Factory.buildScalar("0"); // 0x0 행렬의 trace는 0
+        int numRows = rowCount();
+        if (numRows == 0) return ImmutableScalar.ZERO.clone(); // 0x0 행렬의 trace는 0
 
-        Scalar sum = Factory.buildScalar("0");
-        for (int i = 0; i < size[0]; i++) {
-            sum.add(this.viewElement(i, i));
+        Scalar sum = ImmutableScalar.ZERO.clone();
+        for (int i = 0; i < numRows; i++) {
+            sum.add(elementAt(i, i)); // 읽기만 하므로 복제 불필요
         }
         return sum;
     }
@@ -517,8 +546,7 @@ public class MatrixImpl implements Matrix {
     // 40. 정사각 행렬 여부
     @Override
     public boolean isSquare() {
-        int[] size = getSize();
-        return size[0] == size[1]; // 0x0도 정사각으로 간주 가능
+        return rowCount() == colCount(); // 0x0도 정사각으로 간주 가능
     }
 
     // 41. 상삼각 행렬
@@ -528,10 +556,10 @@ public class MatrixImpl implements Matrix {
             // throw new NotSquareMatrixException("Upper triangular check is for square matrices.");
             return false; // 정사각이 아니면 상삼각이 아님
         }
-        int[] size = getSize();
-        if (size[0] == 0) return true; // 0x0은 상삼각
+        int numRows = rowCount();
+        if (numRows == 0) return true; // 0x0은 상삼각
 
-        for (int i = 0; i < size[0]; i++) {
+        for (int i = 0; i < numRows; i++) {
             for (int j = 0; j < i; j++) { // 주 대각선 아래 요소 (row > col)
                 if (!this.viewElement(i, j).isZero()) {
                     return false;
@@ -548,11 +576,12 @@ public class MatrixImpl implements Matrix {
             // throw new NotSquareMatrixException("Lower triangular check is for square matrices.");
             return false;
         }
-        int[] size = getSize();
-        if (size[0] == 0) return true; // 0x0은 하삼각
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (numRows == 0) return true; // 0x0은 하삼각
 
-        for (int i = 0; i < size[0]; i++) {
-            for (int j = i + 1; j < size[1]; j++) { // 주 대각선 위 요소 (col > row)
+        for (int i = 0; i < numRows; i++) {
+            for (int j = i + 1; j < numCols; j++) { // 주 대각선 위 요소 (col > row)
                 if (!this.viewElement(i, j).isZero()) {
                     return false;
                 }
@@ -565,11 +594,12 @@ public class MatrixImpl implements Matrix {
     @Override
     public boolean isIdentity() {
         if (!isSquare()) return false;
-        int[] size = getSize();
-        if (size[0] == 0) return true; // 0x0 단위행렬? (보통 최소 1x1부터 정의). 여기선 true로.
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (numRows == 0) return true; // 0x0 단위행렬? (보통 최소 1x1부터 정의). 여기선 true로.
 
-        for (int i = 0; i < size[0]; i++) {
-            for (int j = 0; j < size[1]; j++) {
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
                 Scalar element = this.viewElement(i, j);
                 if (i == j) { // Diagonal
                     if (element.getValue().compareTo(BigDecimal.ONE) != 0) return false;
@@ -584,11 +614,12 @@ public class MatrixImpl implements Matrix {
     // 44. 영 행렬
     @Override
     public boolean isZeroMatrix() {
-        int[] size = getSize();
-        if (size[0] == 0 || size[1] == 0) return true; // 0xN, Mx0, 0x0은 영행렬
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (numRows == 0 || numCols == 0) return true; // 0xN, Mx0, 0x0은 영행렬
 
-        for (int i = 0; i < size[0]; i++) {
-            for (int j = 0; j < size[1]; j++) {
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
                 if (!this.viewElement(i, j).isZero()) {
                     return false;
                 }
@@ -601,178 +632,439 @@ public class MatrixImpl implements Matrix {
 // 45. 특정 두 행의 위치 교환
     @Override
     public void swapRows(int rowIndex1, int rowIndex2) {
-        int numRows = getSize()[0];
+        int numRows = rowCount();
         if (rowIndex1 < 0 || rowIndex1 >= numRows || rowIndex2 < 0 || rowIndex2 >= numRows) {
             throw new IndexOutOfBoundsException("Row indices for swap are out of bounds.");
         }
         if (rowIndex1 == rowIndex2) return;
+        ownRowList();
+        long before = rowPart(rowIndex1) + rowPart(rowIndex2);
         Collections.swap(this.matrixRows, rowIndex1, rowIndex2);
+        updateFingerprint(before, rowPart(rowIndex1) + rowPart(rowIndex2));
+        if (ownedRows != null) { // 소유 표시도 행과 함께 교환
+            boolean owned = ownedRows[rowIndex1];
+            ownedRows[rowIndex1] = ownedRows[rowIndex2];
+            ownedRows[rowIndex2] = owned;
+        }
     }
 
     // 46. 특정 두 열의 위치 교환
     @Override
     public void swapCols(int colIndex1, int colIndex2) {
-        int[] size = getSize();
-        int numRows = size[0];
-        int numCols = size[1];
+        int numRows = rowCount();
+        int numCols = colCount();
         if (colIndex1 < 0 || colIndex1 >= numCols || colIndex2 < 0 || colIndex2 >= numCols) {
             throw new IndexOutOfBoundsException("Column indices for swap are out of bounds.");
         }
         if (colIndex1 == colIndex2) return;
         if (numRows == 0) return; // 행이 없으면 열 교환 의미 없음
+        ownAllRows();
+        long before = colPart(colIndex1) + colPart(colIndex2);
 
         for (int i = 0; i < numRows; i++) {
-            Vector row = this.matrixRows.get(i);
-            Scalar temp = row.viewElement(colIndex1); // viewElement는 복제본 반환
-            row.setElement(colIndex1, row.viewElement(colIndex2));
-            row.setElement(colIndex2, temp);
+            Collections.swap(this.matrixRows.get(i).getScalars(), colIndex1, colIndex2); // 요소 참조만 교환
         }
+        updateFingerprint(before, colPart(colIndex1) + colPart(colIndex2));
     }
 
     // 47. 특정 행에 상수배
     @Override
     public void multiplyRow(int rowIndex, Scalar scalar) {
         if (scalar == null) throw new IllegalArgumentException("Scalar for multiplyRow cannot be null.");
-        int numRows = getSize()[0];
+        int numRows = rowCount();
+        int numCols = colCount();
         if (rowIndex < 0 || rowIndex >= numRows) {
             throw new IndexOutOfBoundsException("Row index for multiplyRow is out of bounds.");
         }
-        if (getSize()[1] == 0) return; // 열이 없으면 의미 없음
+        if (numCols == 0) return; // 열이 없으면 의미 없음
 
-        Vector row = this.matrixRows.get(rowIndex);
-        // Vector.multiply(Scalar)는 non-static이며 자신을 변경함
-        row.multiply(scalar.clone()); // scalar 원본 불변성 위해 clone
+        ownRow(rowIndex);
+        long before = rowPart(rowIndex);
+        scaleRowInPlace(rowIndex, scalar, Factory.getPrecisionPolicy().getMathContext());
+        updateFingerprint(before, rowPart(rowIndex));
     }
 
     // 48. 특정 열에 상수배
     @Override
     public void multiplyCol(int colIndex, Scalar scalar) {
         if (scalar == null) throw new IllegalArgumentException("Scalar for multiplyCol cannot be null.");
-        int[] size = getSize();
-        int numRows = size[0];
-        int numCols = size[1];
+        int numRows = rowCount();
+        int numCols = colCount();
         if (colIndex < 0 || colIndex >= numCols) {
             throw new IndexOutOfBoundsException("Column index for multiplyCol is out of bounds.");
         }
         if (numRows == 0) return;
 
-        for (int i = 0; i < numRows; i++) {
-            Scalar currentElement = this.viewElement(i, colIndex);
-            currentElement.multiply(scalar.clone()); // scalar.multiply는 자신을 변경
-            this.setElement(i, colIndex, currentElement); // 변경된 scalar로 다시 설정
-        }
+        ownAllRows();
+        long before = colPart(colIndex);
+        scaleColInPlace(colIndex, scalar, Factory.getPrecisionPolicy().getMathContext());
+        updateFingerprint(before, colPart(colIndex));
     }
 
     // 49. 특정 행에 다른 행의 상수배를 더함 (targetRow += scalar * sourceRow)
     @Override
     public void addScaledRow(int targetRowIndex, int sourceRowIndex, Scalar scalar) {
         if (scalar == null) throw new IllegalArgumentException("Scalar for addScaledRow cannot be null.");
-        int numRows = getSize()[0];
+        int numRows = rowCount();
+        int numCols = colCount();
         if (targetRowIndex < 0 || targetRowIndex >= numRows || sourceRowIndex < 0 || sourceRowIndex >= numRows) {
             throw new IndexOutOfBoundsException("Row indices for addScaledRow are out of bounds.");
         }
-        if (getSize()[1] == 0) return; // 열이 없으면 의미 없음
+        if (numCols == 0) return; // 열이 없으면 의미 없음
+        ownRow(targetRowIndex);
+        long before = rowPart(targetRowIndex);
         if (targetRowIndex == sourceRowIndex) { // targetRow += scalar * targetRow -> targetRow *= (1+scalar)
-            Scalar onePlusScalar = Factory.buildScalar("1").add(scalar.clone());
-            this.multiplyRow(targetRowIndex, onePlusScalar);
-            return;
+            scaleRowInPlace(targetRowIndex, onePlus(scalar), Factory.getPrecisionPolicy().getMathContext());
+        } else {
+            addScaledRowInPlace(targetRowIndex, sourceRowIndex, scalar, Factory.getPrecisionPolicy().getMathContext());
         }
-
-        Vector targetRow = this.matrixRows.get(targetRowIndex);
-        Vector sourceRowScaled = this.matrixRows.get(sourceRowIndex).clone(); // 원본 sourceRow 보존
-        sourceRowScaled.multiply(scalar.clone()); // sourceRow * scalar
-
-        targetRow.add(sourceRowScaled); // targetRow = targetRow + sourceRowScaled
+        updateFingerprint(before, rowPart(targetRowIndex));
     }
 
     // 50. 특정 열에 다른 열의 상수배를 더함 (targetCol += scalar * sourceCol)
     @Override
     public void addScaledCol(int targetColIndex, int sourceColIndex, Scalar scalar) {
         if (scalar == null) throw new IllegalArgumentException("Scalar for addScaledCol cannot be null.");
-        int[] size = getSize();
-        int numRows = size[0];
-        int numCols = size[1];
+        int numRows = rowCount();
+        int numCols = colCount();
         if (targetColIndex < 0 || targetColIndex >= numCols || sourceColIndex < 0 || sourceColIndex >= numCols) {
             throw new IndexOutOfBoundsException("Column indices for addScaledCol are out of bounds.");
         }
         if (numRows == 0) return;
+        ownAllRows();
+        long before = colPart(targetColIndex);
         if (targetColIndex == sourceColIndex) {
-            Scalar onePlusScalar = Factory.buildScalar("1").add(scalar.clone());
-            this.multiplyCol(targetColIndex, onePlusScalar);
-            return;
+            scaleColInPlace(targetColIndex, onePlus(scalar), Factory.getPrecisionPolicy().getMathContext());
+        } else {
+            MathContext mc = Factory.getPrecisionPolicy().getMathContext();
+            BigDecimal value = scalar.getValue();
+            for (int i = 0; i < numRows; i++) {
+                List<Scalar> row = this.matrixRows.get(i).getScalars();
+                addProductInPlace(row.get(targetColIndex), row.get(sourceColIndex), scalar, value, mc);
+            }
         }
+        updateFingerprint(before, colPart(targetColIndex));
+    }
 
-        for (int i = 0; i < numRows; i++) {
-            Scalar targetElement = this.viewElement(i, targetColIndex); // 복제본
-            Scalar sourceElementScaled = this.viewElement(i, sourceColIndex).clone(); // 복제본
-            sourceElementScaled.multiply(scalar.clone());
+    // --- 내부용 제자리 연산 (인덱스 검사 후 호출, 방어적 복제나 임시 Vector 없이 저장된 요소를 직접 갱신) ---
+    // 저장된 Scalar는 이 행렬만 소유하므로(setElement/생성자에서 복제, 뷰와 공유 중인 행은 공개 연산이 ownRow로 먼저 복제) 제자리 갱신이 안전하다.
+    // RationalScalar 요소는 분수 연산으로 정확히 갱신하고, 그 밖의 요소는 BigDecimal 값을 mc 정밀도로 갱신한다.
+    private void scaleRowInPlace(int rowIndex, Scalar factor, MathContext mc) {
+        BigDecimal value = factor.getValue();
+        for (Scalar element : this.matrixRows.get(rowIndex).getScalars()) {
+            scaleInPlace(element, factor, value, mc);
+        }
+    }
+
+    private void scaleColInPlace(int colIndex, Scalar factor, MathContext mc) {
+        BigDecimal value = factor.getValue();
+        for (Vector row : this.matrixRows) {
+            scaleInPlace(row.getScalars().get(colIndex), factor, value, mc);
+        }
+    }
 
-            targetElement.add(sourceElementScaled);
-            this.setElement(i, targetColIndex, targetElement);
+    private static void scaleInPlace(Scalar element, Scalar factor, BigDecimal value, MathContext mc) {
+        if (element instanceof RationalScalar) {
+            element.multiply(factor);
+        } else {
+            element.setValue(element.getValue().multiply(value, mc));
         }
     }
 
+    private void addScaledRowInPlace(int targetRowIndex, int sourceRowIndex, Scalar factor, MathContext mc) {
+        List<Scalar> target = this.matrixRows.get(targetRowIndex).getScalars();
+        List<Scalar> source = this.matrixRows.get(sourceRowIndex).getScalars();
+        BigDecimal value = factor.getValue();
+        for (int j = 0; j < target.size(); j++) {
+            addProductInPlace(target.get(j), source.get(j), factor, value, mc);
+        }
+    }
+
+    // target += source * factor (value == factor.getValue())
+    private static void addProductInPlace(Scalar target, Scalar source, Scalar factor, BigDecimal value, MathContext mc) {
+        if (target instanceof RationalScalar) {
+            ((RationalScalar) target).addProduct(source, factor);
+        } else {
+            target.setValue(target.getValue().add(source.getValue().multiply(value, mc), mc));
+        }
+    }
+
+    // 1 + scalar (같은 행/열에 자신의 상수배를 더할 때의 배율)
+    // 아래 배율들은 읽기 전용으로만 쓰이므로 ImmutableScalar로 만든다 (0, 1, -1 등은 캐시된 상수)
+    private static Scalar onePlus(Scalar scalar) {
+        if (scalar instanceof RationalScalar) {
+            return scalar.clone().add(new RationalScalar(BigInteger.ONE, BigInteger.ONE));
+        }
+        return ImmutableScalar.valueOf(BigDecimal.ONE.add(scalar.getValue()));
+    }
+
+    private static Scalar negatedOf(Scalar scalar) {
+        if (scalar instanceof RationalScalar) {
+            return ((RationalScalar) scalar).negated();
+        }
+        return ImmutableScalar.valueOf(scalar.getValue().negate());
+    }
+
+    // 복제 없이 저장된 요소 조회 (내부 읽기 전용)
+    Scalar elementAt(int rowIndex, int colIndex) {
+        return this.matrixRows.get(rowIndex).getScalars().get(colIndex);
+    }
+
+    // 55. 내용 지문 (처음 한 번 O(mn), 이후에는 유지된 합으로 O(1))
+    // getVectors()로 행을 내보낸 뒤에는 밖에서의 변경을 알 수 없으므로 유지하지 않고 매번 다시 계산
+    @Override
+    public long fingerprint() {
+        if (rowsExposed) {
+            fingerprintValid = false;
+            long sum = 0;
+            for (int i = 0; i < rowCount(); i++) {
+                sum += rowContribution(i);
+            }
+            return Fingerprint.finish(rowCount(), colCount(), sum);
+        }
+        if (!fingerprintValid) {
+            long sum = 0;
+            for (int i = 0; i < rowCount(); i++) {
+                sum += rowContribution(i);
+            }
+            fingerprintSum = sum;
+            fingerprintValid = true;
+        }
+        return Fingerprint.finish(rowCount(), colCount(), fingerprintSum);
+    }
+
+    private long elementPart(int rowIndex, int colIndex) {
+        return Fingerprint.at(rowIndex, colIndex, Fingerprint.element(elementAt(rowIndex, colIndex)));
+    }
+
+    private long rowContribution(int rowIndex) {
+        long sum = 0;
+        for (int j = 0; j < colCount(); j++) {
+            sum += elementPart(rowIndex, j);
+        }
+        return sum;
+    }
+
+    // 바뀌는 행/열의 현재 기여 (지문을 계산하지 않았으면 0, 연산 전후로 호출해 updateFingerprint에 넘김)
+    private long rowPart(int rowIndex) {
+        return fingerprintValid ? rowContribution(rowIndex) : 0;
+    }
+
+    private long colPart(int colIndex) {
+        if (!fingerprintValid) return 0;
+        long sum = 0;
+        for (int i = 0; i < rowCount(); i++) {
+            sum += elementPart(i, colIndex);
+        }
+        return sum;
+    }
+
+    private void updateFingerprint(long before, long after) {
+        if (fingerprintValid) fingerprintSum += after - before;
+    }
+
 
     // 51. RREF 행렬 구해서 반환 (새 행렬 반환)
     @Override
     public Matrix rref() {
-        Matrix tempMatrix = this.clone(); // 원본 변경 안 함
-        int lead = 0;
-        int rowCount = tempMatrix.getSize()[0];
-        int columnCount = tempMatrix.getSize()[1];
-
-        if (rowCount == 0 || columnCount == 0) return tempMatrix; // 빈 행렬은 그대로
-
-        for (int r = 0; r < rowCount; r++) {
-            if (lead >= columnCount) {
-                break;
-            }
-            int i = r;
-            while (tempMatrix.viewElement(i, lead).isZero()) {
-                i++;
-                if (i == rowCount) {
-                    i = r;
-                    lead++;
-                    if (lead == columnCount) {
-                        // 모든 남은 열이 0인 경우, RREF 계산 종료
-                        return tempMatrix;
-                    }
+        return rref(Factory.getPrecisionPolicy());
+    }
+
+    // 51. RREF (정밀도 정책 지정, Tensors.rref에서 사용)
+    // ResultCache를 켜 두면 같은 내용과 정책의 결과는 다시 소거하지 않고 저장된 결과의 복사본을 반환
+    Matrix rref(PrecisionPolicy policy) {
+        return ResultCache.rref(this, policy, () -> reduced(policy));
+    }
+
+    private Matrix reduced(PrecisionPolicy policy) {
+        MatrixImpl tempMatrix = (MatrixImpl) this.clone(); // 원본 변경 안 함
+        int numCols = tempMatrix.colCount();
+
+        if (tempMatrix.rowCount() == 0 || numCols == 0) return tempMatrix; // 빈 행렬은 그대로
+
+        tempMatrix.reduceInPlace(numCols, policy, policy.getRrefDivisionScale());
+        return tempMatrix;
+    }
+
+    // 가우스-조던 소거: 앞쪽 pivotCols개 열에서 피벗을 찾아 제자리에서 기약 행 사다리꼴로 만들고 피벗 개수를 반환
+    // rref()와 inverse()가 같은 기본 행 연산을 공유하며, 복제 없는 제자리 연산으로 요소를 갱신한다.
+    // 연산량이 Tensors의 병렬 기준 이상이면 피벗마다 나머지 행의 소거를 여러 스레드로 나눠 실행한다.
+    // 각 행은 피벗 행만 읽고 자기 행만 바꾸므로 결과는 순차 실행과 같다.
+    // BigDecimal 요소의 자릿수 제한과 0 판별 기준은 Elimination 참고 (RationalScalar 요소는 정확히 계산)
+    private int reduceInPlace(int pivotCols, PrecisionPolicy policy, int divisionScale) {
+        fingerprintValid = false;
+        int rowCount = rowCount();
+        int colCount = colCount();
+        boolean parallel = Tensors.shouldParallelize(rowCount, rowCount, colCount);
+        int grain = Math.max(1, PARALLEL_ELEMENTS_PER_TASK / Math.max(1, colCount));
+        Elimination elimination = new Elimination(policy, divisionScale);
+        int r = 0;
+        for (int lead = 0; lead < pivotCols && r < rowCount; lead++) {
+            int i = pivotRow(r, lead, elimination);
+            if (i < 0) { // 이 열에는 피벗이 없음: 남은 값은 정책의 zeroTolerance 이내이므로 0으로
+                for (int k = r; k < rowCount; k++) {
+                    elimination.clear(elementAt(k, lead));
                 }
+                continue;
             }
-            tempMatrix.swapRows(i, r);
+            Collections.swap(this.matrixRows, i, r);
 
-            Scalar pivot = tempMatrix.viewElement(r, lead);
-            if (!pivot.isZero() && !pivot.isOne()) {
+            Scalar pivot = elementAt(r, lead);
+            if (!elimination.isOne(pivot)) {
                 // 행을 pivot으로 나누기: row[r] = row[r] / pivot
-                // Scalar inversePivot = one.clone().divide(pivot); // Scalar에 divide 메소드 필요
-                // 임시: BigDecimal 직접 사용
+                Scalar reciprocal = elimination.reciprocal(pivot);
+                for (Scalar element : this.matrixRows.get(r).getScalars()) {
+                    elimination.scale(element, reciprocal);
+                }
+                elimination.setOne(pivot); // 역수의 반올림 오차와 무관하게 피벗은 정확히 1
+            }
 
-                Scalar inversePivot = Factory.buildScalar(BigDecimal.ONE.divide(pivot.getValue(), 10, RoundingMode.HALF_UP).toString()); // 정밀도 문제 주의
-                tempMatrix.multiplyRow(r, inversePivot);
+            int currentRow = r;
+            int currentLead = lead;
+            if (parallel) {
+                ParallelRange.run(0, rowCount, grain, (start, end) -> eliminateRows(start, end, currentRow, currentLead, elimination));
+            } else {
+                eliminateRows(0, rowCount, currentRow, currentLead, elimination);
             }
+            r++;
+        }
+        return r;
+    }
 
 
-            for (int j = 0; j < rowCount; j++) {
-                if (j != r) {
-                    Scalar val = tempMatrix.viewElement(j, lead).clone(); // 복제
-                    // row[j] = row[j] - val * row[r]
-                    // tempMatrix.addScaledRow(j, r, val.multiply(Factory.buildScalar("-1")));
-                    val.multiply(Factory.buildScalar("-1")); // val = -val
-                    tempMatrix.addScaledRow(j,r,val);
+    // [start, end) 행 중 피벗 행을 제외한 각 행에서 pivotCol 열을 0으로 만듦: row[j] = row[j] - val * row[pivotRow]
+    private void eliminateRows(int start, int end, int pivotRow, int pivotCol, Elimination elimination) {
+        List<Scalar> source = this.matrixRows.get(pivotRow).getScalars();
+        for (int j = start; j < end; j++) {
+            if (j != pivotRow) {
+                List<Scalar> target = this.matrixRows.get(j).getScalars();
+                Scalar val = target.get(pivotCol);
+                if (elimination.isZero(val)) { // 이미 0이면 더할 필요 없음
+                    elimination.clear(val);
+                    continue;
                 }
+                Scalar factor = negatedOf(val);
+                BigDecimal value = factor.getValue();
+                for (int k = 0; k < target.size(); k++) {
+                    if (k != pivotCol) elimination.addProduct(target.get(k), source.get(k), factor, value);
+                }
+                elimination.clear(val); // 피벗 열은 정확히 0
             }
-            lead++;
         }
-        return tempMatrix;
+    }
+
+    // lead 열의 r행부터 피벗 행 선택 (없으면 -1)
+    // BigDecimal 요소는 절댓값이 가장 큰 행(부분 피벗팅), RationalScalar는 정확하므로 처음 만나는 0이 아닌 행
+    private int pivotRow(int r, int lead, Elimination elimination) {
+        int best = -1;
+        BigDecimal bestAbs = null;
+        for (int i = r; i < rowCount(); i++) {
+            Scalar element = elementAt(i, lead);
+            if (elimination.isZero(element)) continue;
+            if (element instanceof RationalScalar) return i;
+            BigDecimal abs = element.getValue().abs();
+            if (best < 0 || abs.compareTo(bestAbs) > 0) {
+                best = i;
+                bestAbs = abs;
+            }
+        }
+        return best;
+    }
+
+    // reduceInPlace 한 번 동안 쓰는 BigDecimal 반올림/0 판별 기준
+    // 피벗 역수와 갱신된 요소를 divisionScale + GUARD_DIGITS 유효 자리로 반올림해
+    // 값의 크기나 소거 단계 수와 무관하게 자릿수를 제한한다 (반올림하지 않으면 단계마다 자릿수가 늘어 연산이 점점 느려진다).
+    // 0 판별은 행렬 전체가 아니라 연산마다의 반올림 오차 기준이다: target + source * factor의 결과가 두 피연산자 중
+    // 큰 쪽보다 10^(divisionScale - TOLERANCE_DIGITS)배 이상 작으면 상쇄 후 남은 반올림 오차로 보고 정확히 0으로 맞춘다.
+    // 그래서 1e8과 1e-9처럼 크기가 크게 다른 행/열이 섞여도 계수를 잃지 않는다. 정책의 zeroTolerance(절댓값)도 함께 적용한다.
+    private static final class Elimination {
+        static final int GUARD_DIGITS = 5;
+        static final int TOLERANCE_DIGITS = 3;
+
+        final PrecisionPolicy policy;
+        final MathContext working; // 피벗 역수와 곱/합
+        final int noiseDigits;
+
+        Elimination(PrecisionPolicy policy, int divisionScale) {
+            this.policy = policy;
+            int digits = Math.max(1, divisionScale);
+            int workingDigits = digits + GUARD_DIGITS;
+            int limit = policy.getMathContext().getPrecision(); // 0이면 UNLIMITED
+            if (limit > 0) workingDigits = Math.min(workingDigits, limit);
+            this.working = new MathContext(workingDigits, policy.getRoundingMode());
+            this.noiseDigits = Math.max(1, Math.min(digits, workingDigits) - TOLERANCE_DIGITS);
+        }
+
+        boolean isZero(Scalar element) {
+            if (element instanceof RationalScalar) return element.isZero();
+            BigDecimal value = element.getValue();
+            return value.signum() == 0 || policy.isZero(value);
+        }
+
+        boolean isOne(Scalar element) {
+            if (element instanceof RationalScalar) return element.isOne();
+            return policy.isOne(element.getValue());
+        }
+
+        // 피벗의 역수: RationalScalar는 정확히, 그 밖에는 working 유효 자리로 반올림 (읽기 전용 배율)
+        Scalar reciprocal(Scalar pivot) {
+            if (pivot instanceof RationalScalar) return ((RationalScalar) pivot).reciprocal();
+            return ImmutableScalar.valueOf(BigDecimal.ONE.divide(pivot.getValue(), working));
+        }
+
+        void clear(Scalar element) {
+            if (!(element instanceof RationalScalar) || !element.isZero()) element.setValue(BigDecimal.ZERO);
+        }
+
+        void setOne(Scalar element) {
+            if (!(element instanceof RationalScalar)) element.setValue(BigDecimal.ONE);
+        }
+
+        // element *= factor
+        void scale(Scalar element, Scalar factor) {
+            if (element instanceof RationalScalar) {
+                element.multiply(factor);
+            } else if (element.getValue().signum() != 0) {
+                element.setValue(element.getValue().multiply(factor.getValue(), working));
+            }
+        }
+
+        // target += source * factor (value == factor.getValue())
+        void addProduct(Scalar target, Scalar source, Scalar factor, BigDecimal value) {
+            if (target instanceof RationalScalar) {
+                ((RationalScalar) target).addProduct(source, factor);
+                return;
+            }
+            BigDecimal s = source.getValue();
+            if (s.signum() == 0) return;
+            BigDecimal t = target.getValue();
+            BigDecimal product = s.multiply(value, working);
+            if (t.signum() == 0) {
+                target.setValue(product);
+                return;
+            }
+            BigDecimal sum = t.add(product, working);
+            target.setValue(isNoise(sum, t, product) ? BigDecimal.ZERO : sum);
+        }
+
+        // a + b = sum에서 상쇄로 남은 값이 반올림 오차 수준인지 (자릿수 비교이므로 10배 이내의 근사)
+        private boolean isNoise(BigDecimal sum, BigDecimal a, BigDecimal b) {
+            if (sum.signum() == 0 || policy.isZero(sum)) return true;
+            return magnitude(sum) + noiseDigits <= Math.max(magnitude(a), magnitude(b));
+        }
+
+        // floor(log10 |v|) + 1 (v != 0)
+        private static int magnitude(BigDecimal v) {
+            return v.precision() - v.scale();
+        }
     }
 
 
     // 52. 자신이 RREF 행렬인지 여부 판별
     @Override
     public boolean isRREF() {
-        int[] size = getSize();
-        int rows = size[0];
-        int cols = size[1];
+        int rows = rowCount();
+        int cols = colCount();
 
         if (rows == 0) return true; // 0xN 행렬은 RREF (자명하게)
         if (cols == 0 && rows > 0) return true; // Mx0 행렬도 RREF (자명하게)
@@ -822,105 +1114,140 @@ public class MatrixImpl implements Matrix {
     }
 
 
-    // 53. 행렬식 (nxn 행렬)
+    // 53. 행렬식 (nxn 행렬) - O(n^3)
+    // 요소가 모두 정수 값이거나 RationalScalar이면 Bareiss 소거로 정확히 계산하고,
+    // 그 밖에는 부분 피벗팅 LU 분해를 사용한다 (나눗셈이 정책의 divisionContext() 정밀도로 반올림되므로, 반올림 없는 값이 필요하면 exactDeterminant() 사용)
     @Override
     public Scalar determinant() {
+        return determinant(Factory.getPrecisionPolicy());
+    }
+
+    // 53. 행렬식 (정밀도 정책 지정, Tensors.determinant에서 사용, ResultCache를 켜 두면 결과를 저장)
+    Scalar determinant(PrecisionPolicy policy) {
         if (!isSquare()) {
             throw new NotSquareMatrixException("Determinant is defined only for square matrices.");
         }
-        int[] size = getSize();
-        int n = size[0];
+        return ResultCache.determinant(this, policy, () -> computeDeterminant(policy));
+    }
+
+    private Scalar computeDeterminant(PrecisionPolicy policy) {
+        int n = rowCount();
 
-        if (n == 0) return Factory.buildScalar("1"); // 0x0 행렬의 행렬식은 1 (관례) 또는 예외
+        if (n == 0) return ImmutableScalar.ONE.clone(); // 0x0 행렬의 행렬식은 1 (관례) 또는 예외
 
         if (n == 1) {
-            return this.viewElement(0, 0).clone();
+            return this.viewElement(0, 0);
+        }
+        BigInteger[][] integers = new BigInteger[n][n];
+        BigInteger scale = Bareiss.toIntegerRows(this, integers);
+        if (scale.equals(BigInteger.ONE)) {
+            return Factory.buildScalar(new BigDecimal(Bareiss.determinant(integers)));
         }
-        if (n == 2) {
-            // ad - bc
-            Scalar a = this.viewElement(0, 0);
-            Scalar b = this.viewElement(0, 1);
-            Scalar c = this.viewElement(1, 0);
-            Scalar d = this.viewElement(1, 1);
-            // (a*d) - (b*c)
-            Scalar ad = Tensors.multiply(a.clone(), d.clone());
-            Scalar bc = Tensors.multiply(b.clone(), c.clone());
-            return Tensors.add(ad, bc.multiply(Factory.buildScalar("-1"))); // ad - bc
+        if (isRational()) {
+            return new RationalScalar(Bareiss.determinant(integers), scale);
         }
+        return Factory.buildScalar(LUDecomposition.determinant(toBigDecimalArray(), policy.divisionContext()));
+    }
+
+    // 53-1. 정확한 행렬식 (Bareiss 소거, 반올림 없음, O(n^3))
+    // 행마다 분모의 최소공배수를 곱해 정수 행렬로 만든 뒤 fraction-free 소거하고, 곱한 배율로 다시 나눈다.
+    // 소수 요소의 배율은 10의 거듭제곱이므로 결과는 정확한 유한소수가 된다.
+    @Override
+    public Scalar exactDeterminant() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Determinant is defined only for square matrices.");
+        }
+        int n = rowCount();
 
-        // Laplace expansion (cofactor expansion)
-        Scalar det = Factory.buildScalar("0");
-        Scalar sign = Factory.buildScalar("1");
+        if (n == 0) return ImmutableScalar.ONE.clone();
 
-        for (int j = 0; j < n; j++) { // 첫 번째 행을 따라 확장
-            Matrix minorMatrix = this.minor(0, j);
-            Scalar cofactorElement = this.viewElement(0, j).clone();
-            cofactorElement.multiply(minorMatrix.determinant());
-            cofactorElement.multiply(sign.clone());
+        if (n == 1) {
+            return this.viewElement(0, 0);
+        }
+        BigInteger[][] integers = new BigInteger[n][n];
+        BigInteger scale = Bareiss.toIntegerRows(this, integers);
+        RationalScalar det = new RationalScalar(Bareiss.determinant(integers), scale);
+        return isRational() ? det : Factory.buildScalar(det.getValue());
+    }
 
-            det.add(cofactorElement);
-            sign.multiply(Factory.buildScalar("-1")); // 부호 변경 (-1)^(0+j)
+    // 요소 값을 복제 없이 BigDecimal[][]로 추출 (BigDecimal은 불변이므로 공유해도 안전)
+    BigDecimal[][] toBigDecimalArray() {
+        int numRows = rowCount();
+        int numCols = colCount();
+        BigDecimal[][] values = new BigDecimal[numRows][numCols];
+        for (int i = 0; i < numRows; i++) {
+            List<Scalar> row = this.matrixRows.get(i).getScalars();
+            for (int j = 0; j < numCols; j++) {
+                values[i][j] = row.get(j).getValue();
+            }
         }
-        return det;
+        return values;
     }
 
-    // 54. 역행렬 (nxn 행렬, 새 행렬 반환)
+    // 54. 역행렬 (nxn 행렬, 새 행렬 반환) - [A | I]에 가우스-조던 소거, O(n^3)
     @Override
     public Matrix inverse() {
+        return inverse(Factory.getPrecisionPolicy());
+    }
+
+    // 54. 역행렬 (정밀도 정책 지정, Tensors.inverse에서 사용, ResultCache를 켜 두면 결과를 저장)
+    Matrix inverse(PrecisionPolicy policy) {
         if (!isSquare()) {
             throw new NotSquareMatrixException("Inverse is defined only for square matrices.");
         }
-        int[] size = getSize();
-        int n = size[0];
+        return ResultCache.inverse(this, policy, () -> inverted(policy));
+    }
+
+    private Matrix inverted(PrecisionPolicy policy) {
+        int n = rowCount();
         if (n == 0) { // 0x0 행렬의 역행렬은 0x0
             return Factory.buildMatrix(new Scalar[0][0]);
         }
 
-        Scalar det = this.determinant();
-        if (det.isZero()) {
-            throw new SingularMatrixException("Matrix is singular, inverse does not exist (determinant is zero).");
+        // 첨가 행렬 [A | I] 구성 (요소가 모두 RationalScalar면 I도 RationalScalar로 두어 소거 전체를 정확히 수행)
+        boolean exact = isRational();
+        Scalar[][] augmentedData = new Scalar[n][2 * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                augmentedData[i][j] = exact ? elementAt(i, j) : Factory.buildScalar(elementAt(i, j).getValue());
+                BigInteger identity = (i == j) ? BigInteger.ONE : BigInteger.ZERO;
+                // 생성자가 요소를 복제하므로 상수를 그대로 넘김
+                augmentedData[i][n + j] = exact ? new RationalScalar(identity, BigInteger.ONE) : (i == j ? ImmutableScalar.ONE : ImmutableScalar.ZERO);
+            }
         }
+        MatrixImpl augmented = new MatrixImpl(augmentedData); // 제자리 소거를 위해 MatrixImpl로 직접 생성
 
-        // Adjoint matrix / determinant method
-        // 역행렬 = (1/det(A)) * adj(A)
-        // adj(A)는 수반 행렬 (cofactor matrix의 전치)
-
-        Scalar[][] adjData = new Scalar[n][n];
-        Scalar oneOverDet;
-        try {
-            // Scalar에 divide 메소드가 없다면 BigDecimal 직접 사용
-            BigDecimal detValue = det.getValue();
-            // BigDecimal.ONE.divide(detValue) // 정확한 나누기가 안될 수 있음. 스케일 지정 필요.
-            // 여기서는 1/det을 나중에 각 요소에 곱하는 방식으로 진행
-            oneOverDet = Factory.buildScalar(BigDecimal.ONE.divide(detValue, 20, RoundingMode.HALF_UP).toString()); // 스케일 조절 필요
-        } catch (ArithmeticException e) {
-            throw new SingularMatrixException("Cannot compute inverse, error in dividing by determinant (possibly due to precision). Determinant: " + det.toString());
+        // 왼쪽 n열에서 피벗이 n개 나오면 왼쪽은 I, 오른쪽은 A^-1이 된다
+        if (augmented.reduceInPlace(n, policy, policy.getInverseDivisionScale()) < n) {
+            throw new SingularMatrixException("Matrix is singular, inverse does not exist (determinant is zero).");
         }
+        return ((MatrixView) augmented.subMatrix(0, n - 1, n, 2 * n - 1)).materialize(); // augmented는 버리므로 뷰 대신 복사본
+    }
 
-
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                Matrix minorMatrix = this.minor(i, j);
-                Scalar cofactor = minorMatrix.determinant();
-                // 부호 (-1)^(i+j)
-                if ((i + j) % 2 != 0) {
-                    cofactor.multiply(Factory.buildScalar("-1"));
-                }
-                // adj(A)는 cofactor matrix의 전치이므로, (j,i) 위치에 저장
-                adjData[j][i] = cofactor;
+    // 요소 값과 종류(RationalScalar 여부)까지 같은지 (복제 없음, ResultCache의 적중 확인용)
+    boolean sameElements(MatrixImpl other) {
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (numRows != other.rowCount() || numCols != other.colCount()) return false;
+        for (int i = 0; i < numRows; i++) {
+            List<Scalar> row = this.matrixRows.get(i).getScalars();
+            List<Scalar> otherRow = other.matrixRows.get(i).getScalars();
+            for (int j = 0; j < numCols; j++) {
+                Scalar a = row.get(j);
+                Scalar b = otherRow.get(j);
+                if ((a instanceof RationalScalar) != (b instanceof RationalScalar) || !a.equals(b)) return false;
             }
         }
+        return true;
+    }
 
-        Matrix adjMatrix = Factory.buildMatrix(adjData);
-
-        // 각 요소를 det으로 나누기 (또는 1/det 곱하기)
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                Scalar current = adjMatrix.viewElement(i,j); // 복제본
-                current.multiply(oneOverDet.clone());
-                adjMatrix.setElement(i,j, current);
+    // 모든 요소가 RationalScalar인지 여부 (정확한 분수 연산 경로 선택용)
+    boolean isRational() {
+        for (Vector row : this.matrixRows) {
+            for (Scalar element : row.getScalars()) {
+                if (!(element instanceof RationalScalar)) return false;
             }
         }
-        return adjMatrix;
+        return true;
     }
 }
@@ -0,0 +1,345 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+// 행렬 곱셈 엔진 (Tensors.multiply에서 사용)
+// - 두 행렬이 모두 밀집(double[]) 저장소이면 B를 전치한 뒤 타일 단위로 primitive 내적을 계산
+// - 두 행렬의 요소가 모두 RationalScalar이면 분수로 정확히 계산
+// - 그 외에는 BigDecimal로 계산하며, 곱셈/덧셈 정밀도는 MathContext로 지정 (UNLIMITED면 정확한 값)
+// - 피연산자가 전치 뷰(TransposeView)이면 원본 저장소를 전치된 순서로 직접 읽음 (뷰를 materialize하지 않음)
+//   밀집 B^T는 원본 그대로가 커널이 원하는 B^T 배치이므로 전치 단계가 없어짐
+// - 연산량이 Tensors의 병렬 기준 이상이면 결과 행을 블록으로 나눠 ForkJoinPool에서 실행 (결과는 순차 실행과 동일)
+final class MatrixMultiplier {
+    // 타일 한 변의 크기: A 타일과 B^T 타일(각 BLOCK_SIZE x BLOCK_SIZE double)이 L2 캐시에 함께 들어가는 크기
+    static final int BLOCK_SIZE = 64;
+
+    private MatrixMultiplier() {
+    }
+
+    static Matrix multiply(Matrix m1, Matrix m2, MathContext mc) {
+        int rows = m1.rowCount(); // R1 x C1
+        int inner = m1.colCount();
+        int cols = m2.colCount(); // R2 x C2
+        if (inner != m2.rowCount()) {
+            throw new DimensionMismatchException(
+                    "Number of columns in the first matrix (" + inner +
+                            ") must equal the number of rows in the second matrix (" + m2.rowCount() + ") for multiplication.");
+        }
+
+        boolean parallel = Tensors.shouldParallelize(rows, inner, cols);
+
+        m1 = resolved(m1);
+        m2 = resolved(m2);
+        Matrix base1 = base(m1);
+        Matrix base2 = base(m2);
+        if (base1 instanceof SparseMatrixImpl || base2 instanceof SparseMatrixImpl) {
+            return SparseMatrixImpl.multiply(sparseOperand(m1), sparseOperand(m2));
+        }
+        if (isDense(base1) && isDense(base2)) {
+            // A는 행 우선, B는 B^T(열 우선)로 필요: 전치 뷰의 원본 배열은 각각 A^T, B^T 배치
+            double[] a = (m1 != base1) ? transpose(denseData(base1), inner, rows) : denseData(base1);
+            double[] bt = (m2 != base2) ? denseData(base2) : transpose(denseData(base2), inner, cols);
+            double[] product = multiplyTransposed(a, bt, rows, inner, cols, parallel);
+            return new DenseMatrixImpl(rows, cols, product);
+        }
+
+        if (rows == 0) {
+            return Factory.buildMatrix(new ArrayList<>()); // 0xN 결과
+        }
+        if (isRational(base1) && isRational(base2)) {
+            return new MatrixImpl(multiplyRational(toRationalArray(m1), toRationalArray(m2), cols, parallel));
+        }
+        BigDecimal[][] a = toBigDecimalArray(m1);
+        BigDecimal[][] bt = (m2 != base2) ? toBigDecimalArray(base2) : transpose(toBigDecimalArray(m2), inner, cols);
+        BigDecimal[][] product = multiplyExactTransposed(a, bt, mc, parallel);
+        Scalar[][] resultData = new Scalar[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                resultData[i][j] = Factory.buildScalar(product[i][j]);
+            }
+        }
+        return Factory.buildMatrix(resultData);
+    }
+
+    // 부분 행렬 뷰는 MatrixImpl 복사본, 합친 행렬 뷰는 그 저장소로 바꿔 저장소별 경로를 그대로 사용 (복사 O(mn) < 곱셈 O(mnk))
+    // 전치 뷰 안의 뷰도 같은 방식으로 바꾼 뒤 다시 전치 뷰로 감쌈
+    private static Matrix resolved(Matrix m) {
+        if (m instanceof SliceView) return ((SliceView) m).readable();
+        if (m instanceof ConcatView) return ((ConcatView) m).storage();
+        Matrix base = base(m);
+        if (base != m && (base instanceof SliceView || base instanceof ConcatView)) return resolved(base).transposeView();
+        return m;
+    }
+
+    // 전치 뷰이면 원본, 아니면 그대로
+    private static Matrix base(Matrix m) {
+        return (m instanceof TransposeView) ? ((TransposeView) m).source() : m;
+    }
+
+    // 희소 행렬의 전치 뷰는 같은 배열을 반대 방향(CSR <-> CSC)으로 읽는 희소 행렬로 바꿈 (복사 없음)
+    private static Matrix sparseOperand(Matrix m) {
+        Matrix base = base(m);
+        return (m != base && base instanceof SparseMatrixImpl) ? ((SparseMatrixImpl) base).transposedShared() : m;
+    }
+
+    // double 저장소 행렬 (매핑된 파일 행렬은 한 번 일괄 복사해 같은 커널을 사용)
+    private static boolean isDense(Matrix m) {
+        return m instanceof DenseMatrixImpl || m instanceof MappedMatrixImpl;
+    }
+
+    private static double[] denseData(Matrix m) {
+        return (m instanceof MappedMatrixImpl) ? ((MappedMatrixImpl) m).toDense().data() : ((DenseMatrixImpl) m).data();
+    }
+
+    // C(rows x cols) = A(rows x inner) * B(inner x cols), 모두 행 우선 배열
+    // B를 전치해 두면 내적의 두 피연산자가 모두 연속 메모리가 되고, 타일링으로 캐시 재사용을 높인다.
+    static double[] multiplyDense(double[] a, double[] b, int rows, int inner, int cols, boolean parallel) {
+        return multiplyTransposed(a, transpose(b, inner, cols), rows, inner, cols, parallel);
+    }
+
+    // C(rows x cols) = A(rows x inner) * B, bt는 B^T (cols x inner, 행 우선)
+    static double[] multiplyTransposed(double[] a, double[] bt, int rows, int inner, int cols, boolean parallel) {
+        double[] c = new double[rows * cols];
+        if (parallel) {
+            Tensors.invoke(new DenseTask(a, bt, c, inner, cols, 0, rows));
+        } else {
+            multiplyBlock(a, bt, c, inner, cols, 0, rows);
+        }
+        return c;
+    }
+
+    // C의 [rowStart, rowEnd) 행만 계산 (bt는 B^T: cols x inner)
+    static void multiplyBlock(double[] a, double[] bt, double[] c, int inner, int cols, int rowStart, int rowEnd) {
+        for (int ii = rowStart; ii < rowEnd; ii += BLOCK_SIZE) {
+            int iEnd = Math.min(ii + BLOCK_SIZE, rowEnd);
+            for (int jj = 0; jj < cols; jj += BLOCK_SIZE) {
+                int jEnd = Math.min(jj + BLOCK_SIZE, cols);
+                for (int kk = 0; kk < inner; kk += BLOCK_SIZE) {
+                    int kEnd = Math.min(kk + BLOCK_SIZE, inner);
+                    for (int i = ii; i < iEnd; i++) {
+                        int aBase = i * inner;
+                        int cBase = i * cols;
+                        int j = jj;
+                        // B^T의 네 행을 한 번에 처리하여 A 요소 하나를 네 번 재사용 (레지스터 블로킹)
+                        for (; j + 3 < jEnd; j += 4) {
+                            int b0 = j * inner;
+                            int b1 = b0 + inner;
+                            int b2 = b1 + inner;
+                            int b3 = b2 + inner;
+                            double sum0 = 0.0, sum1 = 0.0, sum2 = 0.0, sum3 = 0.0;
+                            for (int p = kk; p < kEnd; p++) {
+                                double av = a[aBase + p];
+                                sum0 += av * bt[b0 + p];
+                                sum1 += av * bt[b1 + p];
+                                sum2 += av * bt[b2 + p];
+                                sum3 += av * bt[b3 + p];
+                            }
+                            c[cBase + j] += sum0;
+                            c[cBase + j + 1] += sum1;
+                            c[cBase + j + 2] += sum2;
+                            c[cBase + j + 3] += sum3;
+                        }
+                        for (; j < jEnd; j++) {
+                            int bBase = j * inner;
+                            double sum = 0.0;
+                            for (int p = kk; p < kEnd; p++) {
+                                sum += a[aBase + p] * bt[bBase + p];
+                            }
+                            c[cBase + j] += sum;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // 요소 참조만 옮긴 전치 (rows x cols -> cols x rows)
+    static <T> T[][] transpose(T[][] b, int rows, int cols) {
+        @SuppressWarnings("unchecked")
+        T[][] bt = (T[][]) java.lang.reflect.Array.newInstance(b.getClass().getComponentType().getComponentType(), cols, rows);
+        for (int p = 0; p < rows; p++) {
+            for (int j = 0; j < cols; j++) {
+                bt[j][p] = b[p][j];
+            }
+        }
+        return bt;
+    }
+
+    static double[] transpose(double[] b, int rows, int cols) {
+        double[] bt = new double[rows * cols];
+        for (int ii = 0; ii < rows; ii += BLOCK_SIZE) {
+            int iEnd = Math.min(ii + BLOCK_SIZE, rows);
+            for (int jj = 0; jj < cols; jj += BLOCK_SIZE) {
+                int jEnd = Math.min(jj + BLOCK_SIZE, cols);
+                for (int i = ii; i < iEnd; i++) {
+                    for (int j = jj; j < jEnd; j++) {
+                        bt[j * rows + i] = b[i * cols + j];
+                    }
+                }
+            }
+        }
+        return bt;
+    }
+
+    // BigDecimal 곱셈. B의 열을 미리 배열로 모아 두고 내적을 계산
+    static BigDecimal[][] multiplyExact(BigDecimal[][] a, BigDecimal[][] b, int inner, int cols, MathContext mc, boolean parallel) {
+        return multiplyExactTransposed(a, transpose(b, inner, cols), mc, parallel);
+    }
+
+    // bt는 B^T (cols x inner)
+    static BigDecimal[][] multiplyExactTransposed(BigDecimal[][] a, BigDecimal[][] bt, MathContext mc, boolean parallel) {
+        int cols = bt.length;
+        BigDecimal[][] c = new BigDecimal[a.length][cols];
+        if (parallel) {
+            Tensors.invoke(new ExactTask(a, bt, c, mc, 0, a.length));
+        } else {
+            for (int i = 0; i < a.length; i++) {
+                multiplyExactRow(a[i], bt, c[i], mc);
+            }
+        }
+        return c;
+    }
+
+    static void multiplyExactRow(BigDecimal[] aRow, BigDecimal[][] bt, BigDecimal[] cRow, MathContext mc) {
+        for (int j = 0; j < bt.length; j++) {
+            BigDecimal[] bCol = bt[j];
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int p = 0; p < aRow.length; p++) {
+                if (aRow[p].signum() == 0 || bCol[p].signum() == 0) continue;
+                sum = sum.add(aRow[p].multiply(bCol[p], mc), mc);
+            }
+            cRow[j] = sum;
+        }
+    }
+
+    // 유리수 곱셈: 분수로 정확히 누적하므로 MathContext를 사용하지 않음 (A * A^-1 == I가 정확히 성립)
+    static Scalar[][] multiplyRational(RationalScalar[][] a, RationalScalar[][] b, int cols, boolean parallel) {
+        Scalar[][] c = new Scalar[a.length][cols];
+        ParallelRange.Body body = (start, end) -> {
+            for (int i = start; i < end; i++) {
+                for (int j = 0; j < cols; j++) {
+                    RationalScalar sum = new RationalScalar(BigInteger.ZERO, BigInteger.ONE);
+                    for (int p = 0; p < b.length; p++) {
+                        sum.addProduct(a[i][p], b[p][j]);
+                    }
+                    c[i][j] = sum;
+                }
+            }
+        };
+        if (parallel) {
+            ParallelRange.run(0, a.length, 1, body);
+        } else {
+            body.run(0, a.length);
+        }
+        return c;
+    }
+
+    private static boolean isRational(Matrix m) {
+        return m instanceof MatrixImpl && ((MatrixImpl) m).isRational();
+    }
+
+    // 저장된 요소를 복제 없이 꺼냄 (읽기 전용으로만 사용). 전치 뷰는 원본 요소 참조를 전치
+    private static RationalScalar[][] toRationalArray(Matrix m) {
+        if (m instanceof TransposeView) {
+            Matrix source = ((TransposeView) m).source();
+            return transpose(toRationalArray(source), source.rowCount(), source.colCount());
+        }
+        int[] size = m.getSize();
+        RationalScalar[][] values = new RationalScalar[size[0]][size[1]];
+        for (int i = 0; i < size[0]; i++) {
+            for (int j = 0; j < size[1]; j++) {
+                values[i][j] = (RationalScalar) ((MatrixImpl) m).elementAt(i, j);
+            }
+        }
+        return values;
+    }
+
+    // 요소 값을 BigDecimal[][]로 추출 (MatrixImpl은 복제 없이 저장된 값을 그대로 사용, 전치 뷰는 원본 값 참조를 전치)
+    static BigDecimal[][] toBigDecimalArray(Matrix m) {
+        if (m instanceof MatrixImpl) {
+            return ((MatrixImpl) m).toBigDecimalArray();
+        }
+        if (m instanceof TransposeView) {
+            Matrix source = ((TransposeView) m).source();
+            return transpose(toBigDecimalArray(source), source.rowCount(), source.colCount());
+        }
+        int[] size = m.getSize();
+        BigDecimal[][] values = new BigDecimal[size[0]][size[1]];
+        for (int i = 0; i < size[0]; i++) {
+            for (int j = 0; j < size[1]; j++) {
+                values[i][j] = m.viewElement(i, j).getValue();
+            }
+        }
+        return values;
+    }
+
+    // 결과 행 [rowStart, rowEnd)를 반으로 나눠 가며 BLOCK_SIZE 행 이하가 되면 직접 계산
+    private static final class DenseTask extends RecursiveAction {
+        private final double[] a;
+        private final double[] bt;
+        private final double[] c;
+        private final int inner;
+        private final int cols;
+        private final int rowStart;
+        private final int rowEnd;
+
+        DenseTask(double[] a, double[] bt, double[] c, int inner, int cols, int rowStart, int rowEnd) {
+            this.a = a;
+            this.bt = bt;
+            this.c = c;
+            this.inner = inner;
+            this.cols = cols;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+        }
+
+        @Override
+        protected void compute() {
+            if (rowEnd - rowStart <= BLOCK_SIZE) {
+                multiplyBlock(a, bt, c, inner, cols, rowStart, rowEnd);
+                return;
+            }
+            // 타일 경계(BLOCK_SIZE의 배수)에서 나눔
+            int mid = rowStart + ((rowEnd - rowStart) / 2 + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+            invokeAll(new DenseTask(a, bt, c, inner, cols, rowStart, mid),
+                    new DenseTask(a, bt, c, inner, cols, mid, rowEnd));
+        }
+    }
+
+    // BigDecimal 곱셈은 행 하나의 비용이 크므로 행 단위까지 나눔
+    private static final class ExactTask extends RecursiveAction {
+        private final BigDecimal[][] a;
+        private final BigDecimal[][] bt;
+        private final BigDecimal[][] c;
+        private final MathContext mc;
+        private final int rowStart;
+        private final int rowEnd;
+
+        ExactTask(BigDecimal[][] a, BigDecimal[][] bt, BigDecimal[][] c, MathContext mc, int rowStart, int rowEnd) {
+            this.a = a;
+            this.bt = bt;
+            this.c = c;
+            this.mc = mc;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+        }
+
+        @Override
+        protected void compute() {
+            if (rowEnd - rowStart <= 1) {
+                for (int i = rowStart; i < rowEnd; i++) {
+                    multiplyExactRow(a[i], bt, c[i], mc);
+                }
+                return;
+            }
+            int mid = (rowStart + rowEnd) >>> 1;
+            invokeAll(new ExactTask(a, bt, c, mc, rowStart, mid),
+                    new ExactTask(a, bt, c, mc, mid, rowEnd));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package tensor;
+
+// 다른 행렬의 저장소를 복사 없이 참조하는 행렬 (Matrix.transposeView() 등으로 생성)
+// 요소를 읽을 때마다 원본에서 가져오므로 생성 비용이 O(1)이며, 원본 저장소 종류의 연산(곱셈 커널 등)이 뷰를 인식해 그대로 사용한다.
+// materialize()는 현재 내용을 원본과 독립된 일반 행렬로 복사한다 (원본과 같은 저장소 종류).
+public interface MatrixView extends Matrix {
+    Matrix materialize();
+}
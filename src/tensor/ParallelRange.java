@@ -0,0 +1,42 @@
+package tensor;
+
+import java.util.concurrent.RecursiveAction;
+
+// 정수 구간 [start, end)를 grain 이하 크기의 조각으로 나눠 Tensors의 ForkJoinPool에서 실행
+// 조각끼리 서로 다른 인덱스만 다루는 작업(예: 행별 소거)에 사용한다.
+final class ParallelRange extends RecursiveAction {
+    interface Body {
+        void run(int start, int end);
+    }
+
+    private final int start;
+    private final int end;
+    private final int grain;
+    private final Body body;
+
+    private ParallelRange(int start, int end, int grain, Body body) {
+        this.start = start;
+        this.end = end;
+        this.grain = grain;
+        this.body = body;
+    }
+
+    // 모든 조각이 끝날 때까지 대기
+    static void run(int start, int end, int grain, Body body) {
+        if (end - start <= grain) {
+            body.run(start, end);
+            return;
+        }
+        Tensors.invoke(new ParallelRange(start, end, Math.max(1, grain), body));
+    }
+
+    @Override
+    protected void compute() {
+        if (end - start <= grain) {
+            body.run(start, end);
+            return;
+        }
+        int mid = (start + end) >>> 1;
+        invokeAll(new ParallelRange(start, mid, grain, body), new ParallelRange(mid, end, grain, body));
+    }
+}
@@ -0,0 +1,145 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+// BigDecimal 연산의 정밀도 정책 (불변 객체)
+// Factory.setPrecisionPolicy로 기본 정책을 바꾸거나, Tensors.rref/inverse/determinant/multiply에 연산별로 전달한다.
+// - mathContext        : 행 연산과 행렬 곱셈의 곱/합 정밀도 (UNLIMITED면 반올림 없음)
+// - roundingMode       : 소수점 자릿수를 맞출 때(나눗셈, 난수, toString)의 반올림 방식
+// - rrefDivisionScale  : rref() 소거의 유효 자릿수 기준 (피벗 역수와 곱/합은 이보다 몇 자리 더 유지)
+// - inverseDivisionScale : inverse() 소거의 유효 자릿수 기준
+// - randomScale        : 난수 스칼라의 소수점 자릿수
+// - maxToStringScale   : toString(int)에서 허용하는 최대 소수점 자릿수
+// - zeroTolerance      : |값| <= zeroTolerance면 isZero(), |값 - 1| <= zeroTolerance면 isOne() (0이면 정확히 비교)
+//   rref/inverse 소거에서는 연산마다 상쇄 후 남은 반올림 오차(나눗셈 자릿수 기준)와 zeroTolerance 이내의 값을 0으로 본다 (MatrixImpl.Elimination)
+// RationalScalar는 값이 정확하므로 이 정책과 무관하게 정확히 계산/비교한다.
+public final class PrecisionPolicy {
+    // 기존 고정값과 같은 기본 정책
+    public static final PrecisionPolicy DEFAULT = new PrecisionPolicy(MathContext.UNLIMITED, RoundingMode.HALF_UP, 10, 20, 10, 10, BigDecimal.ZERO);
+
+    // mathContext가 UNLIMITED일 때 LU 분해 행렬식의 나눗셈에 쓰는 정밀도
+    private static final int DEFAULT_DIVISION_PRECISION = MathContext.DECIMAL128.getPrecision();
+
+    private final MathContext mathContext;
+    private final RoundingMode roundingMode;
+    private final int rrefDivisionScale;
+    private final int inverseDivisionScale;
+    private final int randomScale;
+    private final int maxToStringScale;
+    private final BigDecimal zeroTolerance;
+
+    private PrecisionPolicy(MathContext mathContext, RoundingMode roundingMode, int rrefDivisionScale, int inverseDivisionScale,
+                            int randomScale, int maxToStringScale, BigDecimal zeroTolerance) {
+        if (mathContext == null) throw new IllegalArgumentException("MathContext cannot be null.");
+        if (roundingMode == null || roundingMode == RoundingMode.UNNECESSARY) {
+            throw new IllegalArgumentException("Rounding mode must be a rounding (non-UNNECESSARY) mode.");
+        }
+        if (rrefDivisionScale < 0 || inverseDivisionScale < 0 || randomScale < 0 || maxToStringScale < 0) {
+            throw new IllegalArgumentException("Scales cannot be negative.");
+        }
+        if (zeroTolerance == null || zeroTolerance.signum() < 0) {
+            throw new IllegalArgumentException("Zero tolerance must be non-negative.");
+        }
+        this.mathContext = mathContext;
+        this.roundingMode = roundingMode;
+        this.rrefDivisionScale = rrefDivisionScale;
+        this.inverseDivisionScale = inverseDivisionScale;
+        this.randomScale = randomScale;
+        this.maxToStringScale = maxToStringScale;
+        this.zeroTolerance = zeroTolerance;
+    }
+
+    // 정밀도를 precision 자리로 제한하는 정책 (곱/합은 mathContext로, 나눗셈은 precision 자릿수로 반올림)
+    public static PrecisionPolicy ofPrecision(int precision) {
+        if (precision <= 0) throw new IllegalArgumentException("Precision must be positive.");
+        return DEFAULT.withMathContext(new MathContext(precision, DEFAULT.roundingMode))
+                .withDivisionScale(precision);
+    }
+
+    public MathContext getMathContext() {
+        return mathContext;
+    }
+
+    public RoundingMode getRoundingMode() {
+        return roundingMode;
+    }
+
+    public int getRrefDivisionScale() {
+        return rrefDivisionScale;
+    }
+
+    public int getInverseDivisionScale() {
+        return inverseDivisionScale;
+    }
+
+    public int getRandomScale() {
+        return randomScale;
+    }
+
+    public int getMaxToStringScale() {
+        return maxToStringScale;
+    }
+
+    public BigDecimal getZeroTolerance() {
+        return zeroTolerance;
+    }
+
+    public PrecisionPolicy withMathContext(MathContext mc) {
+        return new PrecisionPolicy(mc, roundingMode, rrefDivisionScale, inverseDivisionScale, randomScale, maxToStringScale, zeroTolerance);
+    }
+
+    public PrecisionPolicy withRoundingMode(RoundingMode mode) {
+        return new PrecisionPolicy(mathContext, mode, rrefDivisionScale, inverseDivisionScale, randomScale, maxToStringScale, zeroTolerance);
+    }
+
+    // rref()와 inverse()의 나눗셈 자릿수를 함께 지정
+    public PrecisionPolicy withDivisionScale(int scale) {
+        return new PrecisionPolicy(mathContext, roundingMode, scale, scale, randomScale, maxToStringScale, zeroTolerance);
+    }
+
+    public PrecisionPolicy withRrefDivisionScale(int scale) {
+        return new PrecisionPolicy(mathContext, roundingMode, scale, inverseDivisionScale, randomScale, maxToStringScale, zeroTolerance);
+    }
+
+    public PrecisionPolicy withInverseDivisionScale(int scale) {
+        return new PrecisionPolicy(mathContext, roundingMode, rrefDivisionScale, scale, randomScale, maxToStringScale, zeroTolerance);
+    }
+
+    public PrecisionPolicy withRandomScale(int scale) {
+        return new PrecisionPolicy(mathContext, roundingMode, rrefDivisionScale, inverseDivisionScale, scale, maxToStringScale, zeroTolerance);
+    }
+
+    public PrecisionPolicy withMaxToStringScale(int scale) {
+        return new PrecisionPolicy(mathContext, roundingMode, rrefDivisionScale, inverseDivisionScale, randomScale, scale, zeroTolerance);
+    }
+
+    public PrecisionPolicy withZeroTolerance(BigDecimal tolerance) {
+        return new PrecisionPolicy(mathContext, roundingMode, rrefDivisionScale, inverseDivisionScale, randomScale, maxToStringScale, tolerance);
+    }
+
+    // 나눗셈처럼 정확한 결과가 무한소수일 수 있는 연산의 정밀도 (mathContext가 UNLIMITED면 DECIMAL128 자릿수)
+    MathContext divisionContext() {
+        if (mathContext.getPrecision() > 0) return mathContext;
+        return new MathContext(DEFAULT_DIVISION_PRECISION, roundingMode);
+    }
+
+    boolean isZero(BigDecimal value) {
+        if (zeroTolerance.signum() == 0) return value.signum() == 0;
+        return value.abs().compareTo(zeroTolerance) <= 0;
+    }
+
+    boolean isOne(BigDecimal value) {
+        if (zeroTolerance.signum() == 0) return value.compareTo(BigDecimal.ONE) == 0;
+        return value.subtract(BigDecimal.ONE).abs().compareTo(zeroTolerance) <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "PrecisionPolicy[mathContext=" + mathContext + ", roundingMode=" + roundingMode
+                + ", rrefDivisionScale=" + rrefDivisionScale + ", inverseDivisionScale=" + inverseDivisionScale
+                + ", randomScale=" + randomScale + ", maxToStringScale=" + maxToStringScale
+                + ", zeroTolerance=" + zeroTolerance.toPlainString() + "]";
+    }
+}
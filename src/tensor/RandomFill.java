@@ -0,0 +1,101 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 시드를 지정한 균등 난수 [ii, jj) 생성
+// 요소를 BLOCK_SIZE개씩 고정 블록으로 나누고, 시드의 SplittableRandom에서 블록 순서대로 split()한 스트림으로 각 블록을 채운다.
+// 블록 경계와 스트림이 시드로만 정해지므로 병렬 여부/스레드 수와 무관하게 같은 시드는 항상 같은 값을 만든다.
+// BigDecimal 요소는 정책의 randomScale 자릿수로 만들되, setScale 대신 double에서 바로 unscaled 정수를 구한다.
+final class RandomFill {
+    private static final int BLOCK_SIZE = 1 << 14;
+    private static final double MAX_EXACT_LONG = 9.007199254740992E15; // 2^53
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15};
+
+    private RandomFill() {
+    }
+
+    // count개의 난수 (행 우선 배열로 사용)
+    static double[] uniform(int count, double ii, double jj, long seed) {
+        if (ii >= jj) throw new IllegalArgumentException("Lower bound ii must be less than upper bound jj.");
+        double[] values = new double[count];
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[blocks];
+        for (int b = 0; b < blocks; b++) {
+            streams[b] = root.split();
+        }
+        ParallelRange.Body body = (start, end) -> {
+            for (int b = start; b < end; b++) {
+                SplittableRandom random = streams[b];
+                int to = Math.min(count, (b + 1) * BLOCK_SIZE);
+                for (int k = b * BLOCK_SIZE; k < to; k++) {
+                    values[k] = random.nextDouble(ii, jj);
+                }
+            }
+        };
+        if (Tensors.isParallel()) {
+            ParallelRange.run(0, blocks, 1, body);
+        } else {
+            body.run(0, blocks);
+        }
+        return values;
+    }
+
+    static DenseMatrixImpl denseMatrix(int mm, int nn, double ii, double jj, long seed) {
+        checkDimensions(mm, nn);
+        return new DenseMatrixImpl(mm, nn, uniform(mm * nn, ii, jj, seed));
+    }
+
+    // BigDecimal 요소 행렬: 난수 생성 후 행 단위로 나눠 스칼라를 병렬 생성
+    static MatrixImpl decimalMatrix(int mm, int nn, double ii, double jj, long seed, PrecisionPolicy policy) {
+        checkDimensions(mm, nn);
+        double[] values = uniform(mm * nn, ii, jj, seed);
+        Vector[] rows = new Vector[mm];
+        ParallelRange.Body body = (start, end) -> {
+            for (int i = start; i < end; i++) {
+                rows[i] = decimalVector(values, i * nn, nn, policy);
+            }
+        };
+        if (Tensors.isParallel()) {
+            ParallelRange.run(0, mm, Math.max(1, BLOCK_SIZE / nn), body);
+        } else {
+            body.run(0, mm);
+        }
+        List<Vector> rowList = new ArrayList<>(mm);
+        for (Vector row : rows) {
+            rowList.add(row);
+        }
+        return MatrixImpl.wrap(rowList);
+    }
+
+    static VectorImpl decimalVector(int nn, double ii, double jj, long seed, PrecisionPolicy policy) {
+        if (nn <= 0) throw new IllegalArgumentException("Vector dimension nn must be positive.");
+        return decimalVector(uniform(nn, ii, jj, seed), 0, nn, policy);
+    }
+
+    private static VectorImpl decimalVector(double[] values, int offset, int length, PrecisionPolicy policy) {
+        int scale = policy.getRandomScale();
+        List<Scalar> scalars = new ArrayList<>(length);
+        for (int k = offset; k < offset + length; k++) {
+            scalars.add(new ScalarImpl(decimalOf(values[k], scale, policy)));
+        }
+        return VectorImpl.wrap(scalars);
+    }
+
+    // value를 소수점 아래 scale자리로: value * 10^scale이 double로 정확한 정수 범위면 반올림한 정수에서 바로 생성
+    private static BigDecimal decimalOf(double value, int scale, PrecisionPolicy policy) {
+        if (scale <= 15) {
+            double shifted = value * POWERS_OF_TEN[scale];
+            if (Math.abs(shifted) < MAX_EXACT_LONG) return BigDecimal.valueOf(Math.round(shifted), scale);
+        }
+        return BigDecimal.valueOf(value).setScale(scale, policy.getRoundingMode());
+    }
+
+    private static void checkDimensions(int mm, int nn) {
+        if (mm <= 0 || nn <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        if ((long) mm * nn > Integer.MAX_VALUE) throw new IllegalArgumentException("Matrix is too large: " + mm + "x" + nn + ".");
+    }
+}
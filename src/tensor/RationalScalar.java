@@ -0,0 +1,214 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+// 유리수 스칼라: BigInteger 분자/분모 쌍으로 값을 정확히 저장 (분모 > 0, 항상 기약분수로 정규화)
+// 나눗셈이 반올림 없이 닫혀 있으므로 rref()/inverse()의 결과가 정확하고, 피벗은 정확히 1이 된다.
+// ScalarImpl과 같이 add/multiply는 자신을 변경한다. Factory.buildRationalScalar(...)로 생성한다.
+class RationalScalar implements Scalar {
+    // getValue()에서 유한소수로 나타낼 수 없는 값(예: 1/3)을 BigDecimal로 근사할 때의 정밀도
+    static final MathContext DECIMAL_CONTEXT = MathContext.DECIMAL128;
+
+    private BigInteger numerator;
+    private BigInteger denominator;
+
+    RationalScalar(BigInteger numerator, BigInteger denominator) {
+        if (numerator == null || denominator == null) {
+            throw new IllegalArgumentException("Numerator and denominator cannot be null.");
+        }
+        if (denominator.signum() == 0) {
+            throw new ArithmeticException("Denominator cannot be zero.");
+        }
+        set(numerator, denominator);
+    }
+
+    // BigDecimal 값을 그대로 분수로 (unscaledValue / 10^scale)
+    RationalScalar(BigDecimal bd) {
+        if (bd == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        setValue(bd);
+    }
+
+    // "3", "-0.25", "1/3", "-2/6" 형식
+    RationalScalar(String ss) {
+        if (ss == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        try {
+            int slash = ss.indexOf('/');
+            if (slash < 0) {
+                setValue(new BigDecimal(ss.trim()));
+                return;
+            }
+            BigDecimal num = new BigDecimal(ss.substring(0, slash).trim());
+            BigDecimal den = new BigDecimal(ss.substring(slash + 1).trim());
+            if (den.signum() == 0) throw new ArithmeticException("Denominator cannot be zero: " + ss);
+            RationalScalar value = new RationalScalar(num);
+            value.multiply(new RationalScalar(den).reciprocal());
+            set(value.numerator, value.denominator);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid string format for rational number: " + ss, e);
+        }
+    }
+
+    private void set(BigInteger num, BigInteger den) {
+        if (den.signum() < 0) {
+            num = num.negate();
+            den = den.negate();
+        }
+        BigInteger gcd = num.gcd(den);
+        if (!gcd.equals(BigInteger.ONE) && gcd.signum() != 0) {
+            num = num.divide(gcd);
+            den = den.divide(gcd);
+        }
+        if (num.signum() == 0) den = BigInteger.ONE;
+        this.numerator = num;
+        this.denominator = den;
+    }
+
+    BigInteger numerator() {
+        return numerator;
+    }
+
+    BigInteger denominator() {
+        return denominator;
+    }
+
+    // 임의의 Scalar를 정확한 유리수로 (RationalScalar면 그대로)
+    static RationalScalar of(Scalar scalar) {
+        return (scalar instanceof RationalScalar) ? (RationalScalar) scalar : new RationalScalar(scalar.getValue());
+    }
+
+    // 역수 (새 객체 반환)
+    RationalScalar reciprocal() {
+        if (numerator.signum() == 0) throw new ArithmeticException("Division by zero.");
+        return new RationalScalar(denominator, numerator);
+    }
+
+    // 부호를 바꾼 값 (새 객체 반환)
+    RationalScalar negated() {
+        RationalScalar result = new RationalScalar(BigInteger.ZERO, BigInteger.ONE);
+        result.numerator = numerator.negate();
+        result.denominator = denominator;
+        return result;
+    }
+
+    // this += source * factor (임시 객체 없이 한 번에 정규화)
+    void addProduct(Scalar source, Scalar factor) {
+        RationalScalar s = of(source);
+        RationalScalar f = of(factor);
+        if (s.numerator.signum() == 0 || f.numerator.signum() == 0) return;
+        BigInteger productNum = s.numerator.multiply(f.numerator);
+        BigInteger productDen = s.denominator.multiply(f.denominator);
+        set(numerator.multiply(productDen).add(productNum.multiply(denominator)), denominator.multiply(productDen));
+    }
+
+    // 12. 값 조회: 유한소수면 정확한 값, 아니면 DECIMAL_CONTEXT 정밀도로 반올림한 값
+    @Override
+    public BigDecimal getValue() {
+        if (denominator.equals(BigInteger.ONE)) return new BigDecimal(numerator);
+        try {
+            return new BigDecimal(numerator).divide(new BigDecimal(denominator)); // 유한소수일 때만 성공
+        } catch (ArithmeticException e) {
+            return new BigDecimal(numerator).divide(new BigDecimal(denominator), DECIMAL_CONTEXT);
+        }
+    }
+
+    // 12. 값 지정 (BigDecimal 값을 정확히 분수로 변환)
+    @Override
+    public void setValue(BigDecimal value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        if (value.scale() <= 0) {
+            set(value.toBigIntegerExact(), BigInteger.ONE);
+        } else {
+            set(value.unscaledValue(), BigInteger.TEN.pow(value.scale()));
+        }
+    }
+
+    // 14s. 정수면 "3", 유한소수면 "0.25", 그 밖에는 "1/3"
+    @Override
+    public String toString() {
+        if (denominator.equals(BigInteger.ONE)) return numerator.toString();
+        try {
+            return new BigDecimal(numerator).divide(new BigDecimal(denominator)).toPlainString();
+        } catch (ArithmeticException e) {
+            return numerator + "/" + denominator;
+        }
+    }
+
+    @Override
+    public String toString(int scale) {
+        PrecisionPolicy policy = Factory.getPrecisionPolicy();
+        return new BigDecimal(numerator).divide(new BigDecimal(denominator), Math.min(scale, policy.getMaxToStringScale()), policy.getRoundingMode()).toPlainString();
+    }
+
+    // 15s. 값 기준 동등성 (다른 Scalar 구현과는 그 값을 정확한 분수로 바꿔 비교)
+    // ScalarImpl/ImmutableScalar도 RationalScalar와는 이 정확한 비교를 사용하므로 양방향 결과가 같다: 1/3은 어떤 유한소수와도 같지 않음
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof Scalar)) return false;
+        RationalScalar other = of((Scalar) obj);
+        return numerator.equals(other.numerator) && denominator.equals(other.denominator);
+    }
+
+    @Override
+    public int hashCode() {
+        // 유한소수는 ScalarImpl.hashCode와 같은 값이 되도록 BigDecimal로 계산 (유한소수가 아니면 다른 구현과 같을 수 없으므로 분수로 계산)
+        try {
+            return new BigDecimal(numerator).divide(new BigDecimal(denominator)).stripTrailingZeros().hashCode();
+        } catch (ArithmeticException e) {
+            return 31 * numerator.hashCode() + denominator.hashCode();
+        }
+    }
+
+    // 16. 스칼라 값 대소 비교 (교차 곱으로 정확히 비교)
+    @Override
+    public int compareTo(Scalar other) {
+        RationalScalar o = of(other);
+        return numerator.multiply(o.denominator).compareTo(o.numerator.multiply(denominator));
+    }
+
+    // 17s. 객체 복제
+    @Override
+    public Scalar clone() {
+        return new RationalScalar(numerator, denominator);
+    }
+
+    // 18. 스칼라 덧셈 (non-static, modifies self)
+    @Override
+    public Scalar add(Scalar other) {
+        if (other == null) throw new IllegalArgumentException("Other scalar cannot be null for addition.");
+        RationalScalar o = of(other);
+        if (denominator.equals(o.denominator)) {
+            set(numerator.add(o.numerator), denominator);
+        } else {
+            set(numerator.multiply(o.denominator).add(o.numerator.multiply(denominator)), denominator.multiply(o.denominator));
+        }
+        return this;
+    }
+
+    // 19. 스칼라 곱셈 (non-static, modifies self)
+    @Override
+    public Scalar multiply(Scalar other) {
+        if (other == null) throw new IllegalArgumentException("Other scalar cannot be null for multiplication.");
+        RationalScalar o = of(other);
+        set(numerator.multiply(o.numerator), denominator.multiply(o.denominator));
+        return this;
+    }
+
+    @Override
+    public boolean isZero() {
+        return numerator.signum() == 0;
+    }
+
+    @Override
+    public boolean isOne() {
+        return numerator.equals(denominator);
+    }
+}
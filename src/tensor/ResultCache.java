@@ -0,0 +1,195 @@
+package tensor;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+// rref/inverse/determinant 결과 캐시: 같은 내용의 행렬이 다시 들어오면 소거를 반복하지 않고 저장된 결과의 복사본을 반환한다.
+// 기본 용량은 0(사용 안 함)이며, 같은 행렬을 반복해서 푸는 호출자가 setCapacity로 켠다 (프로세스 전체에서 공유).
+// 키는 (연산, 저장소 클래스, 크기, Matrix.fingerprint(), 정밀도 정책 객체)이고, 항목에는 입력 행렬의 복사본을 함께 저장해
+// 적중할 때마다 내용을 다시 비교한다. 지문은 빠른 조회용일 뿐이므로 지문이 같은 다른 행렬에 저장된 결과를 돌려주지 않는다.
+// 크기 가중 LRU: 입력과 결과의 요소 개수 합을 무게로 두고, 무게 합이 용량을 넘으면 가장 오래 쓰이지 않은 항목부터 제거한다.
+// 용량보다 무거운 항목은 저장하지 않는다.
+// 저장된 행렬은 밖으로 내보내지 않는다: 꺼낼 때마다 clone()한 복사본(계산한 구현과 같은 클래스)을 반환하므로 바꿔도 캐시에 영향이 없다.
+// 적중/실패/제거 횟수는 누적되며 clear()로 초기화한다.
+public final class ResultCache {
+    private static final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // 접근 순서 (가장 오래된 것이 앞)
+    private static long capacity = 0;
+    private static long weight;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+
+    private ResultCache() {
+    }
+
+    private enum Operation { RREF, INVERSE, DETERMINANT }
+
+    public static synchronized long getCapacity() {
+        return capacity;
+    }
+
+    // 캐시 용량 (입력과 결과 요소 개수의 합). 줄이면 넘치는 만큼 즉시 제거, 0이면 캐시 사용 안 함
+    public static synchronized void setCapacity(long elements) {
+        if (elements < 0) throw new IllegalArgumentException("Cache capacity cannot be negative.");
+        capacity = elements;
+        evictToCapacity();
+    }
+
+    // 저장된 결과와 통계를 모두 비움
+    public static synchronized void clear() {
+        entries.clear();
+        weight = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public static synchronized long getHitCount() {
+        return hits;
+    }
+
+    public static synchronized long getMissCount() {
+        return misses;
+    }
+
+    public static synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    // 저장된 결과 개수와 무게 합
+    public static synchronized int size() {
+        return entries.size();
+    }
+
+    public static synchronized long getWeight() {
+        return weight;
+    }
+
+    // --- 내부용: 각 행렬 구현의 rref/inverse/determinant가 계산 함수를 넘겨 호출 ---
+
+    static Matrix rref(Matrix m, PrecisionPolicy policy, Supplier<Matrix> compute) {
+        return matrix(Operation.RREF, m, policy, compute);
+    }
+
+    static Matrix inverse(Matrix m, PrecisionPolicy policy, Supplier<Matrix> compute) {
+        return matrix(Operation.INVERSE, m, policy, compute);
+    }
+
+    static Scalar determinant(Matrix m, PrecisionPolicy policy, Supplier<Scalar> compute) {
+        Key key = keyOf(Operation.DETERMINANT, m, policy);
+        if (key == null) return compute.get();
+        Object cached = lookup(key, m);
+        if (cached != null) return ((Scalar) cached).clone();
+        Scalar result = compute.get();
+        store(key, m, result.clone(), 1);
+        return result;
+    }
+
+    private static Matrix matrix(Operation operation, Matrix m, PrecisionPolicy policy, Supplier<Matrix> compute) {
+        Key key = keyOf(operation, m, policy);
+        if (key == null) return compute.get();
+        Object cached = lookup(key, m);
+        if (cached != null) return ((Matrix) cached).clone();
+        Matrix result = compute.get();
+        store(key, m, result, (long) result.rowCount() * result.colCount());
+        return result.clone(); // 저장한 결과와 반환하는 결과를 분리
+    }
+
+    // 용량이 0이면 null (지문 계산도 하지 않음)
+    private static Key keyOf(Operation operation, Matrix m, PrecisionPolicy policy) {
+        synchronized (ResultCache.class) {
+            if (capacity == 0) return null;
+        }
+        return new Key(operation, m.getClass(), m.rowCount(), m.colCount(), m.fingerprint(), policy);
+    }
+
+    // 키가 같고 입력 내용도 같을 때만 적중
+    private static synchronized Object lookup(Key key, Matrix input) {
+        Entry entry = entries.get(key);
+        if (entry != null && sameContents(entry.input, input)) {
+            hits++;
+            return entry.result;
+        }
+        misses++;
+        return null;
+    }
+
+    // 요소 값과 종류(RationalScalar 여부)까지 같은지
+    private static boolean sameContents(Matrix cached, Matrix input) {
+        if (cached instanceof MatrixImpl && input instanceof MatrixImpl) {
+            return ((MatrixImpl) cached).sameElements((MatrixImpl) input);
+        }
+        return cached.equals(input);
+    }
+
+    // 입력은 복사해 저장 (이후 원본이 바뀌어도 비교 기준은 그대로). 같은 키의 이전 항목은 교체
+    private static void store(Key key, Matrix input, Object result, long resultWeight) {
+        long entryWeight = (long) input.rowCount() * input.colCount() + Math.max(1L, resultWeight);
+        synchronized (ResultCache.class) {
+            if (entryWeight > capacity) return;
+        }
+        Entry entry = new Entry(input.clone(), result, entryWeight);
+        synchronized (ResultCache.class) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) weight -= previous.weight;
+            weight += entryWeight;
+            evictToCapacity();
+        }
+    }
+
+    private static void evictToCapacity() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (weight > capacity && eldest.hasNext()) {
+            weight -= eldest.next().weight;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Entry {
+        private final Matrix input;
+        private final Object result;
+        private final long weight;
+
+        Entry(Matrix input, Object result, long weight) {
+            this.input = input;
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Key {
+        private final Operation operation;
+        private final Class<?> storage;
+        private final int rows;
+        private final int cols;
+        private final long fingerprint;
+        private final PrecisionPolicy policy; // 불변 객체이므로 동일성으로 비교
+
+        Key(Operation operation, Class<?> storage, int rows, int cols, long fingerprint, PrecisionPolicy policy) {
+            this.operation = operation;
+            this.storage = storage;
+            this.rows = rows;
+            this.cols = cols;
+            this.fingerprint = fingerprint;
+            this.policy = policy;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return operation == other.operation && storage == other.storage && rows == other.rows && cols == other.cols
+                    && fingerprint == other.fingerprint && policy == other.policy;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operation, storage, rows, cols, fingerprint, System.identityHashCode(policy));
+        }
+    }
+}
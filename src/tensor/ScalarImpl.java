@@ -2,7 +2,6 @@ package tensor;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.math.RoundingMode; // For random number precision
 
 class ScalarImpl implements Scalar {
     private BigDecimal scalar; // 명세 12의 setValue와 non-static 연산을 위해 final 제거
@@ -26,14 +25,42 @@ class ScalarImpl implements Scalar {
         this.scalar = bd;
     }
 
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16};
+    private static final double MAX_EXACT_LONG = 9.007199254740992E15; // 2^53
+
+    // double 값의 십진 표기(Double.toString)와 같은 값/스케일의 BigDecimal (BigDecimal.valueOf(double)과 같음)
+    // Double.toString이 소수 표기를 쓰는 0, 10^-3 <= |dd| < 10^7 범위에서는 문자열 없이 구한다:
+    // 소수점 아래 s자리(s = 1, 2, ...)로 반올림한 m / 10^s가 다시 dd가 되는 가장 작은 s가 최단 표기이며,
+    // m과 10^s가 double로 정확하므로 나눗셈 한 번으로 정확히 검증된다. 그 밖의 값은 BigDecimal.valueOf 사용
+    static BigDecimal decimalOf(double dd) {
+        if (Double.isNaN(dd) || Double.isInfinite(dd)) {
+            throw new IllegalArgumentException("Invalid value for BigDecimal: " + dd);
+        }
+        double abs = Math.abs(dd);
+        if (abs == 0.0 || (abs >= 1e-3 && abs < 1e7)) {
+            for (int s = 1; s < POWERS_OF_TEN.length; s++) {
+                double shifted = dd * POWERS_OF_TEN[s];
+                if (Math.abs(shifted) >= MAX_EXACT_LONG) break;
+                long unscaled = Math.round(shifted);
+                if (unscaled / POWERS_OF_TEN[s] == dd) return BigDecimal.valueOf(unscaled, s);
+            }
+        }
+        return BigDecimal.valueOf(dd);
+    }
+
     // 02
     ScalarImpl(double ii, double jj) {
+        this(ii, jj, Factory.getPrecisionPolicy());
+    }
+
+    // 02: 난수 값의 소수점 자릿수와 반올림은 정책을 따름
+    ScalarImpl(double ii, double jj, PrecisionPolicy policy) {
         if (ii >= jj) {
             throw new IllegalArgumentException("Lower bound ii must be less than upper bound jj.");
         }
         double randomVal = Math.random() * (jj - ii) + ii;
         // BigDecimal로 변환 시 정밀도 문제 발생 가능성 있음. 적절한 스케일 지정 필요.
-        this.scalar = BigDecimal.valueOf(randomVal).setScale(10, RoundingMode.HALF_UP); // 예시: 소수점 10자리
+        this.scalar = BigDecimal.valueOf(randomVal).setScale(policy.getRandomScale(), policy.getRoundingMode());
     }
 
     @Override
@@ -57,7 +84,8 @@ class ScalarImpl implements Scalar {
 
     @Override
     public String toString(int scale) {
-        return scalar.setScale(Math.min(scale, 10), RoundingMode.HALF_UP).toPlainString(); // 공학적 표기법 대신 일반적인 숫자 문자열로 표시
+        PrecisionPolicy policy = Factory.getPrecisionPolicy();
+        return scalar.setScale(Math.min(scale, policy.getMaxToStringScale()), policy.getRoundingMode()).toPlainString(); // 공학적 표기법 대신 일반적인 숫자 문자열로 표시
     }
 
     // 15s
@@ -66,6 +94,8 @@ class ScalarImpl implements Scalar {
         if (this == obj) return true;
         if (obj == null || !(obj instanceof Scalar)) return false; // getClass() 비교 대신 instanceof 사용 (인터페이스 호환)
         Scalar other = (Scalar) obj;
+        // 유리수의 getValue()는 반올림된 값일 수 있으므로(1/3 등) RationalScalar의 정확한 비교를 사용 (양방향 결과와 hashCode가 일치)
+        if (other instanceof RationalScalar) return other.equals(this);
         // BigDecimal.equals는 스케일도 비교하므로, 값만 비교하려면 compareTo 사용
         return this.scalar.compareTo(other.getValue()) == 0;
     }
@@ -79,6 +109,7 @@ class ScalarImpl implements Scalar {
     // 16. 스칼라 값 대소 비교
     @Override
     public int compareTo(Scalar other) {
+        if (other instanceof RationalScalar) return -other.compareTo(this); // 정확한 비교 (equals와 일치)
         return this.scalar.compareTo(other.getValue());
     }
 
@@ -104,15 +135,15 @@ class ScalarImpl implements Scalar {
         return this;
     }
 
-    // Helper for triangular checks:
+    // Helper for triangular checks: (Factory 정책의 zeroTolerance 이내면 0/1로 판별)
     @Override
     public boolean isZero() {
-        return this.getValue().compareTo(BigDecimal.ZERO) == 0;
+        return Factory.getPrecisionPolicy().isZero(this.scalar);
     }
 
     // Helper for triangular checks:
     @Override
     public boolean isOne() {
-        return this.getValue().compareTo(BigDecimal.ONE) == 0;
+        return Factory.getPrecisionPolicy().isOne(this.scalar);
     }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package tensor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// 행/열 벡터 뷰: MatrixImpl.getRow()/getCol()이 요소를 복사하지 않고 반환하는 벡터
+// 원본 스냅숏의 한 행(또는 열)을 Axis로 매핑해 읽고, SliceView와 같은 copy-on-write 규칙을 따른다.
+final class SliceVector implements Vector {
+    private final MatrixImpl base;        // 공유 스냅숏 (누구도 쓰지 않음)
+    private final int fixed;              // 원본의 행(row == true) 또는 열 인덱스
+    private final boolean row;
+    private final SliceView.Axis axis;    // 나머지 방향의 매핑
+    private VectorImpl own;               // 첫 쓰기 이후 이 벡터만의 복사본
+
+    SliceVector(MatrixImpl base, int fixed, SliceView.Axis axis, boolean row) {
+        this.base = base;
+        this.fixed = fixed;
+        this.axis = axis;
+        this.row = row;
+    }
+
+    // 복사본을 만들었으면 복사본, 아니면 스냅숏에서 읽음 (복제하지 않은 저장 요소, 읽기 전용)
+    private Scalar element(int index) {
+        if (own != null) return own.getScalars().get(index);
+        return row ? base.elementAt(fixed, axis.map(index)) : base.elementAt(axis.map(index), fixed);
+    }
+
+    private VectorImpl copy() {
+        List<Scalar> scalars = new ArrayList<>(axis.length);
+        for (int k = 0; k < axis.length; k++) {
+            scalars.add(element(k).clone());
+        }
+        return VectorImpl.wrap(scalars);
+    }
+
+    // 쓰기 전 호출: 처음 한 번 스냅숏에서 복사본을 만들어 이후 모든 연산을 복사본에 위임
+    private VectorImpl detach() {
+        if (own == null) own = copy();
+        return own;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= getSize()) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for vector size " + getSize());
+        }
+    }
+
+    // 리스트를 넘기면 외부에서 바뀔 수 있으므로 복사본을 만들어 그 리스트를 반환
+    @Override
+    public List<Scalar> getScalars() {
+        return detach().getScalars();
+    }
+
+    // 11v. 특정 위치 요소 지정 (복사본에 씀)
+    @Override
+    public void setElement(int index, Scalar value) {
+        checkIndex(index);
+        detach().setElement(index, value);
+    }
+
+    // 11v. 특정 위치 요소 조회 (복제본 반환)
+    @Override
+    public Scalar viewElement(int index) {
+        checkIndex(index);
+        return element(index).clone();
+    }
+
+    // 13. 차원(길이) 조회
+    @Override
+    public int getSize() {
+        return (own != null) ? own.getSize() : axis.length;
+    }
+
+    // 14v. 객체를 콘솔에 출력 (VectorImpl 형식)
+    @Override
+    public String toString() {
+        return IntStream.range(0, getSize())
+                .mapToObj(k -> element(k).toString())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    @Override
+    public String toString(int scale) {
+        return IntStream.range(0, getSize())
+                .mapToObj(k -> element(k).toString(scale))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    // 15v. 객체의 동등성 판단 (VectorImpl과 같은 규칙)
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof Vector)) return false;
+        Vector other = (Vector) obj;
+        if (this.getSize() != other.getSize()) return false;
+        for (int i = 0; i < this.getSize(); i++) {
+            if (!element(i).equals(other.viewElement(i))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // VectorImpl.hashCode와 같은 방식
+        int result = 1;
+        for (int i = 0; i < getSize(); i++) {
+            result = 31 * result + element(i).hashCode();
+        }
+        result = 31 * result + Integer.hashCode(getSize());
+        return result;
+    }
+
+    // 17v. 객체 복제: 원본과 독립된 VectorImpl
+    @Override
+    public Vector clone() {
+        return (own != null) ? own.clone() : copy();
+    }
+
+    // 20. 벡터 덧셈 (non-static, modifies self)
+    @Override
+    public Vector add(Vector other) {
+        detach().add(other);
+        return this;
+    }
+
+    // 21. 스칼라 곱셈 (non-static, modifies self)
+    @Override
+    public Vector multiply(Scalar scalar) {
+        detach().multiply(scalar);
+        return this;
+    }
+
+    // 30. 1xn 행렬 (새 행렬 반환)
+    @Override
+    public Matrix toRowMatrix() {
+        return ((own != null) ? own : copy()).toRowMatrix();
+    }
+
+    // 31. nx1 행렬 (새 행렬 반환)
+    @Override
+    public Matrix toColMatrix() {
+        return ((own != null) ? own : copy()).toColMatrix();
+    }
+}
@@ -0,0 +1,401 @@
+package tensor;
+
+import java.util.List;
+
+// 부분 행렬 뷰: MatrixImpl.subMatrix()/minor()가 요소를 복사하지 않고 반환하는 행렬
+// 원본 저장소(스냅숏)를 행/열 Axis로 (오프셋 + 제외된 인덱스) 매핑해 읽으므로 생성은 O(1)이고, 뷰의 뷰도 같은 스냅숏을 공유한다.
+// copy-on-write: 원본이 먼저 쓰면 원본이 해당 행을 복제하고(MatrixImpl.ownRow), 뷰가 먼저 쓰면 뷰가 자기 복사본(own)을 만든 뒤 그 복사본에 쓴다.
+// 따라서 어느 쪽을 바꿔도 다른 쪽에는 반영되지 않아 기존의 복사본 반환과 같은 의미를 유지한다.
+final class SliceView implements MatrixView {
+    private final MatrixImpl base; // 공유 스냅숏 (누구도 쓰지 않음)
+    private final Axis rowAxis;
+    private final Axis colAxis;
+    private MatrixImpl own;        // 첫 쓰기 이후 이 뷰만의 복사본
+
+    SliceView(MatrixImpl base, Axis rowAxis, Axis colAxis) {
+        this.base = base;
+        this.rowAxis = rowAxis;
+        this.colAxis = colAxis;
+    }
+
+    // 뷰의 인덱스 -> 원본 인덱스 매핑: offset부터 length개, skips(원본 인덱스, 오름차순)는 건너뜀
+    static final class Axis {
+        private static final int[] NONE = new int[0];
+        final int offset;
+        final int length;
+        private final int[] skips;
+
+        private Axis(int offset, int length, int[] skips) {
+            this.offset = offset;
+            this.length = length;
+            this.skips = skips;
+        }
+
+        static Axis full(int length) {
+            return new Axis(0, length, NONE);
+        }
+
+        int map(int index) {
+            int mapped = offset + index;
+            for (int skip : skips) {
+                if (skip > mapped) break;
+                mapped++;
+            }
+            return mapped;
+        }
+
+        // 뷰 인덱스 start..end (양 끝 포함) 범위
+        Axis range(int start, int end) {
+            int from = map(start);
+            int to = map(end);
+            int count = 0;
+            for (int skip : skips) {
+                if (skip > from && skip < to) count++;
+            }
+            int[] inner = new int[count];
+            int n = 0;
+            for (int skip : skips) {
+                if (skip > from && skip < to) inner[n++] = skip;
+            }
+            return new Axis(from, end - start + 1, inner);
+        }
+
+        // 뷰 인덱스 하나를 제외
+        Axis without(int index) {
+            int excluded = map(index);
+            int[] next = new int[skips.length + 1];
+            int n = 0;
+            for (int skip : skips) {
+                if (skip < excluded) next[n++] = skip;
+            }
+            next[n++] = excluded;
+            for (int skip : skips) {
+                if (skip > excluded) next[n++] = skip;
+            }
+            return new Axis(offset, length - 1, next);
+        }
+    }
+
+    // 요소 복사본 (빈 복사 없이 한 번만 복제)
+    @Override
+    public Matrix materialize() {
+        return (own != null) ? own.clone() : copy(false);
+    }
+
+    // 읽기 전용 연산에 쓸 MatrixImpl (쓰기 전이면 복사본, MatrixMultiplier/Tensors의 MatrixImpl 전용 경로용)
+    MatrixImpl readable() {
+        return (own != null) ? own : copy(false);
+    }
+
+    // 쓰기 전 호출: 처음 한 번 스냅숏에서 복사본을 만들어 이후 모든 연산을 복사본에 위임
+    private MatrixImpl detach() {
+        if (own == null) own = copy(false);
+        return own;
+    }
+
+    private MatrixImpl copy(boolean transposed) {
+        int numRows = rowAxis.length;
+        int numCols = colAxis.length;
+        Scalar[][] data = transposed ? new Scalar[numCols][numRows] : new Scalar[numRows][numCols];
+        for (int i = 0; i < numRows; i++) {
+            int r = rowAxis.map(i);
+            for (int j = 0; j < numCols; j++) {
+                Scalar element = base.elementAt(r, colAxis.map(j)); // 생성자가 복제
+                if (transposed) {
+                    data[j][i] = element;
+                } else {
+                    data[i][j] = element;
+                }
+            }
+        }
+        return new MatrixImpl(data);
+    }
+
+    // 복사본을 만들었으면 복사본, 아니면 스냅숏에서 읽음 (복제하지 않은 저장 요소, 읽기 전용)
+    private Scalar element(int rowIndex, int colIndex) {
+        return (own != null) ? own.elementAt(rowIndex, colIndex) : base.elementAt(rowAxis.map(rowIndex), colAxis.map(colIndex));
+    }
+
+    private void checkIndex(int rowIndex, int colIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount() || colIndex < 0 || colIndex >= colCount()) {
+            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + rowCount() + "x" + colCount());
+        }
+    }
+
+    // 행 리스트를 넘기면 외부에서 바뀔 수 있으므로 복사본을 만들어 그 행 리스트를 반환
+    @Override
+    public List<Vector> getVectors() {
+        return detach().getVectors();
+    }
+
+    // 11m. 특정 위치 요소 지정 (복사본에 씀)
+    @Override
+    public void setElement(int rowIndex, int colIndex, Scalar value) {
+        checkIndex(rowIndex, colIndex);
+        detach().setElement(rowIndex, colIndex, value);
+    }
+
+    // 11m. 특정 위치 요소 조회 (복제본 반환)
+    @Override
+    public Scalar viewElement(int rowIndex, int colIndex) {
+        checkIndex(rowIndex, colIndex);
+        return element(rowIndex, colIndex).clone();
+    }
+
+    // 13. 행렬 크기 조회
+    @Override
+    public int[] getSize() {
+        return new int[]{rowCount(), colCount()};
+    }
+
+    @Override
+    public int rowCount() {
+        return (own != null) ? own.rowCount() : rowAxis.length;
+    }
+
+    @Override
+    public int colCount() {
+        return (own != null) ? own.colCount() : colAxis.length;
+    }
+
+    // 14m. 객체를 콘솔에 출력 (MatrixImpl 형식)
+    @Override
+    public String toString() {
+        return readable().toString();
+    }
+
+    // 15m. 객체의 동등성 판단 (MatrixImpl과 같은 규칙)
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof Matrix)) return false;
+        Matrix other = (Matrix) obj;
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (numRows != other.rowCount() || numCols != other.colCount()) return false;
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                if (!element(i, j).equals(other.viewElement(i, j))) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // MatrixImpl.hashCode와 같은 방식 (값이 같은 행렬은 구현과 무관하게 같은 해시)
+        int numRows = rowCount();
+        int numCols = colCount();
+        int result = 1;
+        result = 31 * result + numRows;
+        result = 31 * result + numCols;
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                result = 31 * result + element(i, j).hashCode();
+            }
+        }
+        return result;
+    }
+
+    // 55. 내용 지문 (요소를 복제하지 않고 스냅숏에서 읽음)
+    @Override
+    public long fingerprint() {
+        if (own != null) return own.fingerprint();
+        long sum = 0;
+        for (int i = 0; i < rowAxis.length; i++) {
+            for (int j = 0; j < colAxis.length; j++) {
+                sum += Fingerprint.at(i, j, Fingerprint.element(element(i, j)));
+            }
+        }
+        return Fingerprint.finish(rowAxis.length, colAxis.length, sum);
+    }
+
+    // 17m. 객체 복제: 원본과 독립된 MatrixImpl
+    @Override
+    public Matrix clone() {
+        return materialize();
+    }
+
+    // 22. 행렬 덧셈 (non-static, modifies self)
+    @Override
+    public Matrix add(Matrix other) {
+        detach().add(other);
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = other * this)
+    @Override
+    public Matrix multiplyLeft(Matrix other) {
+        detach().multiplyLeft(other);
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = this * other)
+    @Override
+    public Matrix multiplyRight(Matrix other) {
+        detach().multiplyRight(other);
+        return this;
+    }
+
+    // 32. 가로 합치기 (새 행렬 반환)
+    @Override
+    public Matrix hstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for hstack cannot be null.");
+        return Tensors.hstack(this, other);
+    }
+
+    // 33. 세로 합치기 (새 행렬 반환)
+    @Override
+    public Matrix vstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for vstack cannot be null.");
+        return Tensors.vstack(this, other);
+    }
+
+    // 34. 특정 행 (같은 스냅숏 위의 행 뷰)
+    @Override
+    public Vector getRow(int rowIndex) {
+        if (own != null) return own.getRow(rowIndex);
+        if (rowIndex < 0 || rowIndex >= rowAxis.length) {
+            throw new IndexOutOfBoundsException("Row index " + rowIndex + " is out of bounds for matrix with " + rowAxis.length + " rows.");
+        }
+        return new SliceVector(base, rowAxis.map(rowIndex), colAxis, true);
+    }
+
+    // 35. 특정 열 (같은 스냅숏 위의 열 뷰)
+    @Override
+    public Vector getCol(int colIndex) {
+        if (own != null) return own.getCol(colIndex);
+        if (colIndex < 0 || colIndex >= colAxis.length) {
+            throw new IndexOutOfBoundsException("Column index " + colIndex + " is out of bounds for matrix with " + colAxis.length + " columns.");
+        }
+        return new SliceVector(base, colAxis.map(colIndex), rowAxis, false);
+    }
+
+    // 36. 부분 행렬 (매핑만 합성, O(1))
+    @Override
+    public Matrix subMatrix(int startRow, int endRow, int startCol, int endCol) {
+        if (own != null) return own.subMatrix(startRow, endRow, startCol, endCol);
+        if (startRow < 0 || startRow >= rowAxis.length || endRow < startRow || endRow >= rowAxis.length ||
+                startCol < 0 || startCol >= colAxis.length || endCol < startCol || endCol >= colAxis.length) {
+            throw new IndexOutOfBoundsException("Submatrix indices are out of bounds or invalid.");
+        }
+        return new SliceView(base, rowAxis.range(startRow, endRow), colAxis.range(startCol, endCol));
+    }
+
+    // 37. minor (제외할 인덱스만 추가, 요소 복사 없음)
+    @Override
+    public Matrix minor(int excludeRowIndex, int excludeColIndex) {
+        if (own != null) return own.minor(excludeRowIndex, excludeColIndex);
+        if (excludeRowIndex < 0 || excludeRowIndex >= rowAxis.length ||
+                excludeColIndex < 0 || excludeColIndex >= colAxis.length) {
+            throw new IndexOutOfBoundsException("Exclude indices are out of bounds.");
+        }
+        if (rowAxis.length <= 1 || colAxis.length <= 1) {
+            return Factory.buildMatrix(new Scalar[0][0]); // MatrixImpl.minor와 같이 빈 행렬
+        }
+        return new SliceView(base, rowAxis.without(excludeRowIndex), colAxis.without(excludeColIndex));
+    }
+
+    // 38. 전치행렬 (스냅숏에서 바로 전치 복사)
+    @Override
+    public Matrix transpose() {
+        return (own != null) ? own.transpose() : copy(true);
+    }
+
+    // 39. 대각 요소의 합
+    @Override
+    public Scalar trace() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Trace is defined only for square matrices.");
+        }
+        Scalar sum = ImmutableScalar.ZERO.clone();
+        for (int i = 0; i < rowCount(); i++) {
+            sum.add(element(i, i));
+        }
+        return sum;
+    }
+
+    // 40. 정사각 행렬 여부
+    @Override
+    public boolean isSquare() {
+        return rowCount() == colCount();
+    }
+
+    // 41~44. 판별은 복사본에서 (MatrixImpl과 같은 규칙)
+    @Override
+    public boolean isUpperTriangular() {
+        return readable().isUpperTriangular();
+    }
+
+    @Override
+    public boolean isLowerTriangular() {
+        return readable().isLowerTriangular();
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return readable().isIdentity();
+    }
+
+    @Override
+    public boolean isZeroMatrix() {
+        return readable().isZeroMatrix();
+    }
+
+    // 45~50. 기본 행/열 연산 (복사본에 씀)
+    @Override
+    public void swapRows(int rowIndex1, int rowIndex2) {
+        detach().swapRows(rowIndex1, rowIndex2);
+    }
+
+    @Override
+    public void swapCols(int colIndex1, int colIndex2) {
+        detach().swapCols(colIndex1, colIndex2);
+    }
+
+    @Override
+    public void multiplyRow(int rowIndex, Scalar scalar) {
+        detach().multiplyRow(rowIndex, scalar);
+    }
+
+    @Override
+    public void multiplyCol(int colIndex, Scalar scalar) {
+        detach().multiplyCol(colIndex, scalar);
+    }
+
+    @Override
+    public void addScaledRow(int targetRowIndex, int sourceRowIndex, Scalar scalar) {
+        detach().addScaledRow(targetRowIndex, sourceRowIndex, scalar);
+    }
+
+    @Override
+    public void addScaledCol(int targetColIndex, int sourceColIndex, Scalar scalar) {
+        detach().addScaledCol(targetColIndex, sourceColIndex, scalar);
+    }
+
+    // 51~54. 새 행렬을 만드는 연산은 복사본에서 계산
+    @Override
+    public Matrix rref() {
+        return readable().rref();
+    }
+
+    @Override
+    public boolean isRREF() {
+        return readable().isRREF();
+    }
+
+    @Override
+    public Scalar determinant() {
+        return readable().determinant();
+    }
+
+    @Override
+    public Scalar exactDeterminant() {
+        return readable().exactDeterminant();
+    }
+
+    @Override
+    public Matrix inverse() {
+        return readable().inverse();
+    }
+}
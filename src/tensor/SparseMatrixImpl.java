@@ -0,0 +1,1077 @@
+package tensor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 압축 희소 행렬(CSR/CSC)의 공통 구현. 0이 아닌 요소만 double로 저장하므로 메모리가 O(nnz)이다.
+// 압축 축(major)의 각 슬라이스 m에 대해 idx[ptr[m] .. ptr[m+1])에 다른 축(minor) 인덱스가 오름차순으로,
+// values의 같은 위치에 값이 들어 있다. CSR은 major = 행, CSC는 major = 열.
+// 명시적인 0은 저장하지 않는다 (값이 0이 되면 바로 제거). 외부에는 Matrix 인터페이스만 노출된다.
+abstract class SparseMatrixImpl implements Matrix {
+    // MatrixImpl.hashCode에서 0 요소가 기여하는 값
+    private static final int ZERO_HASH = BigDecimal.valueOf(0.0).stripTrailingZeros().hashCode();
+
+    int rows;
+    int cols;
+    int[] ptr;       // 길이 majorCount + 1
+    int[] idx;       // 길이 >= nnz (뒤쪽은 여유 공간)
+    double[] values; // 길이 >= nnz
+
+    SparseMatrixImpl(int rows, int cols, int[] ptr, int[] idx, double[] values) {
+        this.rows = rows;
+        this.cols = cols;
+        this.ptr = ptr;
+        this.idx = idx;
+        this.values = values;
+    }
+
+    // true면 CSR (major = 행), false면 CSC (major = 열)
+    abstract boolean rowMajor();
+
+    // 같은 방향의 새 희소 행렬 (rows x cols, 주어진 배열을 복사 없이 사용)
+    abstract SparseMatrixImpl create(int rows, int cols, int[] ptr, int[] idx, double[] values);
+
+    final int majorCount() {
+        return rowMajor() ? rows : cols;
+    }
+
+    final int minorCount() {
+        return rowMajor() ? cols : rows;
+    }
+
+    final int nnz() {
+        return ptr[majorCount()];
+    }
+
+    // --- 변환 ---
+
+    // 임의의 Matrix를 지정한 방향의 희소 행렬로 변환. 이미 같은 방향의 희소 행렬이면 그대로 반환 (읽기 전용으로만 사용할 것)
+    static SparseMatrixImpl compressed(Matrix m, boolean rowMajor) {
+        if (m instanceof SparseMatrixImpl) {
+            SparseMatrixImpl sparse = (SparseMatrixImpl) m;
+            if (sparse.rowMajor() == rowMajor) return sparse;
+            return sparse.reoriented();
+        }
+        int[] size = m.getSize();
+        int rows = size[0];
+        int cols = size[1];
+        int majors = rowMajor ? rows : cols;
+        int minors = rowMajor ? cols : rows;
+        double[] dense = (m instanceof DenseMatrixImpl) ? ((DenseMatrixImpl) m).data()
+                : (m instanceof MappedMatrixImpl) ? ((MappedMatrixImpl) m).toDense().data() : null;
+
+        int[] ptr = new int[majors + 1];
+        int[] idx = new int[16];
+        double[] values = new double[16];
+        int nnz = 0;
+        for (int major = 0; major < majors; major++) {
+            for (int minor = 0; minor < minors; minor++) {
+                int i = rowMajor ? major : minor;
+                int j = rowMajor ? minor : major;
+                double v = (dense != null) ? dense[i * cols + j] : m.viewElement(i, j).getValue().doubleValue();
+                if (v == 0.0) continue;
+                if (nnz == idx.length) {
+                    idx = Arrays.copyOf(idx, nnz + nnz / 2);
+                    values = Arrays.copyOf(values, idx.length);
+                }
+                idx[nnz] = minor;
+                values[nnz] = v;
+                nnz++;
+            }
+            ptr[major + 1] = nnz;
+        }
+        return rowMajor ? new CsrMatrixImpl(rows, cols, ptr, idx, values) : new CscMatrixImpl(rows, cols, ptr, idx, values);
+    }
+
+    // 외부에서 받은 압축 배열을 검증하고 복사해 희소 행렬 생성 (값이 0인 요소는 제외)
+    static SparseMatrixImpl fromArrays(boolean rowMajor, int rows, int cols, int[] ptr, int[] idx, double[] values) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Matrix dimensions must be positive.");
+        if (ptr == null || idx == null || values == null) throw new IllegalArgumentException("Sparse arrays cannot be null.");
+        int majors = rowMajor ? rows : cols;
+        int minors = rowMajor ? cols : rows;
+        if (ptr.length != majors + 1 || ptr[0] != 0) {
+            throw new IllegalArgumentException("Pointer array must have length " + (majors + 1) + " and start with 0.");
+        }
+        int nnz = ptr[majors];
+        if (nnz < 0 || idx.length < nnz || values.length < nnz) {
+            throw new IllegalArgumentException("Index and value arrays must hold " + nnz + " entries.");
+        }
+        int[] newPtr = new int[majors + 1];
+        int[] newIdx = new int[nnz];
+        double[] newValues = new double[nnz];
+        int n = 0;
+        for (int major = 0; major < majors; major++) {
+            if (ptr[major + 1] < ptr[major]) throw new IllegalArgumentException("Pointer array must be non-decreasing.");
+            for (int k = ptr[major]; k < ptr[major + 1]; k++) {
+                if (idx[k] < 0 || idx[k] >= minors) {
+                    throw new IndexOutOfBoundsException("Index " + idx[k] + " is out of bounds for size " + minors + ".");
+                }
+                if (k > ptr[major] && idx[k] <= idx[k - 1]) {
+                    throw new IllegalArgumentException("Indices must be strictly increasing within each " + (rowMajor ? "row." : "column."));
+                }
+                if (values[k] == 0.0) continue;
+                newIdx[n] = idx[k];
+                newValues[n] = values[k];
+                n++;
+            }
+            newPtr[major + 1] = n;
+        }
+        return rowMajor ? new CsrMatrixImpl(rows, cols, newPtr, newIdx, newValues) : new CscMatrixImpl(rows, cols, newPtr, newIdx, newValues);
+    }
+
+    // 2차원 double 배열로부터 생성 (0이 아닌 요소 수를 먼저 세어 배열을 정확한 크기로 할당)
+    static SparseMatrixImpl fromArray(boolean rowMajor, double[][] arr) {
+        if (arr == null || arr.length == 0) {
+            throw new IllegalArgumentException("Size 0 not allowed");
+        }
+        int rows = arr.length;
+        int cols = (arr[0] == null) ? 0 : arr[0].length;
+        int nnz = 0;
+        for (double[] row : arr) {
+            if (row == null || row.length != cols) {
+                throw new IllegalArgumentException("All rows in the 2D array must have the same number of columns and not be null.");
+            }
+            for (double v : row) {
+                if (v != 0.0) nnz++;
+            }
+        }
+        int majors = rowMajor ? rows : cols;
+        int minors = rowMajor ? cols : rows;
+        int[] ptr = new int[majors + 1];
+        int[] idx = new int[nnz];
+        double[] values = new double[nnz];
+        int n = 0;
+        for (int major = 0; major < majors; major++) {
+            for (int minor = 0; minor < minors; minor++) {
+                double v = rowMajor ? arr[major][minor] : arr[minor][major];
+                if (v == 0.0) continue;
+                idx[n] = minor;
+                values[n] = v;
+                n++;
+            }
+            ptr[major + 1] = n;
+        }
+        return rowMajor ? new CsrMatrixImpl(rows, cols, ptr, idx, values) : new CscMatrixImpl(rows, cols, ptr, idx, values);
+    }
+
+    // 단위 행렬
+    static SparseMatrixImpl identity(boolean rowMajor, int dimension) {
+        if (dimension <= 0) throw new IllegalArgumentException("Dimension for identity matrix must be positive.");
+        int[] ptr = new int[dimension + 1];
+        int[] idx = new int[dimension];
+        double[] values = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            ptr[i + 1] = i + 1;
+            idx[i] = i;
+            values[i] = 1.0;
+        }
+        return rowMajor ? new CsrMatrixImpl(dimension, dimension, ptr, idx, values) : new CscMatrixImpl(dimension, dimension, ptr, idx, values);
+    }
+
+    // 같은 행렬을 반대 방향(CSR <-> CSC)으로 압축. 계수 정렬로 O(nnz + m + n)
+    final SparseMatrixImpl reoriented() {
+        int majors = majorCount();
+        int minors = minorCount();
+        int nnz = nnz();
+        int[] newPtr = new int[minors + 1];
+        for (int k = 0; k < nnz; k++) {
+            newPtr[idx[k] + 1]++;
+        }
+        for (int m = 0; m < minors; m++) {
+            newPtr[m + 1] += newPtr[m];
+        }
+        int[] next = Arrays.copyOf(newPtr, minors);
+        int[] newIdx = new int[nnz];
+        double[] newValues = new double[nnz];
+        for (int major = 0; major < majors; major++) {
+            for (int k = ptr[major]; k < ptr[major + 1]; k++) {
+                int dst = next[idx[k]]++;
+                newIdx[dst] = major; // major 순서로 채우므로 각 슬라이스는 자동으로 오름차순
+                newValues[dst] = values[k];
+            }
+        }
+        return rowMajor() ? new CscMatrixImpl(rows, cols, newPtr, newIdx, newValues) : new CsrMatrixImpl(rows, cols, newPtr, newIdx, newValues);
+    }
+
+    // 전치 행렬: 같은 배열을 반대 방향으로 해석 (CSR m x n의 배열 = CSC n x m의 배열). 배열을 공유하므로 읽기 전용으로만 사용할 것
+    final SparseMatrixImpl transposedShared() {
+        return rowMajor() ? new CscMatrixImpl(cols, rows, ptr, idx, values) : new CsrMatrixImpl(cols, rows, ptr, idx, values);
+    }
+
+    // 밀집 저장소로 변환 (rref 등 채움(fill-in)이 큰 연산용)
+    final DenseMatrixImpl toDense() {
+        double[] data = new double[rows * cols];
+        for (int major = 0; major < majorCount(); major++) {
+            for (int k = ptr[major]; k < ptr[major + 1]; k++) {
+                if (rowMajor()) {
+                    data[major * cols + idx[k]] = values[k];
+                } else {
+                    data[idx[k] * cols + major] = values[k];
+                }
+            }
+        }
+        return new DenseMatrixImpl(rows, cols, data);
+    }
+
+    // 다른 행렬의 내용으로 자신의 저장소를 교체 (곱셈 결과 등)
+    private void adopt(Matrix result) {
+        SparseMatrixImpl sparse = compressed(result, rowMajor());
+        if (sparse == result) sparse = (SparseMatrixImpl) sparse.clone(); // 결과 객체와 배열을 공유하지 않도록
+        this.rows = sparse.rows;
+        this.cols = sparse.cols;
+        this.ptr = sparse.ptr;
+        this.idx = sparse.idx;
+        this.values = sparse.values;
+    }
+
+    // --- 내부 요소 접근 ---
+
+    // major 슬라이스에서 minor의 위치. 없으면 -(삽입 위치) - 1
+    final int find(int major, int minor) {
+        return Arrays.binarySearch(idx, ptr[major], ptr[major + 1], minor);
+    }
+
+    final double get(int rowIndex, int colIndex) {
+        int major = rowMajor() ? rowIndex : colIndex;
+        int minor = rowMajor() ? colIndex : rowIndex;
+        int pos = find(major, minor);
+        return pos >= 0 ? values[pos] : 0.0;
+    }
+
+    final void set(int rowIndex, int colIndex, double value) {
+        int major = rowMajor() ? rowIndex : colIndex;
+        int minor = rowMajor() ? colIndex : rowIndex;
+        int pos = find(major, minor);
+        if (pos >= 0) {
+            if (value != 0.0) {
+                values[pos] = value;
+            } else {
+                removeAt(major, pos);
+            }
+        } else if (value != 0.0) {
+            insertAt(major, -pos - 1, minor, value);
+        }
+    }
+
+    private void insertAt(int major, int pos, int minor, double value) {
+        int nnz = nnz();
+        if (nnz == idx.length) {
+            int capacity = Math.max(16, nnz + nnz / 2);
+            idx = Arrays.copyOf(idx, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(idx, pos, idx, pos + 1, nnz - pos);
+        System.arraycopy(values, pos, values, pos + 1, nnz - pos);
+        idx[pos] = minor;
+        values[pos] = value;
+        for (int m = major + 1; m < ptr.length; m++) {
+            ptr[m]++;
+        }
+    }
+
+    private void removeAt(int major, int pos) {
+        int nnz = nnz();
+        System.arraycopy(idx, pos + 1, idx, pos, nnz - pos - 1);
+        System.arraycopy(values, pos + 1, values, pos, nnz - pos - 1);
+        for (int m = major + 1; m < ptr.length; m++) {
+            ptr[m]--;
+        }
+    }
+
+    // 값이 0이 된 요소를 제거 (0이 없으면 아무것도 하지 않음)
+    private void dropZeros() {
+        int majors = majorCount();
+        int nnz = nnz();
+        int k = 0;
+        while (k < nnz && values[k] != 0.0) k++;
+        if (k == nnz) return;
+        int write = 0;
+        int start = 0;
+        for (int major = 0; major < majors; major++) {
+            int end = ptr[major + 1];
+            for (int r = start; r < end; r++) {
+                if (values[r] != 0.0) {
+                    idx[write] = idx[r];
+                    values[write] = values[r];
+                    write++;
+                }
+            }
+            start = end;
+            ptr[major + 1] = write;
+        }
+    }
+
+    // --- Matrix ---
+
+    @Override
+    public List<Vector> getVectors() {
+        // 행별 복사본 목록 (변경해도 행렬에 반영되지 않음)
+        List<Vector> result = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            result.add(getRow(i));
+        }
+        return result;
+    }
+
+    // 11m. 특정 위치 요소 지정
+    @Override
+    public void setElement(int rowIndex, int colIndex, Scalar value) {
+        if (value == null) throw new IllegalArgumentException("Scalar value cannot be null.");
+        checkIndex(rowIndex, colIndex);
+        set(rowIndex, colIndex, value.getValue().doubleValue());
+    }
+
+    // 11m. 특정 위치 요소 조회
+    @Override
+    public Scalar viewElement(int rowIndex, int colIndex) {
+        checkIndex(rowIndex, colIndex);
+        return Factory.buildScalar(DenseMatrixImpl.decimal(get(rowIndex, colIndex)));
+    }
+
+    private void checkIndex(int rowIndex, int colIndex) {
+        if (rowIndex < 0 || rowIndex >= rows || colIndex < 0 || colIndex >= cols) {
+            if (rows == 0 || cols == 0) {
+                throw new IndexOutOfBoundsException("Cannot view element in an empty or zero-dimension matrix.");
+            }
+            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + rows + "x" + cols);
+        }
+    }
+
+    // 13. 행렬 크기 조회
+    @Override
+    public int[] getSize() {
+        return new int[]{rows, cols};
+    }
+
+    @Override
+    public int rowCount() {
+        return rows;
+    }
+
+    @Override
+    public int colCount() {
+        return cols;
+    }
+
+    // 14m. 객체를 콘솔에 출력 (MatrixImpl과 같은 형식)
+    @Override
+    public String toString() {
+        if (rows == 0) {
+            return "[[]]";
+        }
+        SparseMatrixImpl csr = compressed(this, true);
+        double[] row = new double[cols];
+        StringBuilder sb = new StringBuilder();
+        sb.append("[\n");
+        for (int i = 0; i < rows; i++) {
+            csr.scatterMajor(i, row);
+            sb.append("  [");
+            for (int j = 0; j < cols; j++) {
+                sb.append(BigDecimal.valueOf(row[j]).toPlainString());
+                if (j < cols - 1) sb.append(", ");
+            }
+            sb.append(i < rows - 1 ? "],\n" : "]\n");
+        }
+        sb.append("]\n");
+        return sb.toString();
+    }
+
+    // major 슬라이스를 밀집 배열로 펼침
+    private void scatterMajor(int major, double[] out) {
+        Arrays.fill(out, 0.0);
+        for (int k = ptr[major]; k < ptr[major + 1]; k++) {
+            out[idx[k]] = values[k];
+        }
+    }
+
+    // 15m. 객체의 동등성 판단
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof Matrix)) return false;
+        Matrix other = (Matrix) obj;
+        if (rows != other.rowCount() || cols != other.colCount()) return false;
+
+        SparseMatrixImpl csr = compressed(this, true);
+        if (other instanceof SparseMatrixImpl) {
+            // 0을 저장하지 않으므로 같은 방향의 압축 배열이 같으면 같은 행렬
+            SparseMatrixImpl otherCsr = compressed(other, true);
+            int nnz = csr.nnz();
+            return Arrays.equals(csr.ptr, otherCsr.ptr)
+                    && Arrays.equals(csr.idx, 0, nnz, otherCsr.idx, 0, nnz)
+                    && Arrays.equals(csr.values, 0, nnz, otherCsr.values, 0, nnz);
+        }
+        double[] row = new double[cols];
+        for (int i = 0; i < rows; i++) {
+            csr.scatterMajor(i, row);
+            for (int j = 0; j < cols; j++) {
+                if (other instanceof DenseMatrixImpl) {
+                    if (row[j] != ((DenseMatrixImpl) other).get(i, j)) return false;
+                } else if (BigDecimal.valueOf(row[j]).compareTo(other.viewElement(i, j).getValue()) != 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // MatrixImpl.hashCode와 같은 방식으로 계산하여 값이 같은 행렬은 구현과 무관하게 같은 해시를 갖게 함
+        SparseMatrixImpl csr = compressed(this, true);
+        int result = 1;
+        result = 31 * result + rows;
+        result = 31 * result + cols;
+        for (int i = 0; i < rows; i++) {
+            int k = csr.ptr[i];
+            int end = csr.ptr[i + 1];
+            for (int j = 0; j < cols; j++) {
+                if (k < end && csr.idx[k] == j) {
+                    result = 31 * result + BigDecimal.valueOf(csr.values[k]).stripTrailingZeros().hashCode();
+                    k++;
+                } else {
+                    result = 31 * result + ZERO_HASH;
+                }
+            }
+        }
+        return result;
+    }
+
+    // 55. 내용 지문 (0이 아닌 요소만 훑음, O(nnz). 0 요소는 기여가 없으므로 밀집 저장소와 같은 규칙)
+    @Override
+    public long fingerprint() {
+        boolean rowMajor = rowMajor();
+        long sum = 0;
+        for (int major = 0; major < majorCount(); major++) {
+            for (int k = ptr[major]; k < ptr[major + 1]; k++) {
+                sum += rowMajor ? Fingerprint.at(major, idx[k], Fingerprint.element(values[k]))
+                        : Fingerprint.at(idx[k], major, Fingerprint.element(values[k]));
+            }
+        }
+        return Fingerprint.finish(rows, cols, sum);
+    }
+
+    // 17m. 객체 복제 (deep copy, 여유 공간은 잘라냄)
+    @Override
+    public Matrix clone() {
+        try {
+            SparseMatrixImpl cloned = (SparseMatrixImpl) super.clone();
+            int nnz = nnz();
+            cloned.ptr = ptr.clone();
+            cloned.idx = Arrays.copyOf(idx, nnz);
+            cloned.values = Arrays.copyOf(values, nnz);
+            return cloned;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e); // Should not happen
+        }
+    }
+
+    // 22. 행렬 덧셈 (non-static, modifies self) - 두 행렬의 슬라이스를 병합, O(nnz(this) + nnz(other))
+    @Override
+    public Matrix add(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        if (rows != other.rowCount() || cols != other.colCount()) {
+            throw new DimensionMismatchException("Matrices must have the same dimensions for addition. Self: "
+                    + rows + "x" + cols + ", Other: " + other.rowCount() + "x" + other.colCount());
+        }
+        SparseMatrixImpl b = compressed(other, rowMajor());
+        int majors = majorCount();
+        int capacity = nnz() + b.nnz();
+        int[] newPtr = new int[majors + 1];
+        int[] newIdx = new int[capacity];
+        double[] newValues = new double[capacity];
+        int n = 0;
+        for (int major = 0; major < majors; major++) {
+            int p = ptr[major];
+            int pEnd = ptr[major + 1];
+            int q = b.ptr[major];
+            int qEnd = b.ptr[major + 1];
+            while (p < pEnd || q < qEnd) {
+                int minor;
+                double v;
+                if (q >= qEnd || (p < pEnd && idx[p] < b.idx[q])) {
+                    minor = idx[p];
+                    v = values[p++];
+                } else if (p >= pEnd || b.idx[q] < idx[p]) {
+                    minor = b.idx[q];
+                    v = b.values[q++];
+                } else {
+                    minor = idx[p];
+                    v = values[p++] + b.values[q++];
+                }
+                if (v != 0.0) {
+                    newIdx[n] = minor;
+                    newValues[n] = v;
+                    n++;
+                }
+            }
+            newPtr[major + 1] = n;
+        }
+        this.ptr = newPtr;
+        this.idx = newIdx;
+        this.values = newValues;
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = other * this)
+    @Override
+    public Matrix multiplyLeft(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        adopt(Tensors.multiply(other, this));
+        return this;
+    }
+
+    @Override
+    public Matrix multiplyRight(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        adopt(Tensors.multiply(this, other));
+        return this;
+    }
+
+    // 희소 행렬이 포함된 곱셈 (MatrixMultiplier에서 호출, 차원은 이미 검사됨)
+    // 희소 x 희소는 Gustavson 방식으로 결과도 CSR, 한쪽이 밀집이면 결과는 밀집 행렬
+    static Matrix multiply(Matrix m1, Matrix m2) {
+        int rows = m1.rowCount();
+        int inner = m1.colCount();
+        int cols = m2.colCount();
+        if (m1 instanceof SparseMatrixImpl && m2 instanceof SparseMatrixImpl) {
+            return multiplySparse(compressed(m1, true), compressed(m2, true), rows, cols);
+        }
+        double[] c = new double[rows * cols];
+        if (m1 instanceof SparseMatrixImpl) {
+            // C의 i행 += a_ik * B의 k행
+            SparseMatrixImpl a = compressed(m1, true);
+            double[] b = denseData(m2);
+            for (int i = 0; i < rows; i++) {
+                int base = i * cols;
+                for (int p = a.ptr[i]; p < a.ptr[i + 1]; p++) {
+                    double aik = a.values[p];
+                    int bBase = a.idx[p] * cols;
+                    for (int j = 0; j < cols; j++) {
+                        c[base + j] += aik * b[bBase + j];
+                    }
+                }
+            }
+        } else {
+            // C의 i행 += a_ik * B의 k행 (B의 k행은 희소)
+            double[] a = denseData(m1);
+            SparseMatrixImpl b = compressed(m2, true);
+            for (int i = 0; i < rows; i++) {
+                int base = i * cols;
+                for (int k = 0; k < inner; k++) {
+                    double aik = a[i * inner + k];
+                    if (aik == 0.0) continue;
+                    for (int q = b.ptr[k]; q < b.ptr[k + 1]; q++) {
+                        c[base + b.idx[q]] += aik * b.values[q];
+                    }
+                }
+            }
+        }
+        return new DenseMatrixImpl(rows, cols, c);
+    }
+
+    private static double[] denseData(Matrix m) {
+        if (m instanceof DenseMatrixImpl) return ((DenseMatrixImpl) m).data();
+        return new DenseMatrixImpl(m).data(); // BigDecimal 등은 double로 변환
+    }
+
+    // CSR x CSR -> CSR. 결과 행마다 밀집 누적 배열과 사용 표시(marker)를 두어 O(flops + nnz(C))
+    private static SparseMatrixImpl multiplySparse(SparseMatrixImpl a, SparseMatrixImpl b, int rows, int cols) {
+        int[] cPtr = new int[rows + 1];
+        int[] cIdx = new int[Math.max(16, a.nnz() + b.nnz())];
+        double[] cValues = new double[cIdx.length];
+        double[] accumulator = new double[cols];
+        int[] marker = new int[cols];
+        Arrays.fill(marker, -1);
+        int[] touched = new int[cols];
+        int n = 0;
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (int p = a.ptr[i]; p < a.ptr[i + 1]; p++) {
+                double aik = a.values[p];
+                int k = a.idx[p];
+                for (int q = b.ptr[k]; q < b.ptr[k + 1]; q++) {
+                    int j = b.idx[q];
+                    if (marker[j] != i) {
+                        marker[j] = i;
+                        accumulator[j] = 0.0;
+                        touched[count++] = j;
+                    }
+                    accumulator[j] += aik * b.values[q];
+                }
+            }
+            Arrays.sort(touched, 0, count);
+            if (n + count > cIdx.length) {
+                int capacity = Math.max(n + count, cIdx.length + cIdx.length / 2);
+                cIdx = Arrays.copyOf(cIdx, capacity);
+                cValues = Arrays.copyOf(cValues, capacity);
+            }
+            for (int t = 0; t < count; t++) {
+                int j = touched[t];
+                if (accumulator[j] != 0.0) {
+                    cIdx[n] = j;
+                    cValues[n] = accumulator[j];
+                    n++;
+                }
+            }
+            cPtr[i + 1] = n;
+        }
+        return new CsrMatrixImpl(rows, cols, cPtr, cIdx, cValues);
+    }
+
+    // 32. 가로 합치기 (non-static, returns new matrix)
+    @Override
+    public Matrix hstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for hstack cannot be null.");
+        return Tensors.hstack(this, other);
+    }
+
+    // 33. 세로 합치기 (non-static, returns new matrix)
+    @Override
+    public Matrix vstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for vstack cannot be null.");
+        return Tensors.vstack(this, other);
+    }
+
+    // 34. 특정 행을 벡터 형태로 추출
+    @Override
+    public Vector getRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rows) {
+            throw new IndexOutOfBoundsException("Row index " + rowIndex + " is out of bounds for matrix with " + rows + " rows.");
+        }
+        return Factory.buildVector(rowMajor() ? majorSlice(rowIndex) : minorSlice(rowIndex));
+    }
+
+    // 35. 특정 열을 벡터 형태로 추출
+    @Override
+    public Vector getCol(int colIndex) {
+        if (colIndex < 0 || colIndex >= cols) {
+            throw new IndexOutOfBoundsException("Column index " + colIndex + " is out of bounds for matrix with " + cols + " columns.");
+        }
+        return Factory.buildVector(rowMajor() ? minorSlice(colIndex) : majorSlice(colIndex));
+    }
+
+    // 압축 축 방향 슬라이스: 저장된 요소만 펼침, O(nnz(slice))
+    private double[] majorSlice(int major) {
+        double[] out = new double[minorCount()];
+        for (int k = ptr[major]; k < ptr[major + 1]; k++) {
+            out[idx[k]] = values[k];
+        }
+        return out;
+    }
+
+    // 반대 축 방향 슬라이스: 슬라이스마다 이진 탐색, O(majorCount * log)
+    private double[] minorSlice(int minor) {
+        double[] out = new double[majorCount()];
+        for (int major = 0; major < out.length; major++) {
+            int pos = find(major, minor);
+            if (pos >= 0) out[major] = values[pos];
+        }
+        return out;
+    }
+
+    // 36. 특정 범위의 부분 행렬 추출 (희소 행렬 반환)
+    @Override
+    public Matrix subMatrix(int startRow, int endRow, int startCol, int endCol) {
+        if (startRow < 0 || startRow >= rows || endRow < startRow || endRow >= rows ||
+                startCol < 0 || startCol >= cols || endCol < startCol || endCol >= cols) {
+            throw new IndexOutOfBoundsException("Submatrix indices are out of bounds or invalid.");
+        }
+        int majorStart = rowMajor() ? startRow : startCol;
+        int majorEnd = rowMajor() ? endRow : endCol;
+        int minorStart = rowMajor() ? startCol : startRow;
+        int minorEnd = rowMajor() ? endCol : endRow;
+        return slice(endRow - startRow + 1, endCol - startCol + 1, majorStart, majorEnd, -1, minorStart, minorEnd, -1);
+    }
+
+    // 37. 특정 행/열 제외 부분 행렬 (minor)
+    @Override
+    public Matrix minor(int excludeRowIndex, int excludeColIndex) {
+        if (excludeRowIndex < 0 || excludeRowIndex >= rows ||
+                excludeColIndex < 0 || excludeColIndex >= cols) {
+            throw new IndexOutOfBoundsException("Exclude indices are out of bounds.");
+        }
+        if (rows <= 1 || cols <= 1) {
+            return create(0, 0, new int[1], new int[0], new double[0]);
+        }
+        int excludeMajor = rowMajor() ? excludeRowIndex : excludeColIndex;
+        int excludeMinor = rowMajor() ? excludeColIndex : excludeRowIndex;
+        return slice(rows - 1, cols - 1, 0, majorCount() - 1, excludeMajor, 0, minorCount() - 1, excludeMinor);
+    }
+
+    // [majorStart, majorEnd] x [minorStart, minorEnd] 범위(제외할 major/minor 하나씩 지정 가능, 없으면 -1)를 새 희소 행렬로
+    private SparseMatrixImpl slice(int newRows, int newCols, int majorStart, int majorEnd, int excludeMajor,
+                                   int minorStart, int minorEnd, int excludeMinor) {
+        int newMajors = rowMajor() ? newRows : newCols;
+        int[] newPtr = new int[newMajors + 1];
+        int[] newIdx = new int[16];
+        double[] newValues = new double[16];
+        int n = 0;
+        int out = 0;
+        for (int major = majorStart; major <= majorEnd; major++) {
+            if (major == excludeMajor) continue;
+            int from = find(major, minorStart);
+            if (from < 0) from = -from - 1;
+            for (int k = from; k < ptr[major + 1] && idx[k] <= minorEnd; k++) {
+                int minor = idx[k];
+                if (minor == excludeMinor) continue;
+                if (n == newIdx.length) {
+                    newIdx = Arrays.copyOf(newIdx, n + n / 2);
+                    newValues = Arrays.copyOf(newValues, newIdx.length);
+                }
+                newIdx[n] = (excludeMinor >= 0 && minor > excludeMinor) ? minor - 1 - minorStart : minor - minorStart;
+                newValues[n] = values[k];
+                n++;
+            }
+            newPtr[++out] = n;
+        }
+        return create(newRows, newCols, newPtr, newIdx, newValues);
+    }
+
+    // 38. 전치행렬: CSR의 압축 배열은 그대로 전치 행렬의 CSC가 된다 (배열 복사만, O(nnz))
+    @Override
+    public Matrix transpose() {
+        int nnz = nnz();
+        int[] newPtr = ptr.clone();
+        int[] newIdx = Arrays.copyOf(idx, nnz);
+        double[] newValues = Arrays.copyOf(values, nnz);
+        return rowMajor() ? new CscMatrixImpl(cols, rows, newPtr, newIdx, newValues) : new CsrMatrixImpl(cols, rows, newPtr, newIdx, newValues);
+    }
+
+    // 39. 대각 요소의 합 (trace)
+    @Override
+    public Scalar trace() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Trace is defined only for square matrices.");
+        }
+        double sum = 0.0;
+        for (int i = 0; i < rows; i++) {
+            sum += get(i, i);
+        }
+        return Factory.buildScalar(DenseMatrixImpl.decimal(sum));
+    }
+
+    // 40. 정사각 행렬 여부
+    @Override
+    public boolean isSquare() {
+        return rows == cols;
+    }
+
+    // 41. 상삼각 행렬: 대각 아래에 저장된 요소가 없어야 함
+    @Override
+    public boolean isUpperTriangular() {
+        if (!isSquare()) return false;
+        for (int major = 0; major < majorCount(); major++) {
+            for (int k = ptr[major]; k < ptr[major + 1]; k++) {
+                int i = rowMajor() ? major : idx[k];
+                int j = rowMajor() ? idx[k] : major;
+                if (i > j) return false;
+            }
+        }
+        return true;
+    }
+
+    // 42. 하삼각 행렬: 대각 위에 저장된 요소가 없어야 함
+    @Override
+    public boolean isLowerTriangular() {
+        if (!isSquare()) return false;
+        for (int major = 0; major < majorCount(); major++) {
+            for (int k = ptr[major]; k < ptr[major + 1]; k++) {
+                int i = rowMajor() ? major : idx[k];
+                int j = rowMajor() ? idx[k] : major;
+                if (i < j) return false;
+            }
+        }
+        return true;
+    }
+
+    // 43. 단위 행렬: 각 슬라이스에 대각 요소 1.0 하나만 있어야 함
+    @Override
+    public boolean isIdentity() {
+        if (!isSquare()) return false;
+        for (int major = 0; major < majorCount(); major++) {
+            int k = ptr[major];
+            if (ptr[major + 1] - k != 1 || idx[k] != major || values[k] != 1.0) return false;
+        }
+        return true;
+    }
+
+    // 44. 영 행렬: 0을 저장하지 않으므로 저장된 요소가 없으면 영 행렬, O(1)
+    @Override
+    public boolean isZeroMatrix() {
+        return nnz() == 0;
+    }
+
+    // --- Elementary Row/Column Operations (modifies self) ---
+    // 압축 축 방향 연산은 슬라이스 단위로, 반대 축 방향 연산은 각 슬라이스의 해당 요소만 갱신
+
+    // 45. 특정 두 행의 위치 교환
+    @Override
+    public void swapRows(int rowIndex1, int rowIndex2) {
+        if (rowIndex1 < 0 || rowIndex1 >= rows || rowIndex2 < 0 || rowIndex2 >= rows) {
+            throw new IndexOutOfBoundsException("Row indices for swap are out of bounds.");
+        }
+        if (rowIndex1 == rowIndex2) return;
+        if (rowMajor()) swapMajor(rowIndex1, rowIndex2);
+        else swapMinor(rowIndex1, rowIndex2);
+    }
+
+    // 46. 특정 두 열의 위치 교환
+    @Override
+    public void swapCols(int colIndex1, int colIndex2) {
+        if (colIndex1 < 0 || colIndex1 >= cols || colIndex2 < 0 || colIndex2 >= cols) {
+            throw new IndexOutOfBoundsException("Column indices for swap are out of bounds.");
+        }
+        if (colIndex1 == colIndex2) return;
+        if (rowMajor()) swapMinor(colIndex1, colIndex2);
+        else swapMajor(colIndex1, colIndex2);
+    }
+
+    // 47. 특정 행에 상수배
+    @Override
+    public void multiplyRow(int rowIndex, Scalar scalar) {
+        if (scalar == null) throw new IllegalArgumentException("Scalar for multiplyRow cannot be null.");
+        if (rowIndex < 0 || rowIndex >= rows) {
+            throw new IndexOutOfBoundsException("Row index for multiplyRow is out of bounds.");
+        }
+        scale(rowMajor(), rowIndex, scalar.getValue().doubleValue());
+    }
+
+    // 48. 특정 열에 상수배
+    @Override
+    public void multiplyCol(int colIndex, Scalar scalar) {
+        if (scalar == null) throw new IllegalArgumentException("Scalar for multiplyCol cannot be null.");
+        if (colIndex < 0 || colIndex >= cols) {
+            throw new IndexOutOfBoundsException("Column index for multiplyCol is out of bounds.");
+        }
+        scale(!rowMajor(), colIndex, scalar.getValue().doubleValue());
+    }
+
+    // 49. 특정 행에 다른 행의 상수배를 더함 (targetRow += scalar * sourceRow)
+    @Override
+    public void addScaledRow(int targetRowIndex, int sourceRowIndex, Scalar scalar) {
+        if (scalar == null) throw new IllegalArgumentException("Scalar for addScaledRow cannot be null.");
+        if (targetRowIndex < 0 || targetRowIndex >= rows || sourceRowIndex < 0 || sourceRowIndex >= rows) {
+            throw new IndexOutOfBoundsException("Row indices for addScaledRow are out of bounds.");
+        }
+        addScaled(rowMajor(), targetRowIndex, sourceRowIndex, scalar.getValue().doubleValue());
+    }
+
+    // 50. 특정 열에 다른 열의 상수배를 더함 (targetCol += scalar * sourceCol)
+    @Override
+    public void addScaledCol(int targetColIndex, int sourceColIndex, Scalar scalar) {
+        if (scalar == null) throw new IllegalArgumentException("Scalar for addScaledCol cannot be null.");
+        if (targetColIndex < 0 || targetColIndex >= cols || sourceColIndex < 0 || sourceColIndex >= cols) {
+            throw new IndexOutOfBoundsException("Column indices for addScaledCol are out of bounds.");
+        }
+        addScaled(!rowMajor(), targetColIndex, sourceColIndex, scalar.getValue().doubleValue());
+    }
+
+    // 두 major 슬라이스의 위치 교환 (배열 재배치, O(nnz))
+    private void swapMajor(int a, int b) {
+        if (a > b) {
+            int temp = a;
+            a = b;
+            b = temp;
+        }
+        int aStart = ptr[a], aLen = ptr[a + 1] - aStart;
+        int bStart = ptr[b], bLen = ptr[b + 1] - bStart;
+        int midStart = ptr[a + 1], midLen = bStart - midStart;
+        int[] newIdx = new int[aLen + midLen + bLen];
+        double[] newValues = new double[newIdx.length];
+        System.arraycopy(idx, bStart, newIdx, 0, bLen);
+        System.arraycopy(idx, midStart, newIdx, bLen, midLen);
+        System.arraycopy(idx, aStart, newIdx, bLen + midLen, aLen);
+        System.arraycopy(values, bStart, newValues, 0, bLen);
+        System.arraycopy(values, midStart, newValues, bLen, midLen);
+        System.arraycopy(values, aStart, newValues, bLen + midLen, aLen);
+        System.arraycopy(newIdx, 0, idx, aStart, newIdx.length);
+        System.arraycopy(newValues, 0, values, aStart, newValues.length);
+        int shift = bLen - aLen;
+        for (int m = a + 1; m <= b; m++) {
+            ptr[m] += shift;
+        }
+    }
+
+    // 각 슬라이스에서 minor 인덱스 a와 b의 요소를 맞바꿈 (슬라이스 길이는 변하지 않음)
+    private void swapMinor(int a, int b) {
+        for (int major = 0; major < majorCount(); major++) {
+            int pa = find(major, a);
+            int pb = find(major, b);
+            if (pa >= 0 && pb >= 0) {
+                double temp = values[pa];
+                values[pa] = values[pb];
+                values[pb] = temp;
+            } else if (pa >= 0) {
+                moveWithinSlice(major, pa, b);
+            } else if (pb >= 0) {
+                moveWithinSlice(major, pb, a);
+            }
+        }
+    }
+
+    // pos의 요소를 같은 슬라이스 안에서 minor 인덱스 newMinor의 정렬 위치로 옮김
+    private void moveWithinSlice(int major, int pos, int newMinor) {
+        double value = values[pos];
+        int k = pos;
+        while (k > ptr[major] && idx[k - 1] > newMinor) {
+            idx[k] = idx[k - 1];
+            values[k] = values[k - 1];
+            k--;
+        }
+        while (k < ptr[major + 1] - 1 && idx[k + 1] < newMinor) {
+            idx[k] = idx[k + 1];
+            values[k] = values[k + 1];
+            k++;
+        }
+        idx[k] = newMinor;
+        values[k] = value;
+    }
+
+    // onMajor가 true면 major 슬라이스 index에, 아니면 각 슬라이스의 minor index 요소에 k를 곱함
+    private void scale(boolean onMajor, int index, double k) {
+        if (onMajor) {
+            for (int p = ptr[index]; p < ptr[index + 1]; p++) {
+                values[p] *= k;
+            }
+        } else {
+            for (int major = 0; major < majorCount(); major++) {
+                int pos = find(major, index);
+                if (pos >= 0) values[pos] *= k;
+            }
+        }
+        dropZeros();
+    }
+
+    // target += k * source (onMajor면 major 슬라이스끼리, 아니면 각 슬라이스 안의 minor 요소끼리)
+    private void addScaled(boolean onMajor, int target, int source, double k) {
+        if (target == source) {
+            scale(onMajor, target, 1.0 + k); // 요소별로 target *= (1 + k)와 같음
+            return;
+        }
+        if (k == 0.0) return;
+        if (onMajor) {
+            addScaledMajor(target, source, k);
+            return;
+        }
+        for (int major = 0; major < majorCount(); major++) {
+            int ps = find(major, source);
+            if (ps < 0) continue;
+            double delta = k * values[ps];
+            int pt = find(major, target);
+            if (pt >= 0) {
+                values[pt] += delta;
+                if (values[pt] == 0.0) removeAt(major, pt);
+            } else if (delta != 0.0) {
+                insertAt(major, -pt - 1, target, delta);
+            }
+        }
+    }
+
+    // target 슬라이스 = target + k * source 슬라이스 (정렬 병합 후 target 슬라이스를 교체)
+    private void addScaledMajor(int target, int source, double k) {
+        int p = ptr[target], pEnd = ptr[target + 1];
+        int q = ptr[source], qEnd = ptr[source + 1];
+        int[] mergedIdx = new int[(pEnd - p) + (qEnd - q)];
+        double[] mergedValues = new double[mergedIdx.length];
+        int n = 0;
+        while (p < pEnd || q < qEnd) {
+            int minor;
+            double v;
+            if (q >= qEnd || (p < pEnd && idx[p] < idx[q])) {
+                minor = idx[p];
+                v = values[p++];
+            } else if (p >= pEnd || idx[q] < idx[p]) {
+                minor = idx[q];
+                v = k * values[q++];
+            } else {
+                minor = idx[p];
+                v = values[p++] + k * values[q++];
+            }
+            if (v != 0.0) {
+                mergedIdx[n] = minor;
+                mergedValues[n] = v;
+                n++;
+            }
+        }
+        replaceSlice(target, mergedIdx, mergedValues, n);
+    }
+
+    // major 슬라이스의 내용을 주어진 요소들로 교체
+    private void replaceSlice(int major, int[] newIdx, double[] newValues, int length) {
+        int start = ptr[major];
+        int oldLength = ptr[major + 1] - start;
+        int nnz = nnz();
+        int newNnz = nnz - oldLength + length;
+        if (newNnz > idx.length) {
+            int capacity = Math.max(newNnz, idx.length + idx.length / 2);
+            idx = Arrays.copyOf(idx, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(idx, start + oldLength, idx, start + length, nnz - start - oldLength);
+        System.arraycopy(values, start + oldLength, values, start + length, nnz - start - oldLength);
+        System.arraycopy(newIdx, 0, idx, start, length);
+        System.arraycopy(newValues, 0, values, start, length);
+        int shift = length - oldLength;
+        for (int m = major + 1; m < ptr.length; m++) {
+            ptr[m] += shift;
+        }
+    }
+
+    // 51. RREF 행렬 구해서 반환 (새 행렬 반환) - 채움을 줄이는 피벗 순서의 희소 소거 (SparseRref), ResultCache를 켜 두면 결과를 저장
+    @Override
+    public Matrix rref() {
+        return ResultCache.rref(this, null, () -> compressed(SparseRref.rref(this), rowMajor()));
+    }
+
+    // 52. 자신이 RREF 행렬인지 여부 판별 (행 압축 배열로 검사, O(nnz))
+    @Override
+    public boolean isRREF() {
+        SparseMatrixImpl csr = compressed(this, true);
+        int[] colCounts = new int[cols];
+        for (int k = 0; k < csr.nnz(); k++) {
+            colCounts[csr.idx[k]]++;
+        }
+        int lead = -1;
+        for (int r = 0; r < rows; r++) {
+            int start = csr.ptr[r];
+            if (start == csr.ptr[r + 1]) {
+                // 0행 아래에는 0행만 올 수 있음
+                return csr.ptr[rows] == start;
+            }
+            int currentLead = csr.idx[start];
+            if (csr.values[start] != 1.0 || currentLead <= lead || colCounts[currentLead] != 1) return false;
+            lead = currentLead;
+        }
+        return true;
+    }
+
+    // 53. 행렬식 (nxn 행렬) - 밀집 저장소로 변환해 LU 분해
+    @Override
+    public Scalar determinant() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Determinant is defined only for square matrices.");
+        }
+        return toDense().determinant();
+    }
+
+    // 53-1. 정확한 행렬식
+    @Override
+    public Scalar exactDeterminant() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Determinant is defined only for square matrices.");
+        }
+        return toDense().exactDeterminant();
+    }
+
+    // 54. 역행렬 (nxn 행렬, 새 행렬 반환) - 역행렬은 일반적으로 밀집이므로 밀집 행렬로 반환
+    @Override
+    public Matrix inverse() {
+        if (!isSquare()) {
+            throw new NotSquareMatrixException("Inverse is defined only for square matrices.");
+        }
+        return toDense().inverse();
+    }
+}
@@ -0,0 +1,283 @@
+package tensor;
+
+import java.util.Arrays;
+
+// 희소 행렬의 RREF (행 단위 희소 가우스-조던 소거)
+// RREF는 유일하므로 열 순서는 그대로 두고, 각 열에서 피벗 행만 Markowitz 방식으로 고른다:
+// 후보 중 |값| >= PIVOT_THRESHOLD * (열의 최대 |값|)인 행 가운데 0이 아닌 요소가 가장 적은 행을 피벗으로 삼아
+// 소거 시 생기는 채움(fill-in)을 줄인다. 먼저 아래 방향으로 소거하고(전진), 마지막 피벗부터 위 방향으로 소거한다(후진).
+// 0 판정은 DenseMatrixImpl.gaussJordan과 같다: 뺄셈 결과는 두 피연산자에 비해 상쇄됐을 때만 0으로 맞추고(cancelled),
+// 피벗 후보는 입력의 같은 열과 같은 행의 최대 |값| 모두에 비해 무시할 만할 때만 0으로 본다(negligible). 피벗은 정확히 1로 맞춘다.
+final class SparseRref {
+    // 피벗 안정성 기준 (threshold partial pivoting의 u). 1.0이면 부분 피벗팅과 같음
+    static final double PIVOT_THRESHOLD = 0.1;
+
+    private final int rows;
+    private final int cols;
+    private final double[] colScale; // 입력의 열별 최대 |값|
+    private final double[] rowScale; // 입력의 행별 최대 |값| (행을 옮기지 않으므로 원래 행 번호로 조회)
+
+    // 행마다 (열 인덱스 오름차순, 값) 희소 벡터
+    private final int[][] rowIdx;
+    private final double[][] rowVal;
+    private final int[] rowLen;
+
+    // 열마다 그 열에 요소가 있을 수 있는 행 목록 (소거로 사라진 항목은 조회 시 걸러냄)
+    private final int[][] colRows;
+    private final int[] colLen;
+
+    private final int[] seen; // compactColumn의 중복 검사용 (seen[i] == stamp이면 이미 등록)
+    private int stamp;
+
+    private int[] scratchIdx;
+    private double[] scratchVal;
+
+    private SparseRref(SparseMatrixImpl csr) {
+        this.rows = csr.rows;
+        this.cols = csr.cols;
+        this.rowIdx = new int[rows][];
+        this.rowVal = new double[rows][];
+        this.rowLen = new int[rows];
+        this.colRows = new int[cols][];
+        this.colLen = new int[cols];
+
+        this.colScale = new double[cols];
+        this.rowScale = new double[rows];
+        int[] colCounts = new int[cols];
+        for (int i = 0; i < rows; i++) {
+            int start = csr.ptr[i];
+            int len = csr.ptr[i + 1] - start;
+            rowIdx[i] = Arrays.copyOfRange(csr.idx, start, start + len);
+            rowVal[i] = Arrays.copyOfRange(csr.values, start, start + len);
+            rowLen[i] = len;
+            for (int k = 0; k < len; k++) {
+                int j = rowIdx[i][k];
+                double abs = Math.abs(rowVal[i][k]);
+                colCounts[j]++;
+                colScale[j] = Math.max(colScale[j], abs);
+                rowScale[i] = Math.max(rowScale[i], abs);
+            }
+        }
+        for (int j = 0; j < cols; j++) {
+            colRows[j] = new int[Math.max(4, colCounts[j])];
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int k = 0; k < rowLen[i]; k++) {
+                int j = rowIdx[i][k];
+                colRows[j][colLen[j]++] = i;
+            }
+        }
+        this.seen = new int[rows];
+        this.scratchIdx = new int[16];
+        this.scratchVal = new double[16];
+    }
+
+    // RREF를 CSR 행렬로 반환 (입력은 변경하지 않음)
+    static SparseMatrixImpl rref(SparseMatrixImpl matrix) {
+        SparseRref engine = new SparseRref(SparseMatrixImpl.compressed(matrix, true));
+        return engine.reduce();
+    }
+
+    private SparseMatrixImpl reduce() {
+        boolean[] isPivotRow = new boolean[rows];
+        int[] pivotRows = new int[Math.min(rows, cols)];
+        int[] pivotCols = new int[pivotRows.length];
+        int rank = 0;
+
+        // 전진 소거: 피벗 열 아래(아직 피벗이 아닌 행)에서만 소거
+        for (int lead = 0; lead < cols && rank < rows; lead++) {
+            int count = liveRows(lead);
+            int[] candidates = colRows[lead];
+            double colMax = 0.0;
+            for (int c = 0; c < count; c++) {
+                int i = candidates[c];
+                if (isPivotRow[i]) continue;
+                double v = valueAt(i, lead);
+                if (!DenseMatrixImpl.negligible(v, colScale[lead], rowScale[i])) colMax = Math.max(colMax, Math.abs(v));
+            }
+            if (colMax == 0.0) {
+                // 남은 값은 모두 무시할 만하므로 0으로 처리 (DenseMatrixImpl.gaussJordan과 같음)
+                for (int c = 0; c < count; c++) {
+                    int i = candidates[c];
+                    if (!isPivotRow[i]) removeAt(i, lead);
+                }
+                continue;
+            }
+
+            int p = -1;
+            for (int c = 0; c < count; c++) {
+                int i = candidates[c];
+                if (isPivotRow[i]) continue;
+                double v = valueAt(i, lead);
+                double abs = Math.abs(v);
+                if (abs < PIVOT_THRESHOLD * colMax || DenseMatrixImpl.negligible(v, colScale[lead], rowScale[i])) continue;
+                if (p == -1 || rowLen[i] < rowLen[p] || (rowLen[i] == rowLen[p] && abs > Math.abs(valueAt(p, lead)))) {
+                    p = i;
+                }
+            }
+            isPivotRow[p] = true;
+            pivotRows[rank] = p;
+            pivotCols[rank] = lead;
+            rank++;
+            normalize(p, lead);
+
+            // colRows[lead]는 소거 중 채움으로 다른 열 목록만 바뀌므로 복사 없이 순회 가능
+            for (int c = 0; c < count; c++) {
+                int i = candidates[c];
+                if (i == p || isPivotRow[i]) continue;
+                double factor = valueAt(i, lead);
+                if (factor != 0.0) eliminate(i, p, factor, lead);
+            }
+            compactColumn(lead);
+        }
+
+        // 후진 소거: 마지막 피벗부터 위쪽 피벗 행의 해당 열을 소거 (뒤쪽 피벗 열은 이미 0이므로 채움이 피벗 열로 퍼지지 않음)
+        for (int k = rank - 1; k >= 0; k--) {
+            int p = pivotRows[k];
+            int lead = pivotCols[k];
+            int count = liveRows(lead);
+            int[] holders = colRows[lead];
+            for (int c = 0; c < count; c++) {
+                int i = holders[c];
+                if (i == p) continue;
+                double factor = valueAt(i, lead);
+                if (factor != 0.0) eliminate(i, p, factor, lead);
+            }
+            compactColumn(lead);
+        }
+
+        // 피벗 순서대로 행을 배치하고 나머지(0) 행은 아래로
+        int nnz = 0;
+        for (int k = 0; k < rank; k++) {
+            nnz += rowLen[pivotRows[k]];
+        }
+        int[] ptr = new int[rows + 1];
+        int[] idx = new int[nnz];
+        double[] values = new double[nnz];
+        int n = 0;
+        for (int k = 0; k < rank; k++) {
+            int p = pivotRows[k];
+            System.arraycopy(rowIdx[p], 0, idx, n, rowLen[p]);
+            System.arraycopy(rowVal[p], 0, values, n, rowLen[p]);
+            n += rowLen[p];
+            ptr[k + 1] = n;
+        }
+        for (int k = rank; k < rows; k++) {
+            ptr[k + 1] = n;
+        }
+        return new CsrMatrixImpl(rows, cols, ptr, idx, values);
+    }
+
+    // 열 j의 행 목록에서 실제로 요소가 없는 항목을 제거하고 개수를 반환
+    private int liveRows(int j) {
+        compactColumn(j);
+        return colLen[j];
+    }
+
+    // 요소가 사라진 행과 (제거 후 다시 채워져) 중복 등록된 행을 목록에서 제거
+    private void compactColumn(int j) {
+        int[] list = colRows[j];
+        int write = 0;
+        stamp++;
+        for (int c = 0; c < colLen[j]; c++) {
+            int i = list[c];
+            if (seen[i] != stamp && find(i, j) >= 0) {
+                seen[i] = stamp;
+                list[write++] = i;
+            }
+        }
+        colLen[j] = write;
+    }
+
+    private int find(int i, int j) {
+        return Arrays.binarySearch(rowIdx[i], 0, rowLen[i], j);
+    }
+
+    private double valueAt(int i, int j) {
+        int pos = find(i, j);
+        return pos >= 0 ? rowVal[i][pos] : 0.0;
+    }
+
+    private void removeAt(int i, int j) {
+        int pos = find(i, j);
+        if (pos < 0) return;
+        int len = rowLen[i];
+        System.arraycopy(rowIdx[i], pos + 1, rowIdx[i], pos, len - pos - 1);
+        System.arraycopy(rowVal[i], pos + 1, rowVal[i], pos, len - pos - 1);
+        rowLen[i] = len - 1;
+    }
+
+    // 피벗 행을 피벗 값으로 나눔. 피벗은 정확히 1로, 나머지는 (상쇄가 없으므로) 언더플로로 0이 된 값만 제거
+    private void normalize(int p, int lead) {
+        int[] index = rowIdx[p];
+        double[] value = rowVal[p];
+        double inversePivot = 1.0 / valueAt(p, lead);
+        int write = 0;
+        for (int k = 0; k < rowLen[p]; k++) {
+            double v = (index[k] == lead) ? 1.0 : value[k] * inversePivot;
+            if (v == 0.0) continue;
+            index[write] = index[k];
+            value[write] = v;
+            write++;
+        }
+        rowLen[p] = write;
+    }
+
+    // 행 i -= factor * 행 p (정렬 병합). lead 열은 정확히 0이 되어 제거되고, 새로 생긴 요소는 열 목록에 등록
+    // 두 행에 모두 있는 열만 상쇄될 수 있으므로 그 열에서만 cancelled로 0을 판정한다
+    private void eliminate(int i, int p, double factor, int lead) {
+        int[] aIdx = rowIdx[i];
+        double[] aVal = rowVal[i];
+        int aLen = rowLen[i];
+        int[] bIdx = rowIdx[p];
+        double[] bVal = rowVal[p];
+        int bLen = rowLen[p];
+        if (scratchIdx.length < aLen + bLen) {
+            scratchIdx = new int[aLen + bLen];
+            scratchVal = new double[aLen + bLen];
+        }
+        int[] outIdx = scratchIdx;
+        double[] outVal = scratchVal;
+        int a = 0;
+        int b = 0;
+        int n = 0;
+        while (a < aLen || b < bLen) {
+            int j;
+            double v;
+            if (b >= bLen || (a < aLen && aIdx[a] < bIdx[b])) {
+                j = aIdx[a];
+                v = aVal[a++];
+            } else if (a >= aLen || bIdx[b] < aIdx[a]) {
+                j = bIdx[b];
+                v = -factor * bVal[b++];
+                if (v != 0.0 && j != lead) addToColumn(j, i); // 채움(fill-in)
+            } else {
+                j = aIdx[a];
+                double old = aVal[a++];
+                double product = factor * bVal[b++];
+                v = old - product;
+                if (DenseMatrixImpl.cancelled(v, old, product)) v = 0.0;
+            }
+            if (j == lead || v == 0.0) continue;
+            outIdx[n] = j;
+            outVal[n] = v;
+            n++;
+        }
+        // 결과를 행 i의 배열로 옮기고, 작업 배열은 다음 소거에 재사용
+        if (aIdx.length >= n) {
+            System.arraycopy(outIdx, 0, aIdx, 0, n);
+            System.arraycopy(outVal, 0, aVal, 0, n);
+        } else {
+            rowIdx[i] = Arrays.copyOf(outIdx, Math.max(n, aIdx.length * 2));
+            rowVal[i] = Arrays.copyOf(outVal, rowIdx[i].length);
+        }
+        rowLen[i] = n;
+    }
+
+    private void addToColumn(int j, int i) {
+        if (colLen[j] == colRows[j].length) {
+            colRows[j] = Arrays.copyOf(colRows[j], colRows[j].length * 2);
+        }
+        colRows[j][colLen[j]++] = i;
+    }
+}
@@ -0,0 +1,13 @@
+package tensor;
+
+// 행렬 저장소 종류: Factory.buildMatrix(..., StorageType)로 지정하거나 Factory.setDefaultStorageType으로 기본값을 바꾼다.
+// - BIG_DECIMAL : 요소마다 BigDecimal 스칼라 (MatrixImpl). 정밀도 정책을 따르는 십진 연산 (기본값)
+// - DOUBLE      : double[] 행 우선 밀집 저장소 (DenseMatrixImpl). 요소별 객체가 없어 대형 행렬에 적합
+// - RATIONAL    : 요소마다 BigInteger 분수 (MatrixImpl + RationalScalar). rref/inverse/determinant가 정확
+// - SPARSE      : CSR 희소 저장소. 0이 아닌 요소만 저장하므로 메모리가 O(nnz)
+public enum StorageType {
+    BIG_DECIMAL,
+    DOUBLE,
+    RATIONAL,
+    SPARSE
+}
@@ -1,6 +1,104 @@
 package tensor;
 
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
 public class Tensors {
+    // BigDecimal 행렬 곱셈의 정밀도 (기본값 UNLIMITED: 반올림 없는 정확한 곱)
+    private static volatile MathContext multiplyMathContext = MathContext.UNLIMITED;
+
+    public static MathContext getMultiplyMathContext() {
+        return multiplyMathContext;
+    }
+
+    public static void setMultiplyMathContext(MathContext mc) {
+        if (mc == null) throw new IllegalArgumentException("MathContext cannot be null.");
+        multiplyMathContext = mc;
+    }
+
+    // 병렬 연산 설정 (행렬 곱셈, rref/inverse 소거)
+    // 연산량이 parallelThreshold x parallelThreshold 정사각 곱셈 이상이면 ForkJoinPool에서 행 블록 단위로 나눠 실행
+    private static volatile boolean parallel = true;
+    private static volatile int parallelThreshold = 256;
+    private static int parallelism = Runtime.getRuntime().availableProcessors();
+    private static SharedPool sharedPool; // Tensors.class로 보호
+
+    public static boolean isParallel() {
+        return parallel;
+    }
+
+    public static void setParallel(boolean enabled) {
+        parallel = enabled;
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public static void setParallelThreshold(int threshold) {
+        if (threshold <= 0) throw new IllegalArgumentException("Parallel threshold must be positive.");
+        parallelThreshold = threshold;
+    }
+
+    public static synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    // 병렬 작업에 사용할 스레드 수. 바뀌면 다음 병렬 연산부터 새 풀을 사용
+    // 다른 스레드가 병렬 연산 중이어도 호출할 수 있다: 이전 풀은 새 작업을 받지 않게 한 뒤, 실행 중인 연산이 모두 끝나면 shutdown
+    public static synchronized void setParallelism(int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("Parallelism must be positive.");
+        if (threads == parallelism) return;
+        parallelism = threads;
+        SharedPool retired = sharedPool;
+        sharedPool = null;
+        if (retired != null) {
+            retired.retired = true;
+            if (retired.users == 0) retired.pool.shutdown();
+        }
+    }
+
+    // 공유 풀에서 작업을 실행하고 끝날 때까지 대기 (풀은 처음 사용할 때 생성)
+    static void invoke(ForkJoinTask<?> task) {
+        SharedPool shared = acquirePool();
+        try {
+            shared.pool.invoke(task);
+        } finally {
+            releasePool(shared);
+        }
+    }
+
+    private static synchronized SharedPool acquirePool() {
+        if (sharedPool == null) {
+            sharedPool = new SharedPool(new ForkJoinPool(parallelism));
+        }
+        sharedPool.users++;
+        return sharedPool;
+    }
+
+    private static synchronized void releasePool(SharedPool shared) {
+        shared.users--;
+        if (shared.retired && shared.users == 0) shared.pool.shutdown();
+    }
+
+    // 병렬 연산용 풀과 그 풀에서 실행 중인 invoke 수. setParallelism으로 교체된 풀은 마지막 사용자가 끝날 때 shutdown
+    private static final class SharedPool {
+        private final ForkJoinPool pool;
+        private int users;
+        private boolean retired;
+
+        SharedPool(ForkJoinPool pool) {
+            this.pool = pool;
+        }
+    }
+
+    // rows x inner x cols 규모의 연산을 병렬로 실행할지 여부
+    static boolean shouldParallelize(long rows, long inner, long cols) {
+        long threshold = parallelThreshold;
+        return parallel && rows > 1 && rows * inner * cols >= threshold * threshold * threshold;
+    }
 
     // 24. 두 스칼라 덧셈
     static Scalar add(Scalar s1, Scalar s2) {
@@ -32,19 +130,102 @@ public class Tensors {
         return null;
     }
 
-    // 29. 두 행렬 곱셈
+    // 29. 두 행렬 곱셈 (새 행렬 반환)
+    // 두 행렬이 모두 밀집 저장소이면 double 타일 커널, 아니면 BigDecimal(getMultiplyMathContext() 정밀도)로 계산
     public static Matrix multiply(Matrix m1, Matrix m2) {
-        return null;
+        return multiply(m1, m2, multiplyMathContext);
+    }
+
+    // 29. 두 행렬 곱셈 (BigDecimal 정밀도 지정)
+    public static Matrix multiply(Matrix m1, Matrix m2, MathContext mc) {
+        if (m1 == null || m2 == null) throw new IllegalArgumentException("Matrices for multiplication cannot be null.");
+        if (mc == null) throw new IllegalArgumentException("MathContext cannot be null.");
+        return MatrixMultiplier.multiply(m1, m2, mc);
+    }
+
+    // 29. 두 행렬 곱셈 (정밀도 정책의 MathContext 사용)
+    public static Matrix multiply(Matrix m1, Matrix m2, PrecisionPolicy policy) {
+        if (policy == null) throw new IllegalArgumentException("Precision policy cannot be null.");
+        return multiply(m1, m2, policy.getMathContext());
+    }
+
+    // 정밀도 정책을 지정한 rref/inverse/determinant (BigDecimal 저장소 행렬에 적용, 그 외 저장소는 자체 정밀도로 계산)
+    public static Matrix rref(Matrix m, PrecisionPolicy policy) {
+        checkPolicyArgs(m, policy);
+        MatrixImpl decimal = decimalStorage(m);
+        return (decimal != null) ? decimal.rref(policy) : m.rref();
+    }
+
+    public static Matrix inverse(Matrix m, PrecisionPolicy policy) {
+        checkPolicyArgs(m, policy);
+        MatrixImpl decimal = decimalStorage(m);
+        return (decimal != null) ? decimal.inverse(policy) : m.inverse();
+    }
+
+    public static Scalar determinant(Matrix m, PrecisionPolicy policy) {
+        checkPolicyArgs(m, policy);
+        MatrixImpl decimal = decimalStorage(m);
+        return (decimal != null) ? decimal.determinant(policy) : m.determinant();
+    }
+
+    // BigDecimal 저장소 행렬 (부분 행렬 뷰는 복사본, 합친 행렬 뷰는 그 저장소로), 그 외 저장소는 null
+    private static MatrixImpl decimalStorage(Matrix m) {
+        if (m instanceof SliceView) return ((SliceView) m).readable();
+        if (m instanceof ConcatView) m = ((ConcatView) m).storage();
+        return (m instanceof MatrixImpl) ? (MatrixImpl) m : null;
+    }
+
+    private static void checkPolicyArgs(Matrix m, PrecisionPolicy policy) {
+        if (m == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        if (policy == null) throw new IllegalArgumentException("Precision policy cannot be null.");
+    }
+
+    // 요소당 평균 유효 자릿수 (BigDecimal은 unscaled 값의 자릿수, RationalScalar는 분자+분모 자릿수)
+    // rref/inverse 같은 긴 소거에서 BigDecimal 자릿수가 늘어나는지 관찰하는 지표
+    public static double averageDigits(Matrix m) {
+        if (m == null) throw new IllegalArgumentException("Matrix cannot be null.");
+        int[] size = m.getSize();
+        long count = (long) size[0] * size[1];
+        if (count == 0) return 0.0;
+        long digits = 0;
+        for (int i = 0; i < size[0]; i++) {
+            for (int j = 0; j < size[1]; j++) {
+                Scalar element = (m instanceof MatrixImpl) ? ((MatrixImpl) m).elementAt(i, j) : m.viewElement(i, j);
+                digits += digits(element);
+            }
+        }
+        return (double) digits / count;
     }
 
-    // 32. static 가로 합치기
+    private static int digits(Scalar element) {
+        if (element instanceof RationalScalar) {
+            RationalScalar rational = (RationalScalar) element;
+            int numeratorDigits = rational.numerator().abs().toString().length();
+            return rational.denominator().equals(BigInteger.ONE) ? numeratorDigits : numeratorDigits + rational.denominator().toString().length();
+        }
+        return element.getValue().precision();
+    }
+
+    // 32. static 가로 합치기 (요소를 복사하지 않는 지연 뷰, concat(1, m1, m2)와 같음)
     public static Matrix hstack(Matrix m1, Matrix m2) {
-        return null;
+        if (m1 == null || m2 == null) throw new IllegalArgumentException("Matrices for hstack cannot be null.");
+        return concat(1, m1, m2);
     }
 
-    // 33. static 세로 합치기
+    // 33. static 세로 합치기 (요소를 복사하지 않는 지연 뷰, concat(0, m1, m2)와 같음)
     public static Matrix vstack(Matrix m1, Matrix m2) {
-        return null;
+        if (m1 == null || m2 == null) throw new IllegalArgumentException("Matrices for vstack cannot be null.");
+        return concat(0, m1, m2);
+    }
+
+    // N개 행렬 합치기: axis 0은 세로(vstack), 1은 가로(hstack)
+    // 블록을 이어 붙인 지연 뷰(ConcatView)를 반환하고, 요소는 rref/inverse 등 전체 연산 때 한 번에 크기를 잡은 저장소로 복사된다.
+    // 같은 방향으로 합친 결과를 다시 합치면 블록 목록만 이어 받으므로, 두 개씩 반복해 합쳐도 요소 복사가 누적되지 않는다.
+    // 합친 뒤 입력 행렬을 바꿔도 결과는 바뀌지 않고, 결과를 바꿔도 입력 행렬은 바뀌지 않는다.
+    public static Matrix concat(int axis, Matrix... blocks) {
+        if (axis != 0 && axis != 1) throw new IllegalArgumentException("Axis must be 0 (vertical) or 1 (horizontal): " + axis);
+        if (blocks == null || blocks.length == 0) throw new IllegalArgumentException("At least one matrix is required for concat.");
+        return ConcatView.of(axis == 0, blocks);
     }
 
     // 아래는 헬퍼 함수들
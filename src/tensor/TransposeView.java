@@ -0,0 +1,292 @@
+package tensor;
+
+import java.util.List;
+
+// 전치 뷰: 원본 행렬의 (j, i) 요소를 (i, j)로 보여 준다 (Matrix.transposeView()로 생성)
+// 요소 조회/지정과 행/열 연산은 행과 열을 바꿔 원본에 그대로 위임하므로 복사가 없고, 변경은 원본에 반영된다.
+// rref/inverse처럼 새 행렬을 만드는 연산은 materialize()한 뒤 계산한다.
+// MatrixMultiplier는 전치 뷰를 인식해 원본 저장소를 전치된 순서로 직접 읽는다.
+final class TransposeView implements MatrixView {
+    private final Matrix source;
+
+    TransposeView(Matrix source) {
+        if (source == null) throw new IllegalArgumentException("Source matrix cannot be null.");
+        this.source = source;
+    }
+
+    // 전치되기 전의 원본 행렬 (곱셈 커널 등 내부용)
+    Matrix source() {
+        return source;
+    }
+
+    @Override
+    public Matrix materialize() {
+        return source.transpose();
+    }
+
+    @Override
+    public Matrix transposeView() {
+        return source;
+    }
+
+    // 행 Vector 객체가 따로 없으므로 materialize()한 행렬의 행 목록을 반환 (변경해도 뷰에 반영되지 않음)
+    @Override
+    public List<Vector> getVectors() {
+        return materialize().getVectors();
+    }
+
+    // 11m. 특정 위치 요소 지정 (원본의 (colIndex, rowIndex))
+    @Override
+    public void setElement(int rowIndex, int colIndex, Scalar value) {
+        checkIndex(rowIndex, colIndex);
+        source.setElement(colIndex, rowIndex, value);
+    }
+
+    // 11m. 특정 위치 요소 조회 (원본의 (colIndex, rowIndex))
+    @Override
+    public Scalar viewElement(int rowIndex, int colIndex) {
+        checkIndex(rowIndex, colIndex);
+        return source.viewElement(colIndex, rowIndex);
+    }
+
+    private void checkIndex(int rowIndex, int colIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount() || colIndex < 0 || colIndex >= colCount()) {
+            throw new IndexOutOfBoundsException("Index (" + rowIndex + "," + colIndex + ") is out of bounds for matrix size " + rowCount() + "x" + colCount());
+        }
+    }
+
+    // 13. 행렬 크기 조회
+    @Override
+    public int[] getSize() {
+        return new int[]{rowCount(), colCount()};
+    }
+
+    @Override
+    public int rowCount() {
+        return source.colCount();
+    }
+
+    @Override
+    public int colCount() {
+        return source.rowCount();
+    }
+
+    // 14m. 객체를 콘솔에 출력 (원본 저장소의 출력 형식)
+    @Override
+    public String toString() {
+        return materialize().toString();
+    }
+
+    // 15m. 객체의 동등성 판단 (MatrixImpl과 같은 규칙)
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || !(obj instanceof Matrix)) return false;
+        Matrix other = (Matrix) obj;
+        if (other instanceof TransposeView) return source.equals(((TransposeView) other).source);
+        int numRows = rowCount();
+        int numCols = colCount();
+        if (numRows != other.rowCount() || numCols != other.colCount()) return false;
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                if (!viewElement(i, j).equals(other.viewElement(i, j))) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // MatrixImpl.hashCode와 같은 방식 (값이 같은 행렬은 구현과 무관하게 같은 해시)
+        int numRows = rowCount();
+        int numCols = colCount();
+        int result = 1;
+        result = 31 * result + numRows;
+        result = 31 * result + numCols;
+        for (int i = 0; i < numRows; i++) {
+            for (int j = 0; j < numCols; j++) {
+                result = 31 * result + source.viewElement(j, i).hashCode();
+            }
+        }
+        return result;
+    }
+
+    // 17m. 객체 복제: 원본과 독립된 전치 행렬
+    @Override
+    public Matrix clone() {
+        return materialize();
+    }
+
+    // 22. 행렬 덧셈 (non-static, modifies self): 원본 += other^T
+    @Override
+    public Matrix add(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        if (rowCount() != other.rowCount() || colCount() != other.colCount()) {
+            throw new DimensionMismatchException("Matrices must have the same dimensions for addition. Self: "
+                    + rowCount() + "x" + colCount() + ", Other: " + other.rowCount() + "x" + other.colCount());
+        }
+        source.add(other.transposeView());
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = other * this): (other * S^T)^T = S * other^T
+    @Override
+    public Matrix multiplyLeft(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        source.multiplyRight(other.transposeView());
+        return this;
+    }
+
+    // 23. 행렬 곱셈 (this = this * other): (S^T * other)^T = other^T * S
+    @Override
+    public Matrix multiplyRight(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix cannot be null.");
+        source.multiplyLeft(other.transposeView());
+        return this;
+    }
+
+    // 32. 가로 합치기 (새 행렬 반환)
+    @Override
+    public Matrix hstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for hstack cannot be null.");
+        return Tensors.hstack(this, other);
+    }
+
+    // 33. 세로 합치기 (새 행렬 반환)
+    @Override
+    public Matrix vstack(Matrix other) {
+        if (other == null) throw new IllegalArgumentException("Other matrix for vstack cannot be null.");
+        return Tensors.vstack(this, other);
+    }
+
+    // 34. 특정 행 = 원본의 열
+    @Override
+    public Vector getRow(int rowIndex) {
+        return source.getCol(rowIndex);
+    }
+
+    // 35. 특정 열 = 원본의 행
+    @Override
+    public Vector getCol(int colIndex) {
+        return source.getRow(colIndex);
+    }
+
+    // 36. 부분 행렬 = 원본의 전치된 범위의 전치 뷰
+    @Override
+    public Matrix subMatrix(int startRow, int endRow, int startCol, int endCol) {
+        return source.subMatrix(startCol, endCol, startRow, endRow).transposeView();
+    }
+
+    // 37. minor = 원본의 (excludeColIndex, excludeRowIndex) minor의 전치 뷰
+    @Override
+    public Matrix minor(int excludeRowIndex, int excludeColIndex) {
+        return source.minor(excludeColIndex, excludeRowIndex).transposeView();
+    }
+
+    // 38. 전치행렬 = 원본의 복사본
+    @Override
+    public Matrix transpose() {
+        return source.clone();
+    }
+
+    // 39. 대각 요소의 합 (전치와 무관)
+    @Override
+    public Scalar trace() {
+        return source.trace();
+    }
+
+    // 40. 정사각 행렬 여부
+    @Override
+    public boolean isSquare() {
+        return source.isSquare();
+    }
+
+    // 41. 상삼각 = 원본이 하삼각
+    @Override
+    public boolean isUpperTriangular() {
+        return source.isLowerTriangular();
+    }
+
+    // 42. 하삼각 = 원본이 상삼각
+    @Override
+    public boolean isLowerTriangular() {
+        return source.isUpperTriangular();
+    }
+
+    // 43. 단위 행렬
+    @Override
+    public boolean isIdentity() {
+        return source.isIdentity();
+    }
+
+    // 44. 영 행렬
+    @Override
+    public boolean isZeroMatrix() {
+        return source.isZeroMatrix();
+    }
+
+    // 45. 행 교환 = 원본의 열 교환
+    @Override
+    public void swapRows(int rowIndex1, int rowIndex2) {
+        source.swapCols(rowIndex1, rowIndex2);
+    }
+
+    // 46. 열 교환 = 원본의 행 교환
+    @Override
+    public void swapCols(int colIndex1, int colIndex2) {
+        source.swapRows(colIndex1, colIndex2);
+    }
+
+    // 47. 행 상수배 = 원본의 열 상수배
+    @Override
+    public void multiplyRow(int rowIndex, Scalar scalar) {
+        source.multiplyCol(rowIndex, scalar);
+    }
+
+    // 48. 열 상수배 = 원본의 행 상수배
+    @Override
+    public void multiplyCol(int colIndex, Scalar scalar) {
+        source.multiplyRow(colIndex, scalar);
+    }
+
+    // 49. targetRow += scalar * sourceRow = 원본의 열 연산
+    @Override
+    public void addScaledRow(int targetRowIndex, int sourceRowIndex, Scalar scalar) {
+        source.addScaledCol(targetRowIndex, sourceRowIndex, scalar);
+    }
+
+    // 50. targetCol += scalar * sourceCol = 원본의 행 연산
+    @Override
+    public void addScaledCol(int targetColIndex, int sourceColIndex, Scalar scalar) {
+        source.addScaledRow(targetColIndex, sourceColIndex, scalar);
+    }
+
+    // 51. RREF (새 행렬 반환)
+    @Override
+    public Matrix rref() {
+        return materialize().rref();
+    }
+
+    // 52. RREF 여부
+    @Override
+    public boolean isRREF() {
+        return materialize().isRREF();
+    }
+
+    // 53. 행렬식 (det(A^T) = det(A))
+    @Override
+    public Scalar determinant() {
+        return source.determinant();
+    }
+
+    @Override
+    public Scalar exactDeterminant() {
+        return source.exactDeterminant();
+    }
+
+    // 54. 역행렬 (새 행렬 반환)
+    @Override
+    public Matrix inverse() {
+        return materialize().inverse();
+    }
+}
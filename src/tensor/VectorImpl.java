@@ -9,10 +9,14 @@ import java.util.stream.Collectors;
 public class VectorImpl implements Vector {
     private List<Scalar> vector; // final 제거하여 내부 요소 변경 및 연산 결과 반영 가능하게 함
 
-    // 03
+    // 03: 값(BigDecimal, 불변)은 한 번만 변환해 공유하고, 스칼라는 요소마다 따로 생성 (add/multiply가 요소를 변경하므로 공유 불가)
     VectorImpl(int nn, double dd) {
         if (nn <= 0) throw new IllegalArgumentException("Vector dimension nn must be positive.");
-        this.vector = new ArrayList<>(Collections.nCopies(nn, Factory.buildScalar(Double.toString(dd))));
+        BigDecimal value = ScalarImpl.decimalOf(dd);
+        this.vector = new ArrayList<>(nn);
+        for (int i = 0; i < nn; i++) {
+            this.vector.add(new ScalarImpl(value));
+        }
     }
 
     // 04
@@ -26,10 +30,18 @@ public class VectorImpl implements Vector {
 
     // 05
     VectorImpl(double[] arr) {
-        if (arr == null || arr.length == 0) throw new IllegalArgumentException("Input array cannot be null or empty.");
-        this.vector = new ArrayList<>(arr.length);
-        for (double val : arr) {
-            this.vector.add(Factory.buildScalar(Double.toString(val)));
+        this(arr, 0, arr == null ? 0 : arr.length);
+    }
+
+    // arr[offset, offset + length) 구간으로 생성 (행 우선 배열의 한 행 등). 문자열 변환 없이 double을 바로 BigDecimal로
+    VectorImpl(double[] arr, int offset, int length) {
+        if (arr == null || length <= 0) throw new IllegalArgumentException("Input array cannot be null or empty.");
+        if (offset < 0 || offset > arr.length - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length) + ") is out of bounds for array length " + arr.length);
+        }
+        this.vector = new ArrayList<>(length);
+        for (int i = offset; i < offset + length; i++) {
+            this.vector.add(new ScalarImpl(ScalarImpl.decimalOf(arr[i])));
         }
     }
 
@@ -46,6 +58,19 @@ public class VectorImpl implements Vector {
     }
 
 
+    private VectorImpl() {
+    }
+
+    // 내부용: 주어진 리스트를 복사 없이 그대로 저장소로 사용 (요소는 다른 곳에서 참조하지 않는 새 스칼라여야 함)
+    static VectorImpl wrap(List<Scalar> scalars) {
+        if (scalars == null || scalars.isEmpty()) {
+            throw new IllegalArgumentException("Scalar list cannot be null or empty for VectorImpl construction.");
+        }
+        VectorImpl wrapped = new VectorImpl();
+        wrapped.vector = scalars;
+        return wrapped;
+    }
+
     @Override
     public List<Scalar> getScalars() { // getVector에서 변경
         // Defensive copy to prevent external modification of internal list
@@ -0,0 +1,130 @@
+package test;
+
+import tensor.*;
+import java.math.BigDecimal;
+
+// rref/inverse 소거의 회귀 검사: 크기가 크게 다른 행/열이 섞인 행렬에서 계수를 잃지 않는지,
+// 반올림 오차만 남은 특이 행렬은 여전히 특이로 판별하는지, Tensors에 넘긴 정책을 따르는지 확인한다.
+// 앞의 두 검사는 BigDecimal, double, 희소(CSR/CSC) 저장소에서 모두 실행한다.
+// 실패가 있으면 종료 코드 1
+public class EliminationCheck {
+    private static final StorageType[] STORAGE_TYPES = {StorageType.BIG_DECIMAL, StorageType.DOUBLE, StorageType.SPARSE};
+    private static int failures = 0;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            failures++;
+            System.out.println("FAIL: " + message);
+        }
+    }
+
+    private static Matrix matrix(String[][] values) {
+        Scalar[][] data = new Scalar[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            data[i] = new Scalar[values[i].length];
+            for (int j = 0; j < values[i].length; j++) {
+                data[i][j] = Factory.buildScalar(values[i][j]);
+            }
+        }
+        return Factory.buildMatrix(data);
+    }
+
+    private static Matrix matrix(String[][] values, StorageType type) {
+        return Factory.buildMatrix(matrix(values), type);
+    }
+
+    public static void main(String[] args) {
+        testBadlyScaledFullRank();
+        testRoundingResidueIsSingular();
+        testPolicyPassedToTensors();
+
+        System.out.println(failures == 0 ? "EliminationCheck: all checks passed" : "EliminationCheck: " + failures + " failure(s)");
+        if (failures > 0) System.exit(1);
+    }
+
+    // 정칙 행렬의 rref는 단위 행렬, A * A^-1도 단위 행렬 (요소 크기와 무관)
+    private static void testBadlyScaledFullRank() {
+        String[][][] cases = {
+                {{"100000000", "5"}, {"3", "7"}},
+                {{"100000000", "1"}, {"1", "0.001"}},
+                {{"0.000000001", "0"}, {"0", "0.000000001"}},
+                {{"0.00000001", "0"}, {"0", "1"}},
+                {{"1E-12", "3", "0"}, {"2", "0", "1E+9"}, {"0", "1E-6", "5"}},
+                {{"1E+12", "0"}, {"0", "1"}},
+                {{"1E-11", "0"}, {"0", "1E-11"}},
+                {{"1E+12", "1"}, {"1", "1"}},
+                {{"1E-20", "1E-20"}, {"1", "2"}},
+        };
+        for (StorageType type : STORAGE_TYPES) {
+            for (String[][] values : cases) {
+                checkFullRank(matrix(values, type), type.toString());
+            }
+        }
+        for (String[][] values : cases) {
+            checkFullRank(Factory.buildCscMatrix(matrix(values)), "CSC");
+        }
+    }
+
+    private static void checkFullRank(Matrix m, String storage) {
+        String name = storage + " " + m.toString().replace("\n", "");
+        check(m.rref().isIdentity(), "rref of full-rank " + name + " should be identity but was " + m.rref());
+        Matrix product;
+        try {
+            product = Tensors.multiply(m, m.inverse());
+        } catch (SingularMatrixException e) {
+            check(false, "inverse of full-rank " + name + " threw " + e.getMessage());
+            return;
+        }
+        for (int i = 0; i < product.rowCount(); i++) {
+            for (int j = 0; j < product.colCount(); j++) {
+                BigDecimal expected = (i == j) ? BigDecimal.ONE : BigDecimal.ZERO;
+                BigDecimal error = product.viewElement(i, j).getValue().subtract(expected).abs();
+                check(error.compareTo(new BigDecimal("1E-9")) < 0, "A * A^-1 of " + name + " at (" + i + "," + j + ") is off by " + error);
+            }
+        }
+    }
+
+    // 나눗셈 반올림 오차만 남는 특이 행렬: 둘째 행은 정확히 0, inverse는 SingularMatrixException
+    private static void testRoundingResidueIsSingular() {
+        String[][][] cases = {
+                {{"3", "1"}, {"3", "1"}},
+                {{"7", "1"}, {"1", "0.142857142857142857"}},
+                {{"1E+8", "3E+8"}, {"1E-8", "3E-8"}},
+        };
+        for (StorageType type : STORAGE_TYPES) {
+            for (String[][] values : cases) {
+                checkSingular(matrix(values, type), type.toString());
+            }
+        }
+        for (String[][] values : cases) {
+            checkSingular(Factory.buildCscMatrix(matrix(values)), "CSC");
+        }
+    }
+
+    private static void checkSingular(Matrix m, String storage) {
+        Matrix r = m.rref();
+        check(r.isRREF(), storage + " rref of " + m.toString().replace("\n", "") + " should satisfy isRREF");
+        check(r.viewElement(1, 0).getValue().signum() == 0 && r.viewElement(1, 1).getValue().signum() == 0,
+                storage + " rref of singular " + m.toString().replace("\n", "") + " should have a zero second row but was " + r);
+        try {
+            m.inverse();
+            check(false, storage + " inverse of singular " + m.toString().replace("\n", "") + " should throw");
+        } catch (SingularMatrixException expected) {
+            // 예상된 예외
+        }
+    }
+
+    // Tensors.rref에 넘긴 정책이 전역 정책보다 우선: 전역 zeroTolerance가 커도 1.0001 피벗은 1로 나눠져야 함
+    private static void testPolicyPassedToTensors() {
+        PrecisionPolicy global = Factory.getPrecisionPolicy();
+        try {
+            Factory.setPrecisionPolicy(PrecisionPolicy.DEFAULT.withZeroTolerance(new BigDecimal("0.001")));
+            Matrix m = matrix(new String[][]{{"1.0001", "2"}, {"0", "1"}});
+            Matrix r = Tensors.rref(m, PrecisionPolicy.DEFAULT);
+            check(r.viewElement(0, 0).getValue().compareTo(BigDecimal.ONE) == 0 && r.viewElement(0, 1).getValue().signum() == 0,
+                    "Tensors.rref with an exact policy should fully reduce the 1.0001 pivot but was " + r);
+        } finally {
+            Factory.setPrecisionPolicy(global);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package test;
+
+import tensor.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+
+// CSV와 바이너리 행렬 파일(Factory.writeMatrixFile/buildMappedMatrix)을 쓰고 다시 읽었을 때 같은 행렬인지 검사 (시간 측정 없음)
+// 실패가 있으면 종료 코드 1
+public class FileRoundTripCheck {
+    private static int failures = 0;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            failures++;
+            System.out.println("FAIL: " + message);
+        }
+    }
+
+    private static final String[][] VALUES = {
+            {"1", "-2.5", "0", "3.25"},
+            {"0", "0", "1E-7", "-4"},
+            {"123456.789", "0.1", "-0.001", "0"},
+    };
+
+    public static void main(String[] args) throws IOException {
+        File dir = createTempDir();
+        try {
+            testCsv(dir);
+            testMatrixFile(dir);
+            testRewriteMappedSource(dir);
+        } finally {
+            File[] files = dir.listFiles();
+            if (files != null) {
+                for (File f : files) f.delete();
+            }
+            dir.delete();
+        }
+
+        System.out.println(failures == 0 ? "FileRoundTripCheck: all checks passed" : "FileRoundTripCheck: " + failures + " failure(s)");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static File createTempDir() throws IOException {
+        File dir = File.createTempFile("rref-check", "");
+        if (!dir.delete() || !dir.mkdir()) throw new IOException("Cannot create " + dir);
+        return dir;
+    }
+
+    private static boolean sameValues(Matrix m, String[][] values) {
+        if (m.rowCount() != values.length || m.colCount() != values[0].length) return false;
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values[i].length; j++) {
+                if (m.viewElement(i, j).getValue().compareTo(new BigDecimal(values[i][j])) != 0) return false;
+            }
+        }
+        return true;
+    }
+
+    // 모든 저장소에서 읽은 값이 파일의 값과 같고, 잘못된 파일은 CsvParseException
+    private static void testCsv(File dir) throws IOException {
+        File csv = new File(dir, "m.csv");
+        try (PrintWriter out = new PrintWriter(csv, "UTF-8")) {
+            for (String[] row : VALUES) out.println(String.join(",", row));
+        }
+        for (StorageType type : StorageType.values()) {
+            Matrix m = Factory.buildMatrix(csv.getPath(), type);
+            check(sameValues(m, VALUES), type + " CSV load differs from the file:\n" + m);
+        }
+        check(sameValues(Factory.buildDenseMatrix(csv.getPath()), VALUES), "buildDenseMatrix CSV load differs from the file");
+
+        File ragged = new File(dir, "ragged.csv");
+        try (PrintWriter out = new PrintWriter(ragged, "UTF-8")) {
+            out.println("1,2,3");
+            out.println("4,5");
+        }
+        for (StorageType type : StorageType.values()) {
+            try {
+                Factory.buildMatrix(ragged.getPath(), type);
+                check(false, type + " CSV with inconsistent columns should throw");
+            } catch (CsvParseException expected) {
+                // 예상된 예외
+            }
+        }
+        // BigDecimal 형식이 아닌 값은 모든 저장소에서, double 범위를 넘는 값(1e400)은 double/희소 저장소에서 거부
+        // (double 저장소는 줄과 열 번호를 알려줌)
+        String[] invalid = {"NaN", "-Infinity", "1d", "2f", "0x1p3", "1e400", "1e", "-", "1.2.3"};
+        File bad = new File(dir, "bad.csv");
+        for (String value : invalid) {
+            try (PrintWriter out = new PrintWriter(bad, "UTF-8")) {
+                out.println("1,2,3");
+                out.println("4,5," + value);
+            }
+            for (StorageType type : StorageType.values()) {
+                boolean doubleBacked = type == StorageType.DOUBLE || type == StorageType.SPARSE;
+                if (value.equals("1e400") && !doubleBacked) continue;
+                try {
+                    Factory.buildMatrix(bad.getPath(), type);
+                    check(false, type + " CSV value '" + value + "' should be rejected");
+                } catch (CsvParseException expected) {
+                    if (type == StorageType.DOUBLE) {
+                        check(expected.getMessage().contains("line 2, column 3"), "error for '" + value + "' should name its position: " + expected.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    // 바이너리 파일은 double 정밀도로 저장: double 행렬은 그대로, 다시 쓴 파일도 같은 값
+    private static void testMatrixFile(File dir) {
+        for (StorageType type : StorageType.values()) {
+            Matrix m = Factory.buildRandomMatrix(6, 5, -100, 100, 7L, type);
+            File file = new File(dir, "m-" + type + ".bin");
+            Factory.writeMatrixFile(m, file.getPath());
+            Matrix mapped = Factory.buildMappedMatrix(file.getPath());
+            check(mapped.rowCount() == 6 && mapped.colCount() == 5, type + " mapped size is " + mapped.rowCount() + "x" + mapped.colCount());
+            boolean same = true;
+            for (int i = 0; i < 6; i++) {
+                for (int j = 0; j < 5; j++) {
+                    double expected = m.viewElement(i, j).getValue().doubleValue();
+                    same &= mapped.viewElement(i, j).getValue().doubleValue() == expected;
+                }
+            }
+            check(same, type + " mapped matrix differs from the written matrix");
+
+            File copy = new File(dir, "copy-" + type + ".bin");
+            Factory.writeMatrixFile(mapped, copy.getPath());
+            check(Factory.buildMappedMatrix(copy.getPath()).equals(mapped), type + " rewriting a mapped matrix changed its values");
+        }
+
+        File csvLike = new File(dir, "m.csv");
+        try {
+            Factory.buildMappedMatrix(csvLike.getPath());
+            check(false, "opening a non-matrix file should throw MatrixFileException");
+        } catch (MatrixFileException expected) {
+            // 예상된 예외
+        }
+    }
+
+    // 매핑한 파일에 그 행렬을 다시 써도 파일과 매핑된 행렬의 값이 그대로이고, 임시 파일이 남지 않음
+    private static void testRewriteMappedSource(File dir) {
+        File file = new File(dir, "self.bin");
+        Matrix original = Factory.buildMatrix(new double[][]{{1, 2}, {3, 4}}, StorageType.DOUBLE);
+        Factory.writeMatrixFile(original, file.getPath());
+        Matrix mapped = Factory.buildMappedMatrix(file.getPath());
+        Factory.writeMatrixFile(mapped, file.getPath());
+        check(mapped.equals(original), "rewriting a mapped matrix onto its own file changed the live matrix: " + mapped);
+        check(Factory.buildMappedMatrix(file.getPath()).equals(original), "rewriting a mapped matrix onto its own file lost its data");
+        String[] names = dir.list();
+        boolean leftover = false;
+        for (String name : names != null ? names : new String[0]) {
+            leftover |= name.endsWith(".tmp");
+        }
+        check(!leftover, "writeMatrixFile left a temporary file behind");
+    }
+}
@@ -0,0 +1,138 @@
+package test;
+
+import tensor.*;
+import java.math.BigDecimal;
+
+// 저장소 종류별 계산 결과가 서로 맞는지 검사 (시간 측정 없음):
+// LU 행렬식과 Bareiss 정확 행렬식, 가우스-조던 역행렬(A * A^-1 = I), 희소 rref와 밀집 rref,
+// 공개 API가 돌려주는 스칼라가 "자신을 바꾸는" Scalar 계약을 지키는지.
+// 실패가 있으면 종료 코드 1
+public class LinearAlgebraCheck {
+    private static final BigDecimal TOLERANCE = new BigDecimal("1E-9");
+    private static int failures = 0;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            failures++;
+            System.out.println("FAIL: " + message);
+        }
+    }
+
+    // 상대 오차 (기준값이 0이면 절대 오차)
+    private static boolean close(BigDecimal actual, BigDecimal expected) {
+        BigDecimal error = actual.subtract(expected).abs();
+        BigDecimal scale = expected.abs().max(BigDecimal.ONE);
+        return error.compareTo(TOLERANCE.multiply(scale)) <= 0;
+    }
+
+    private static boolean close(Matrix actual, Matrix expected) {
+        if (actual.rowCount() != expected.rowCount() || actual.colCount() != expected.colCount()) return false;
+        for (int i = 0; i < actual.rowCount(); i++) {
+            for (int j = 0; j < actual.colCount(); j++) {
+                if (!close(actual.viewElement(i, j).getValue(), expected.viewElement(i, j).getValue())) return false;
+            }
+        }
+        return true;
+    }
+
+    // 0이 많은 정수 행렬 (희소 저장소에서도 의미 있는 크기)
+    private static double[][] sparseValues(int rows, int cols, long seed) {
+        java.util.Random random = new java.util.Random(seed);
+        double[][] values = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (i == j || random.nextInt(3) == 0) values[i][j] = random.nextInt(19) - 9;
+            }
+        }
+        return values;
+    }
+
+    public static void main(String[] args) {
+        testDeterminantAgreesWithExact();
+        testInverse();
+        testSparseRrefMatchesDense();
+        testScalarsAreMutable();
+
+        System.out.println(failures == 0 ? "LinearAlgebraCheck: all checks passed" : "LinearAlgebraCheck: " + failures + " failure(s)");
+        if (failures > 0) System.exit(1);
+    }
+
+    // determinant()(LU 또는 소거)와 exactDeterminant()(Bareiss)가 같은 값
+    private static void testDeterminantAgreesWithExact() {
+        for (StorageType type : StorageType.values()) {
+            for (int n = 1; n <= 8; n++) {
+                Matrix m = Factory.buildRandomMatrix(n, n, -9, 9, 100L + n, type);
+                BigDecimal exact = m.exactDeterminant().getValue();
+                BigDecimal det = m.determinant().getValue();
+                check(close(det, exact), type + " " + n + "x" + n + " determinant " + det + " but exact " + exact);
+            }
+            double[][] singular = {{1, 2, 3}, {4, 5, 6}, {7, 8, 9}};
+            Matrix s = Factory.buildMatrix(singular, type);
+            check(s.exactDeterminant().getValue().signum() == 0, type + " exact determinant of a singular matrix should be 0");
+            check(close(s.determinant().getValue(), BigDecimal.ZERO), type + " determinant of a singular matrix was " + s.determinant());
+        }
+    }
+
+    // A * A^-1 = I, 원본은 그대로, 특이 행렬은 SingularMatrixException
+    private static void testInverse() {
+        for (StorageType type : StorageType.values()) {
+            for (int n : new int[]{1, 2, 5, 9}) {
+                Matrix m = Factory.buildRandomMatrix(n, n, -9, 9, 200L + n, type);
+                if (m.exactDeterminant().getValue().signum() == 0) continue;
+                Matrix before = m.clone();
+                Matrix inverse = m.inverse();
+                check(close(Tensors.multiply(m, inverse), Factory.buildMatrix(n)), type + " " + n + "x" + n + " A * A^-1 is not the identity");
+                check(close(Tensors.multiply(inverse, m), Factory.buildMatrix(n)), type + " " + n + "x" + n + " A^-1 * A is not the identity");
+                check(m.equals(before), type + " inverse() changed its input");
+            }
+            try {
+                Factory.buildMatrix(new double[][]{{1, 2}, {2, 4}}, type).inverse();
+                check(false, type + " inverse of a singular matrix should throw");
+            } catch (SingularMatrixException expected) {
+                // 예상된 예외
+            }
+        }
+    }
+
+    // CSR/CSC/SPARSE의 rref는 같은 값의 밀집 행렬 rref와 같음 (계수가 부족한 경우 포함)
+    private static void testSparseRrefMatchesDense() {
+        for (long seed = 1; seed <= 6; seed++) {
+            double[][] values = sparseValues(7, 9, seed);
+            if (seed % 2 == 0) values[5] = values[1].clone(); // 계수 부족
+            Matrix dense = Factory.buildMatrix(values, StorageType.BIG_DECIMAL).rref();
+            Matrix[] sparse = {
+                    Factory.buildMatrix(values, StorageType.SPARSE),
+                    Factory.buildCsrMatrix(values),
+                    Factory.buildCscMatrix(values),
+            };
+            for (Matrix m : sparse) {
+                Matrix r = m.rref();
+                check(r.isRREF(), "sparse rref of seed " + seed + " is not in RREF");
+                check(close(r, dense), m.getClass().getSimpleName() + " rref of seed " + seed + " differs from dense rref:\n" + r + "\nexpected\n" + dense);
+            }
+            check(close(Factory.buildMatrix(values, StorageType.DOUBLE).rref(), dense), "double rref of seed " + seed + " differs from BigDecimal rref");
+        }
+    }
+
+    // 공개 API로 받은 스칼라는 add/multiply가 자신을 바꾸고, 바꿔도 원래 행렬에는 영향이 없음
+    private static void testScalarsAreMutable() {
+        Scalar two = Factory.buildScalar("2");
+        for (StorageType type : StorageType.values()) {
+            Matrix m = Factory.buildMatrix(new double[][]{{0, 1}, {-1, 0}}, type);
+            Scalar[] scalars = {
+                    m.viewElement(0, 0),
+                    m.viewElement(0, 1),
+                    m.determinant(),
+                    Factory.buildMatrix(2).viewElement(0, 0),
+                    Factory.buildScalar("0", type),
+            };
+            for (Scalar s : scalars) {
+                BigDecimal expected = s.getValue().add(BigDecimal.valueOf(2)).multiply(BigDecimal.valueOf(2));
+                s.add(two);
+                s.multiply(two);
+                check(s.getValue().compareTo(expected) == 0, type + " scalar " + s.getClass().getSimpleName() + " did not modify itself: " + s);
+            }
+            check(m.equals(Factory.buildMatrix(new double[][]{{0, 1}, {-1, 0}}, type)), type + " modifying returned scalars changed the matrix");
+        }
+    }
+}
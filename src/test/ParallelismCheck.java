@@ -0,0 +1,77 @@
+package test;
+
+import tensor.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 다른 스레드가 병렬 곱셈/rref를 실행하는 동안 Tensors.setParallelism을 바꿔도 작업이 거부되지 않고 결과가 같은지 검사
+// 실패가 있으면 종료 코드 1
+public class ParallelismCheck {
+    private static int failures = 0;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            failures++;
+            System.out.println("FAIL: " + message);
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int threshold = Tensors.getParallelThreshold();
+        int parallelism = Tensors.getParallelism();
+        boolean parallel = Tensors.isParallel();
+        Tensors.setParallel(true);
+        Tensors.setParallelThreshold(8);
+        try {
+            testSetParallelismDuringWork();
+        } finally {
+            Tensors.setParallelThreshold(threshold);
+            Tensors.setParallelism(parallelism);
+            Tensors.setParallel(parallel);
+        }
+
+        System.out.println(failures == 0 ? "ParallelismCheck: all checks passed" : "ParallelismCheck: " + failures + " failure(s)");
+        if (failures > 0) System.exit(1);
+    }
+
+    private static void testSetParallelismDuringWork() throws InterruptedException {
+        Matrix a = Factory.buildRandomMatrix(48, 48, -9, 9, 1L, StorageType.DOUBLE);
+        Matrix b = Factory.buildRandomMatrix(48, 48, -9, 9, 2L, StorageType.DOUBLE);
+        Matrix exact = Factory.buildRandomMatrix(24, 24, -9, 9, 3L, StorageType.BIG_DECIMAL);
+        Matrix expectedProduct = Tensors.multiply(a, b);
+        Matrix expectedExact = Tensors.multiply(exact, exact);
+        Matrix expectedRref = a.rref();
+
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger wrong = new AtomicInteger();
+        List<Thread> workers = new ArrayList<>();
+        long deadline = System.nanoTime() + 1_500_000_000L;
+        for (int t = 0; t < 4; t++) {
+            Thread worker = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    try {
+                        if (!Tensors.multiply(a, b).equals(expectedProduct)) wrong.incrementAndGet();
+                        if (!Tensors.multiply(exact, exact).equals(expectedExact)) wrong.incrementAndGet();
+                        if (!a.rref().equals(expectedRref)) wrong.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if (errors.getAndIncrement() == 0) e.printStackTrace();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        int threads = 1;
+        while (System.nanoTime() < deadline) {
+            threads = threads % 4 + 1;
+            Tensors.setParallelism(threads);
+            Thread.sleep(1);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        check(errors.get() == 0, errors.get() + " parallel operation(s) failed while setParallelism was changing");
+        check(wrong.get() == 0, wrong.get() + " parallel result(s) differed from the reference while setParallelism was changing");
+    }
+}
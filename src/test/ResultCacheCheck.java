@@ -0,0 +1,154 @@
+package test;
+
+import tensor.*;
+import java.math.BigDecimal;
+import java.util.List;
+
+// ResultCache와 Matrix.fingerprint()의 회귀 검사: 기본값은 꺼짐, 지문이 같아도 내용이 다르면 저장된 결과를 쓰지 않음,
+// 행렬을 바꾸면(행/열 연산, getVectors()로 받은 행 리스트) 지문과 결과가 따라 바뀜, 반환값을 바꿔도 캐시는 그대로.
+// 실패가 있으면 종료 코드 1
+public class ResultCacheCheck {
+    private static int failures = 0;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            failures++;
+            System.out.println("FAIL: " + message);
+        }
+    }
+
+    private static Matrix matrix(String[][] values) {
+        Scalar[][] data = new Scalar[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            data[i] = new Scalar[values[i].length];
+            for (int j = 0; j < values[i].length; j++) {
+                data[i][j] = Factory.buildScalar(values[i][j]);
+            }
+        }
+        return Factory.buildMatrix(data);
+    }
+
+    // 같은 값으로 새로 만든 행렬 (지문을 처음부터 계산)
+    private static Matrix rebuilt(Matrix m, StorageType type) {
+        double[][] values = new double[m.rowCount()][m.colCount()];
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values[i].length; j++) {
+                values[i][j] = m.viewElement(i, j).getValue().doubleValue();
+            }
+        }
+        return Factory.buildMatrix(values, type);
+    }
+
+    public static void main(String[] args) {
+        check(ResultCache.getCapacity() == 0, "ResultCache should be disabled by default but capacity was " + ResultCache.getCapacity());
+        ResultCache.setCapacity(1L << 16);
+        ResultCache.clear();
+        try {
+            testDifferentContentsNeverShareResults();
+            testWritesThroughExposedRows();
+            testIncrementalFingerprint();
+            testReturnedResultsAreIsolated();
+            testCountersAndEviction();
+        } finally {
+            ResultCache.setCapacity(0);
+            ResultCache.clear();
+        }
+
+        System.out.println(failures == 0 ? "ResultCacheCheck: all checks passed" : "ResultCacheCheck: " + failures + " failure(s)");
+        if (failures > 0) System.exit(1);
+    }
+
+    // 이전 지문에서 충돌하던 두 행렬: 두 번째 행렬이 첫 번째 행렬의 행렬식/역행렬을 받으면 안 됨
+    private static void testDifferentContentsNeverShareResults() {
+        Matrix identity = matrix(new String[][]{{"1", "0"}, {"0", "1"}});
+        Matrix other = matrix(new String[][]{{"-623807274794057878.8", "0"}, {"0", "1"}});
+        identity.determinant();
+        identity.inverse();
+        check(other.determinant().getValue().compareTo(new BigDecimal("-623807274794057878.8")) == 0,
+                "determinant of " + other.toString().replace("\n", "") + " was " + other.determinant());
+        check(!other.inverse().isIdentity(), "inverse of a non-identity matrix was the identity");
+    }
+
+    // getVectors()로 받은 행 리스트로 바꾼 뒤에도 이전 결과를 돌려주지 않음
+    private static void testWritesThroughExposedRows() {
+        Matrix m = matrix(new String[][]{{"1", "2"}, {"3", "4"}});
+        List<Vector> rows = m.getVectors();
+        check(m.determinant().getValue().intValue() == -2, "determinant before the write");
+        long before = m.fingerprint();
+        rows.get(0).setElement(0, Factory.buildScalar("5"));
+        check(m.fingerprint() != before, "fingerprint did not change after a write through getVectors()");
+        check(m.determinant().getValue().intValue() == 14, "determinant after a write through getVectors() was " + m.determinant());
+        BigDecimal error = m.inverse().viewElement(0, 0).getValue().subtract(new BigDecimal("0.2857142857")).abs(); // 4 / 14
+        check(m.rref().isIdentity() && error.compareTo(new BigDecimal("1E-9")) < 0,
+                "inverse after a write through getVectors() was " + m.inverse());
+    }
+
+    // 행/열 연산 뒤의 지문은 같은 값으로 새로 만든 행렬의 지문과 같음
+    private static void testIncrementalFingerprint() {
+        for (StorageType type : new StorageType[]{StorageType.BIG_DECIMAL, StorageType.DOUBLE, StorageType.SPARSE}) {
+            Matrix m = Factory.buildRandomMatrix(6, 7, -9, 9, 5L, type);
+            Scalar three = Factory.buildScalar("3");
+            long initial = m.fingerprint();
+            m.swapRows(1, 4);
+            check(m.fingerprint() == rebuilt(m, type).fingerprint(), type + " fingerprint after swapRows");
+            check(m.fingerprint() != initial, type + " fingerprint unchanged after swapRows");
+            m.swapCols(0, 6);
+            check(m.fingerprint() == rebuilt(m, type).fingerprint(), type + " fingerprint after swapCols");
+            m.multiplyRow(2, three);
+            check(m.fingerprint() == rebuilt(m, type).fingerprint(), type + " fingerprint after multiplyRow");
+            m.multiplyCol(5, three);
+            check(m.fingerprint() == rebuilt(m, type).fingerprint(), type + " fingerprint after multiplyCol");
+            m.addScaledRow(0, 3, three);
+            check(m.fingerprint() == rebuilt(m, type).fingerprint(), type + " fingerprint after addScaledRow");
+            m.addScaledCol(6, 2, three);
+            check(m.fingerprint() == rebuilt(m, type).fingerprint(), type + " fingerprint after addScaledCol");
+            m.setElement(3, 3, Factory.buildScalar("0"));
+            check(m.fingerprint() == rebuilt(m, type).fingerprint(), type + " fingerprint after setElement");
+            m.add(m.clone());
+            check(m.fingerprint() == rebuilt(m, type).fingerprint(), type + " fingerprint after add");
+        }
+    }
+
+    // 반환값은 구체 행렬이고, 바꿔도 다음 호출 결과에는 영향이 없음
+    private static void testReturnedResultsAreIsolated() {
+        for (StorageType type : StorageType.values()) {
+            Matrix m = Factory.buildRandomMatrix(5, 5, -9, 9, 3L, type);
+            Matrix first = m.rref();
+            Matrix second = m.rref();
+            check(first != second && first.equals(second), type + " repeated rref should return equal copies");
+            check(first.getClass() == m.rref().getClass() && first.getClass().getSimpleName().endsWith("Impl"),
+                    type + " rref returned " + first.getClass().getSimpleName());
+            second.setElement(0, 0, Factory.buildScalar("42"));
+            check(m.rref().equals(first), type + " writing to a returned rref changed the cached result");
+            Scalar det = m.determinant();
+            det.add(Factory.buildScalar("1"));
+            check(!m.determinant().equals(det), type + " changing a returned determinant changed the cached result");
+            Matrix inverse = m.inverse();
+            inverse.multiplyRow(0, Factory.buildScalar("0"));
+            check(!m.inverse().equals(inverse), type + " writing to a returned inverse changed the cached result");
+        }
+    }
+
+    // 적중/실패 횟수와 용량 초과 시 제거 (무게 = 입력 요소 + 결과 요소)
+    private static void testCountersAndEviction() {
+        ResultCache.clear();
+        ResultCache.setCapacity(200);
+        Matrix m = Factory.buildRandomMatrix(5, 5, -9, 9, 1L);
+        m.rref();
+        m.rref();
+        check(ResultCache.getMissCount() == 1 && ResultCache.getHitCount() == 1,
+                "expected 1 miss and 1 hit but was " + ResultCache.getMissCount() + "/" + ResultCache.getHitCount());
+        for (long seed = 2; seed <= 5; seed++) {
+            Factory.buildRandomMatrix(5, 5, -9, 9, seed).rref();
+        }
+        check(ResultCache.getEvictionCount() == 1 && ResultCache.size() == 4 && ResultCache.getWeight() == 200,
+                "expected 1 eviction and 4 entries but was " + ResultCache.getEvictionCount() + "/" + ResultCache.size());
+        Factory.buildRandomMatrix(11, 11, -9, 9, 9L).rref();
+        check(ResultCache.size() == 4, "an entry heavier than the capacity should not be stored");
+        ResultCache.setCapacity(0);
+        check(ResultCache.size() == 0 && ResultCache.getWeight() == 0, "setCapacity(0) should empty the cache");
+        m.rref();
+        check(ResultCache.size() == 0, "a disabled cache should not store results");
+        ResultCache.setCapacity(1L << 16);
+    }
+}
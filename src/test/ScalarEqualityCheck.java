@@ -0,0 +1,76 @@
+package test;
+
+import tensor.*;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+
+// BigDecimal 스칼라와 유리수 스칼라 사이의 equals/hashCode/compareTo가 양방향으로 일치하는지,
+// 저장소가 섞인 Matrix.equals와 해시 컬렉션에서도 같은 결과인지 검사
+// 실패가 있으면 종료 코드 1
+public class ScalarEqualityCheck {
+    private static int failures = 0;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            failures++;
+            System.out.println("FAIL: " + message);
+        }
+    }
+
+    private static Scalar rational(long numerator, long denominator) {
+        return Factory.buildRationalScalar(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    public static void main(String[] args) {
+        testScalars();
+        testMatrices();
+
+        System.out.println(failures == 0 ? "ScalarEqualityCheck: all checks passed" : "ScalarEqualityCheck: " + failures + " failure(s)");
+        if (failures > 0) System.exit(1);
+    }
+
+    // (유리수, 그 getValue()로 만든 BigDecimal 스칼라) 쌍: 유한소수이면 같고, 아니면 어느 쪽에서 비교해도 다름
+    private static void testScalars() {
+        long[][] fractions = {{1, 3}, {-2, 7}, {1, 4}, {5, 1}, {-3, 8}, {0, 1}};
+        for (long[] f : fractions) {
+            Scalar r = rational(f[0], f[1]);
+            Scalar d = Factory.buildScalar(r.getValue());
+            boolean terminating = f[0] == 0 || terminates(f[1]);
+            String name = f[0] + "/" + f[1];
+            check(r.equals(d) == d.equals(r), name + " equals is not symmetric");
+            check(r.equals(d) == terminating, name + " equals should be " + terminating);
+            check(!r.equals(d) || r.hashCode() == d.hashCode(), name + " equal scalars have different hash codes");
+            check((r.compareTo(d) == 0) == r.equals(d) && (d.compareTo(r) == 0) == d.equals(r), name + " compareTo disagrees with equals");
+            check(Integer.signum(r.compareTo(d)) == -Integer.signum(d.compareTo(r)), name + " compareTo is not antisymmetric");
+
+            Set<Scalar> set = new HashSet<>();
+            set.add(d);
+            check(set.contains(r) == terminating, name + " HashSet lookup by rational should be " + terminating);
+            set.clear();
+            set.add(r);
+            check(set.contains(d) == terminating, name + " HashSet lookup by BigDecimal should be " + terminating);
+        }
+        check(Factory.buildScalar("0.250").equals(rational(1, 4)) && Factory.buildScalar("0.250").hashCode() == rational(1, 4).hashCode(),
+                "0.250 should equal 1/4 with the same hash code");
+    }
+
+    private static boolean terminates(long denominator) {
+        long d = Math.abs(denominator);
+        while (d % 2 == 0) d /= 2;
+        while (d % 5 == 0) d /= 5;
+        return d == 1;
+    }
+
+    // 저장소가 다른 행렬도 요소 비교가 양방향으로 같음
+    private static void testMatrices() {
+        Matrix third = Factory.buildMatrix(new Scalar[][]{{rational(1, 3), rational(1, 4)}});
+        Matrix rounded = Factory.buildMatrix(new Scalar[][]{{Factory.buildScalar(rational(1, 3).getValue()), Factory.buildScalar("0.25")}});
+        check(!third.equals(rounded) && !rounded.equals(third), "a matrix holding 1/3 should not equal its rounded decimal copy");
+
+        Matrix quarter = Factory.buildMatrix(new Scalar[][]{{rational(1, 4), rational(-3, 8)}});
+        Matrix decimal = Factory.buildMatrix(new Scalar[][]{{Factory.buildScalar("0.25"), Factory.buildScalar("-0.375")}});
+        check(quarter.equals(decimal) && decimal.equals(quarter), "terminating rational and decimal matrices should be equal both ways");
+        check(quarter.hashCode() == decimal.hashCode(), "equal rational and decimal matrices have different hash codes");
+    }
+}
@@ -0,0 +1,98 @@
+package test;
+
+import tensor.*;
+import java.util.List;
+
+// subMatrix/minor/getRow/getCol/hstack/vstack/concat 결과가 복사본처럼 동작하는지 검사:
+// 원본을 바꿔도(setElement, 행/열 연산, getVectors()로 받은 행 리스트) 이미 만든 결과는 그대로이고, 결과를 바꿔도 원본은 그대로여야 한다.
+// 실패가 있으면 종료 코드 1
+public class ViewIsolationCheck {
+    private static int failures = 0;
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            failures++;
+            System.out.println("FAIL: " + message);
+        }
+    }
+
+    private static Matrix sample() {
+        return Factory.buildMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 10}});
+    }
+
+    public static void main(String[] args) {
+        testSourceWritesAreInvisible();
+        testViewWritesAreInvisible();
+        testExposedRowListIsNotShared();
+        testConcatIsolation();
+
+        System.out.println(failures == 0 ? "ViewIsolationCheck: all checks passed" : "ViewIsolationCheck: " + failures + " failure(s)");
+        if (failures > 0) System.exit(1);
+    }
+
+    // 결과를 만든 뒤 원본을 바꿔도 결과는 만들 때의 값
+    private static void testSourceWritesAreInvisible() {
+        Matrix m = sample();
+        Matrix sub = m.subMatrix(0, 1, 0, 1);
+        Matrix minor = m.minor(2, 2);
+        Vector row = m.getRow(0);
+        Vector col = m.getCol(0);
+        Matrix expectedSub = Factory.buildMatrix(new double[][]{{1, 2}, {4, 5}});
+
+        m.setElement(0, 0, Factory.buildScalar("99"));
+        m.swapRows(0, 1);
+        m.multiplyCol(1, Factory.buildScalar("3"));
+        m.addScaledRow(1, 2, Factory.buildScalar("-1"));
+
+        check(sub.equals(expectedSub), "subMatrix changed after writes to the source: " + sub);
+        check(minor.equals(expectedSub), "minor changed after writes to the source: " + minor);
+        check(row.equals(Factory.buildVector(new double[]{1, 2, 3})), "getRow changed after writes to the source: " + row);
+        check(col.equals(Factory.buildVector(new double[]{1, 4, 7})), "getCol changed after writes to the source: " + col);
+    }
+
+    // 결과를 바꿔도 원본은 그대로
+    private static void testViewWritesAreInvisible() {
+        Matrix m = sample();
+        Matrix sub = m.subMatrix(1, 2, 1, 2);
+        sub.setElement(0, 0, Factory.buildScalar("-1"));
+        sub.swapRows(0, 1);
+        Vector row = m.getRow(2);
+        row.setElement(0, Factory.buildScalar("-7"));
+        m.minor(0, 0).multiplyRow(0, Factory.buildScalar("0"));
+        check(m.equals(sample()), "writes through views changed the source: " + m);
+    }
+
+    // getVectors()로 받은 행 리스트로 원본을 바꾼 경우 (그 전후에 만든 결과 모두)
+    private static void testExposedRowListIsNotShared() {
+        Matrix m = sample();
+        List<Vector> rows = m.getVectors();
+        Matrix sub = m.subMatrix(0, 1, 0, 1);
+        Vector row = m.getRow(0);
+        Matrix minor = m.minor(2, 2);
+        rows.get(0).setElement(0, Factory.buildScalar("99"));
+        check(m.viewElement(0, 0).getValue().intValue() == 99, "getVectors() should still write through to the matrix");
+        check(sub.viewElement(0, 0).getValue().intValue() == 1, "subMatrix saw a write made through getVectors(): " + sub);
+        check(row.viewElement(0).getValue().intValue() == 1, "getRow saw a write made through getVectors(): " + row);
+        check(minor.viewElement(0, 0).getValue().intValue() == 1, "minor saw a write made through getVectors(): " + minor);
+
+        Matrix later = m.subMatrix(0, 0, 0, 2);
+        rows.get(0).setElement(1, Factory.buildScalar("77"));
+        check(later.viewElement(0, 0).getValue().intValue() == 99 && later.viewElement(0, 1).getValue().intValue() == 2,
+                "subMatrix taken after getVectors() saw a later write: " + later);
+    }
+
+    private static void testConcatIsolation() {
+        Matrix a = sample();
+        Matrix b = Factory.buildMatrix(new double[][]{{0, 0, 1}});
+        List<Vector> rows = b.getVectors();
+        Matrix stacked = a.vstack(b);
+        Matrix joined = Tensors.concat(1, a, a);
+        rows.get(0).setElement(0, Factory.buildScalar("5"));
+        a.setElement(2, 2, Factory.buildScalar("0"));
+        check(stacked.viewElement(3, 0).getValue().signum() == 0, "vstack saw a write made through getVectors(): " + stacked);
+        check(stacked.viewElement(2, 2).getValue().intValue() == 10, "vstack saw a write to its block: " + stacked);
+        check(joined.viewElement(2, 5).getValue().intValue() == 10, "concat saw a write to its block: " + joined);
+        stacked.setElement(0, 0, Factory.buildScalar("-3"));
+        check(a.viewElement(0, 0).getValue().intValue() == 1, "writing to vstack result changed its block");
+    }
+}